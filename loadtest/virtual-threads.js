@@ -0,0 +1,49 @@
+// 가상 스레드 모드와 플랫폼 스레드 모드의 처리량 비교용 k6 스크립트
+//
+// 같은 조건에서 두 번 실행하고 http_reqs(처리량)와 http_req_duration(p95)을 비교한다.
+//   1) 플랫폼 스레드: spring.threads.virtual.enabled=false (server.tomcat.threads.max 기본 200)
+//   2) 가상 스레드:   spring.threads.virtual.enabled=true
+//
+// 실행 예시
+//   k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<access token> -e DIARY_ID=1 loadtest/virtual-threads.js
+//
+// 블로킹 I/O 가 섞인 조회 API(JDBC, Redis)를 동시에 호출하며, VUS 는 톰캣 최대 스레드 수보다 크게 잡는다.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const DIARY_ID = __ENV.DIARY_ID || '1';
+
+export const options = {
+    scenarios: {
+        blocking_io: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: Number(__ENV.VUS || 400) },
+                { duration: '2m', target: Number(__ENV.VUS || 400) },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const params = {
+    headers: { Authorization: `Bearer ${TOKEN}` },
+};
+
+export default function () {
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/diary/home`, null, params],
+        ['GET', `${BASE_URL}/diary/${DIARY_ID}`, null, params],
+        ['GET', `${BASE_URL}/papers/map`, null, params],
+        ['GET', `${BASE_URL}/recommend`, null, params],
+    ]);
+
+    responses.forEach((res) => check(res, { 'status is 200': (r) => r.status === 200 }));
+}
@@ -0,0 +1,105 @@
+package com.elice.ustory.domain.paper.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * visitedAt / createdAt 날짜 직렬화 측정
+ *
+ * 페이퍼 목록 한 페이지(20건)의 날짜를 직렬화하는 비용을 비교한다.
+ * distinct* 는 캐시 크기보다 많은 서로 다른 날짜를 순회하여 캐시를 거의 쓰지 못하는 경우를 측정하고,
+ * legacy* 는 이전 LocalDateConverter 구현을 그대로 옮긴 것으로 비교 기준으로만 사용한다.
+ */
+@State(Scope.Thread)
+public class LocalDateConverterBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DISTINCT_DATE_COUNT = 4096;
+
+    private final LocalDateConverter converter = new LocalDateConverter();
+
+    private JsonGenerator generator;
+    private LocalDate[] page;
+    private LocalDate[] distinctDates;
+    private int distinctIndex;
+
+    @Setup
+    public void setUp() {
+        // 한 페이지 안에서 방문 날짜가 일부 겹치는 일반적인 목록
+        LocalDate base = LocalDate.of(2024, 5, 23);
+        page = new LocalDate[PAGE_SIZE];
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page[i] = base.minusDays(i / 2);
+        }
+
+        distinctDates = new LocalDate[DISTINCT_DATE_COUNT];
+        for (int i = 0; i < DISTINCT_DATE_COUNT; i++) {
+            distinctDates[i] = base.minusDays(i);
+        }
+    }
+
+    // 생성기는 쓴 값의 개수를 int 로 세므로 반복(iteration)마다 새로 만든다.
+    @Setup(Level.Iteration)
+    public void openGenerator() throws IOException {
+        generator = new JsonFactory().createGenerator(Writer.nullWriter());
+        generator.writeStartArray();
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeGenerator() throws IOException {
+        generator.close();
+    }
+
+    @Benchmark
+    public void serializePage() throws IOException {
+        for (LocalDate date : page) {
+            converter.serialize(date, generator, null);
+        }
+    }
+
+    @Benchmark
+    public void legacySerializePage() throws IOException {
+        for (LocalDate date : page) {
+            legacySerialize(date, generator);
+        }
+    }
+
+    @Benchmark
+    public void serializeDistinctPage() throws IOException {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            converter.serialize(nextDistinctDate(), generator, null);
+        }
+    }
+
+    @Benchmark
+    public void legacySerializeDistinctPage() throws IOException {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            legacySerialize(nextDistinctDate(), generator);
+        }
+    }
+
+    private LocalDate nextDistinctDate() {
+        distinctIndex = (distinctIndex + 1) & (DISTINCT_DATE_COUNT - 1);
+        return distinctDates[distinctIndex];
+    }
+
+    private static void legacySerialize(LocalDate value, JsonGenerator gen) throws IOException {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+        String formattedDate = value.format(formatter);
+        String dayOfWeek = value.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN);
+        gen.writeString(formattedDate + " (" + dayOfWeek + ")");
+    }
+}
@@ -0,0 +1,88 @@
+package com.elice.ustory.domain.paper.dto;
+
+import com.elice.ustory.domain.address.Address;
+import com.elice.ustory.domain.diary.entity.Color;
+import com.elice.ustory.domain.diary.entity.Diary;
+import com.elice.ustory.domain.diary.entity.DiaryCategory;
+import com.elice.ustory.domain.image.Image;
+import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.user.entity.Users;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 페이퍼 상세/목록 응답 JSON 직렬화 측정
+ *
+ * PaperResponse 는 visitedAt 에 LocalDateConverter 를 사용하고, 목록은 다이어리 페이지 크기(20건) 기준으로 측정한다.
+ */
+@State(Scope.Benchmark)
+public class PaperResponseSerializationBenchmark {
+
+    private static final int IMAGE_COUNT = 10;
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectWriter writer;
+    private PaperResponse paperResponse;
+    private List<PaperListResponse> paperListResponses;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper().writer();
+
+        Users writerUser = Users.addUserBuilder()
+                .email("benchmark@ustory.com")
+                .loginType(Users.LoginType.BASIC)
+                .name("유스토리")
+                .nickname("유스토리")
+                .build();
+        writerUser.setId(1L);
+
+        Diary diary = new Diary("껌냥이들", "https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/diary/cover.png",
+                DiaryCategory.FRIEND, "벤치마크용 다이어리", Color.BLUE);
+
+        Paper paper = Paper.createBuilder()
+                .title("성수동 카페 투어")
+                .thumbnailImageUrl("https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/paper/thumbnail.jpg")
+                .visitedAt(LocalDate.of(2024, 5, 23))
+                .build();
+        paper.addWriter(writerUser);
+        paper.addDiary(diary);
+        paper.setAddress(Address.createBuilder()
+                .city("서울특별시 마포구 독막로3길 21")
+                .store("우규")
+                .coordinateX(37.5494)
+                .coordinateY(126.9169)
+                .build());
+        for (int sequence = 1; sequence <= IMAGE_COUNT; sequence++) {
+            new Image("https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/paper/image" + sequence + ".png", sequence)
+                    .setPaper(paper);
+        }
+        paper.unLock();
+
+        paperResponse = new PaperResponse(paper, true, 1L);
+
+        paperListResponses = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            paperListResponses.add(new PaperListResponse(paper));
+        }
+    }
+
+    @Benchmark
+    public String serializePaperResponse() throws JsonProcessingException {
+        return writer.writeValueAsString(paperResponse);
+    }
+
+    @Benchmark
+    public String serializePaperListResponses() throws JsonProcessingException {
+        return writer.writeValueAsString(paperListResponses);
+    }
+}
@@ -0,0 +1,53 @@
+package com.elice.ustory.global.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+
+/**
+ * JWT 발급과 검증 비용 측정
+ *
+ * 요청마다 JwtInterceptor 와 JwtAuthorizationArgumentResolver 가 validateToken, getUserPk 를 호출하므로
+ * 두 메서드의 비용이 인증이 필요한 모든 API 에 더해진다.
+ */
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SALT = "ustory-benchmark-salt-ustory-benchmark-salt-0123456789";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtTokenProvider = new JwtTokenProvider();
+
+        Field salt = JwtTokenProvider.class.getDeclaredField("salt");
+        salt.setAccessible(true);
+        salt.set(jwtTokenProvider, SALT);
+        jwtTokenProvider.init();
+
+        // 토큰 파싱만 측정하므로 Redis, DB 를 사용하는 의존성은 주입하지 않는다.
+        jwtUtil = new JwtUtil(jwtTokenProvider, null, null, null, null, null);
+        accessToken = jwtTokenProvider.createAccessToken(1L);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(1L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Long getUserPk() {
+        return jwtUtil.getUserPk(accessToken);
+    }
+}
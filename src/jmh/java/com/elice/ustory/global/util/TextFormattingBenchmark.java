@@ -0,0 +1,50 @@
+package com.elice.ustory.global.util;
+
+import com.elice.ustory.domain.notice.dto.NoticeRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 소셜 회원가입 닉네임 가공과 알림 메시지 생성 측정
+ *
+ * 중복 조회(checkDuplicateNickname)는 DB 비용이므로 제외하고 문자열 가공 부분만 측정한다.
+ * 입력은 상수로 접히지 않도록 @Setup 에서 채우고, 결과는 Blackhole 로 넘긴다.
+ */
+@State(Scope.Benchmark)
+public class TextFormattingBenchmark {
+
+    private String socialNickname;
+    private String accepterNickname;
+    private NicknameGenerator nicknameGenerator;
+    private NoticeRequest friendRequestNotice;
+    private NoticeRequest friendAcceptNotice;
+
+    @Setup
+    public void setUp() {
+        socialNickname = "🌸김유스토리_Official🌸";
+        accepterNickname = "유스토리";
+        nicknameGenerator = new NicknameGenerator(null);
+        friendRequestNotice = NoticeRequest.builder().senderId(1L).responseId(2L).messageType(1).build();
+        friendAcceptNotice = NoticeRequest.builder().senderId(1L).responseId(2L).messageType(3).build();
+    }
+
+    @Benchmark
+    public void formatNicknameWithoutLookup(Blackhole blackhole) {
+        String normalized = nicknameGenerator.normalizeNicknameForOAuth(socialNickname);
+        String trimmed = nicknameGenerator.trimNicknameForOAuth(normalized);
+        blackhole.consume(nicknameGenerator.trimNicknameForPostfix(trimmed));
+    }
+
+    @Benchmark
+    public void generateNoticeMessage(Blackhole blackhole) {
+        blackhole.consume(NoticeUtils.generateMessage(friendRequestNotice));
+    }
+
+    @Benchmark
+    public void generateFriendAcceptMessage(Blackhole blackhole) {
+        blackhole.consume(NoticeUtils.generateMessage(friendAcceptNotice, accepterNickname));
+    }
+}
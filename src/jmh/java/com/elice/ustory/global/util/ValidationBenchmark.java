@@ -0,0 +1,65 @@
+package com.elice.ustory.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.stream.Stream;
+
+/**
+ * 엔티티 검증 로직 측정
+ *
+ * legacy* 벤치마크는 ValidationUtils 도입 전 Paper, Image, Address 의 구현을 그대로 옮긴 것으로 비교 기준으로만 사용한다.
+ * 입력을 final 필드에 두면 JIT 가 상수로 접어 버리므로 @Setup 에서 채우고, 결과는 Blackhole 로 넘긴다.
+ */
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private static final String LEGACY_TITLE_REGEX = "^[가-힣a-zA-Z0-9\\s!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?~`\\u3131-\\u3163]+$";
+
+    private String title;
+    private String imageUrl;
+    private double coordinate;
+
+    @Setup
+    public void setUp() {
+        title = "성수동 카페 투어 2탄!";
+        imageUrl = "https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/paper/2024/05/23/thumbnail.jpeg";
+        coordinate = 37.544581958777856;
+    }
+
+    @Benchmark
+    public void titlePattern(Blackhole blackhole) {
+        blackhole.consume(ValidationUtils.matches(ValidationUtils.PAPER_TITLE_PATTERN, title));
+    }
+
+    @Benchmark
+    public void legacyTitlePattern(Blackhole blackhole) {
+        blackhole.consume(title.matches(LEGACY_TITLE_REGEX));
+    }
+
+    @Benchmark
+    public void imageUrl(Blackhole blackhole) {
+        blackhole.consume(ValidationUtils.isHttps(imageUrl) && ValidationUtils.hasImageSuffix(imageUrl));
+    }
+
+    @Benchmark
+    public void legacyImageUrl(Blackhole blackhole) {
+        String[] suffixes = {".jpg", ".jpeg", ".png", ".gif"};
+        blackhole.consume(imageUrl.startsWith("https://") && Stream.of(suffixes).anyMatch(imageUrl::endsWith));
+    }
+
+    @Benchmark
+    public void coordinateDecimalPlaces(Blackhole blackhole) {
+        blackhole.consume(ValidationUtils.hasAtMostDecimalPlaces(coordinate, 15));
+    }
+
+    @Benchmark
+    public void legacyCoordinateDecimalPlaces(Blackhole blackhole) {
+        String coordinateStr = Double.toString(coordinate);
+        int indexOfDecimal = coordinateStr.indexOf('.');
+        blackhole.consume(indexOfDecimal == -1 || coordinateStr.length() - indexOfDecimal - 1 <= 15);
+    }
+}
@@ -1,15 +1,22 @@
 package com.elice.ustory.domain.address;
 
 import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.place.entity.Place;
 import com.elice.ustory.domain.recommand.dto.RecommendCountDTO;
 import com.elice.ustory.global.entity.BaseEntity;
+import com.elice.ustory.global.entity.TimeOrderedId;
 import com.elice.ustory.global.exception.ErrorCode;
 import com.elice.ustory.global.exception.model.ValidationException;
+import com.elice.ustory.global.util.GeoHashUtils;
+import com.elice.ustory.global.util.ValidationUtils;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Pattern;
@@ -21,15 +28,16 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "address")
+@Table(name = "address", indexes = @Index(name = "IDX_ADDRESS_GEOHASH", columnList = "geohash"))
 public class Address extends BaseEntity {
 
     private static final String PARAMETER_TOO_LONG = "%s: 해당 파라미터의 길이가 너무 깁니다.";
     private static final String WRONG_COORDINATE_X = "설정한 주소의 X좌표의 값이 잘못되었습니다.";
     private static final String WRONG_COORDINATE_Y = "설정한 주소의 Y좌표의 값이 잘못되었습니다.";
+    private static final int MAX_COORDINATE_DECIMAL_PLACES = 15;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @OneToOne(mappedBy = "address")
@@ -52,6 +60,15 @@ public class Address extends BaseEntity {
     @Column(name = "coordinate_y", nullable = false, columnDefinition = "decimal(18,15)")
     private Double coordinateY;
 
+    // 주변 검색용. 좌표가 바뀔 때마다 다시 계산한다.
+    @Column(name = "geohash", columnDefinition = "varchar(12)")
+    private String geohash;
+
+    // 상호명과 좌표로 묶은 장소. 주소를 만들거나 수정한 뒤 PlaceService 가 연결한다.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "place_id", foreignKey = @ForeignKey(name = "FK_PLACE_ID"))
+    private Place place;
+
     /**
      * Address 객체 생성자
      *
@@ -66,6 +83,7 @@ public class Address extends BaseEntity {
         this.store = validateAddressSize(store, 80, "상호명");
         this.coordinateX = validateCoordinateX(coordinateX);
         this.coordinateY = validateCoordinateY(coordinateY);
+        refreshGeohash();
     }
 
     public Address(RecommendCountDTO recommendCountDTO) {
@@ -73,6 +91,7 @@ public class Address extends BaseEntity {
         this.store = recommendCountDTO.getStore();
         this.coordinateX = recommendCountDTO.getCoordinateX();
         this.coordinateY = recommendCountDTO.getCoordinateY();
+        refreshGeohash();
     }
 
     /**
@@ -89,10 +108,27 @@ public class Address extends BaseEntity {
         this.store = validateAddressSize(store, 80, "상호명");
         this.coordinateX = validateCoordinateX(coordinateX);
         this.coordinateY = validateCoordinateY(coordinateY);
+        refreshGeohash();
 
         return this;
     }
 
+    /**
+     * 좌표로 geohash 를 다시 계산한다. (X좌표: 위도, Y좌표: 경도)
+     */
+    public void refreshGeohash() {
+        this.geohash = GeoHashUtils.encode(coordinateX, coordinateY, GeoHashUtils.STORED_PRECISION);
+    }
+
+    /**
+     * 장소를 지정한다.
+     *
+     * @param place Place 객체
+     */
+    public void assignPlace(Place place) {
+        this.place = place;
+    }
+
     /**
      * Paper 객체를 지정한다.
      *
@@ -139,13 +175,8 @@ public class Address extends BaseEntity {
     }
 
     private void validateCoordinate(Double coordinate) {
-        String coordinateStr = coordinate.toString();
-        int indexOfDecimal = coordinateStr.indexOf('.');
-        if (indexOfDecimal != -1) {
-            int decimalPlaces = coordinateStr.length() - indexOfDecimal - 1;
-            if (decimalPlaces > 15) {
-                throw new ValidationException("소수점 자릿수가 15자리를 초과합니다: ", ErrorCode.VALIDATION_PARAMETER_EXCEPTION);
-            }
+        if (!ValidationUtils.hasAtMostDecimalPlaces(coordinate, MAX_COORDINATE_DECIMAL_PLACES)) {
+            throw new ValidationException("소수점 자릿수가 15자리를 초과합니다: ", ErrorCode.VALIDATION_PARAMETER_EXCEPTION);
         }
     }
 
@@ -1,13 +1,15 @@
 package com.elice.ustory.domain.address;
 
 import com.elice.ustory.domain.recommand.dto.RecommendCountDTO;
-import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface AddressQueryDslRepository {
 
+    /** 같은 장소(Place)를 가리키는 주소끼리 묶어 주소 개수가 많은 순으로 불러온다. */
     List<RecommendCountDTO> countEqualAddress();
-    List<RecommendCountDTO> countEqualAddress(Pageable pageable, LocalDateTime requestTime);
+
+    /** requestTime 시점까지의 주소를 장소별로 세어, 주소 개수가 많은 순(같으면 장소 id 순)으로 장소 id 만 불러온다. */
+    List<Long> findPlaceIdsOrderByAddressCount(LocalDateTime requestTime);
 }
@@ -4,13 +4,13 @@ import com.elice.ustory.domain.recommand.dto.RecommendCountDTO;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.elice.ustory.domain.address.QAddress.address;
+import static com.elice.ustory.domain.place.entity.QPlace.place;
 
 @Repository
 @RequiredArgsConstructor
@@ -23,35 +23,30 @@ public class AddressQueryDslRepositoryImpl implements AddressQueryDslRepository
 
         return jpaQueryFactory
                 .select(Projections.constructor(RecommendCountDTO.class,
-                        address.store,
-                        address.city,
-                        address.coordinateX,
-                        address.coordinateY,
+                        place.id,
+                        place.store,
+                        place.city,
+                        place.coordinateX,
+                        place.coordinateY,
                         address.id.count()
                 ))
                 .from(address)
-                .groupBy(address.store, address.city, address.coordinateX, address.coordinateY)
+                .join(address.place, place)
+                .groupBy(place.id)
                 .orderBy(address.id.count().desc())
                 .fetch();
     }
 
     @Override
-    public List<RecommendCountDTO> countEqualAddress(Pageable pageable, LocalDateTime requestTime) {
+    public List<Long> findPlaceIdsOrderByAddressCount(LocalDateTime requestTime) {
 
         return jpaQueryFactory
-                .select(Projections.constructor(RecommendCountDTO.class,
-                        address.store,
-                        address.city,
-                        address.coordinateX,
-                        address.coordinateY,
-                        address.id.count()
-                ))
+                .select(address.place.id)
                 .from(address)
-                .where(address.createdAt.loe(requestTime))
-                .groupBy(address.store, address.city, address.coordinateX, address.coordinateY)
-                .orderBy(address.id.count().desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .where(address.place.isNotNull(), address.createdAt.loe(requestTime))
+                .groupBy(address.place.id)
+                // 개수가 같은 장소끼리도 순서가 정해져야 다시 만들 때마다 순위가 같다.
+                .orderBy(address.id.count().desc(), address.place.id.asc())
                 .fetch();
     }
 
@@ -1,5 +1,6 @@
 package com.elice.ustory.domain.address;
 
+import com.elice.ustory.domain.place.entity.Place;
 import com.elice.ustory.domain.recommand.dto.RecommendCountDTO;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,15 +11,25 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class AddressRecommendDTO {
 
+    private Long placeId;
     private String store;
     private String city;
     private Double coordinateX;
     private Double coordinateY;
 
     public AddressRecommendDTO(RecommendCountDTO recommendCountDTO) {
+        this.placeId = recommendCountDTO.getPlaceId();
         this.store = recommendCountDTO.getStore();
         this.city = recommendCountDTO.getCity();
         this.coordinateX = recommendCountDTO.getCoordinateX();
         this.coordinateY = recommendCountDTO.getCoordinateY();
     }
+
+    public AddressRecommendDTO(Place place) {
+        this.placeId = place.getId();
+        this.store = place.getStore();
+        this.city = place.getCity();
+        this.coordinateX = place.getCoordinateX();
+        this.coordinateY = place.getCoordinateY();
+    }
 }
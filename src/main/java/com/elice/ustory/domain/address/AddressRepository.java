@@ -3,6 +3,11 @@ package com.elice.ustory.domain.address;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface AddressRepository extends JpaRepository<Address, Long>, AddressQueryDslRepository {
+
+    /** place 컬럼이 추가되기 전에 저장되어 장소가 연결되지 않은 주소를 id 가 afterId 보다 큰 것부터 id 순으로 불러온다. */
+    List<Address> findTop500ByPlaceIsNullAndIdGreaterThanOrderByIdAsc(Long afterId);
 }
@@ -2,16 +2,31 @@ package com.elice.ustory.domain.address;
 
 import com.elice.ustory.domain.paper.entity.Paper;
 import com.elice.ustory.global.exception.model.NotFoundException;
+import com.elice.ustory.global.util.GeoHashUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AddressService {
 
     private static final String NOT_FOUND_ADDRESS_MESSAGE = "%d: 해당하는 주소가 존재하지 않습니다.";
 
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    private static final String FIND_MISSING_GEOHASH_QUERY = "SELECT id, coordinate_x, coordinate_y FROM address " +
+            "WHERE geohash IS NULL AND id > ? ORDER BY id LIMIT ?";
+    private static final String UPDATE_GEOHASH_QUERY = "UPDATE address SET geohash = ? WHERE id = ? AND geohash IS NULL";
+
     private final AddressRepository addressRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     public Address create(Address address, Paper paper) {
         address.setPaper(paper);
@@ -33,4 +48,38 @@ public class AddressService {
         return savedAddress;
     }
 
+    /**
+     * geohash 컬럼이 추가되기 전의 주소를 채운다. 이미 채워진 행은 건드리지 않으므로 매 기동 시 실행해도 된다.
+     * 엔티티를 불러오지 않고 (id, 좌표) 만 id 순으로 500개씩 읽어, 묶음마다 UPDATE 한 번의 JDBC 배치로 보낸다.
+     * 묶음마다 따로 커밋되므로(auto-commit) 행 잠금이 전체 작업 동안 유지되지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillGeohash() {
+        int updated = 0;
+        long lastId = 0;
+
+        List<Object[]> rows;
+        while (!(rows = findMissingGeohash(lastId)).isEmpty()) {
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                long id = (Long) row[0];
+                updates.add(new Object[]{GeoHashUtils.encode((Double) row[1], (Double) row[2], GeoHashUtils.STORED_PRECISION), id});
+                lastId = id;
+            }
+
+            jdbcTemplate.batchUpdate(UPDATE_GEOHASH_QUERY, updates);
+            updated += updates.size();
+        }
+
+        if (updated > 0) {
+            log.info("address.geohash 채움: {}건", updated);
+        }
+    }
+
+    private List<Object[]> findMissingGeohash(long afterId) {
+        return jdbcTemplate.query(FIND_MISSING_GEOHASH_QUERY,
+                (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getDouble("coordinate_x"), rs.getDouble("coordinate_y")},
+                afterId, BACKFILL_BATCH_SIZE);
+    }
+
 }
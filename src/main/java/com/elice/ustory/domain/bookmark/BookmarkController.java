@@ -4,6 +4,7 @@ import com.elice.ustory.domain.bookmark.dto.BookmarkListResponse;
 import com.elice.ustory.domain.bookmark.dto.BookmarkResponse;
 import com.elice.ustory.domain.paper.entity.Paper;
 import com.elice.ustory.global.exception.dto.ErrorResponse;
+import com.elice.ustory.global.jwt.AuthenticatedUser;
 import com.elice.ustory.global.jwt.JwtAuthorization;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -46,9 +47,9 @@ public class BookmarkController {
     })
     @PostMapping("/{paperId}/bookmark")
     public ResponseEntity<Void> saveBookmark(@PathVariable Long paperId,
-                                             @JwtAuthorization Long userId) {
+                                             @JwtAuthorization AuthenticatedUser authenticatedUser) {
 
-        bookmarkService.saveBookmark(userId, paperId);
+        bookmarkService.saveBookmark(authenticatedUser, paperId);
 
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
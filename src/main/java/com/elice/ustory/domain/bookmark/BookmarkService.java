@@ -5,12 +5,14 @@ import com.elice.ustory.domain.bookmark.repository.BookmarkRepository;
 import com.elice.ustory.domain.paper.entity.Paper;
 import com.elice.ustory.domain.paper.repository.PaperRepository;
 import com.elice.ustory.domain.user.entity.Users;
-import com.elice.ustory.domain.user.repository.UserRepository;
+import com.elice.ustory.domain.user.service.UserStatsService;
 import com.elice.ustory.global.exception.model.ConflictException;
 import com.elice.ustory.global.exception.model.NotFoundException;
+import com.elice.ustory.global.jwt.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -19,19 +21,19 @@ import java.util.List;
 public class BookmarkService {
 
     private static final String NOT_FOUND_PAPER_MESSAGE = "%d: 해당하는 페이퍼가 존재하지 않습니다.";
-    private static final String NOT_FOUND_USER_MESSAGE = "%d: 해당하는 사용자가 존재하지 않습니다.";
     private static final String NOT_FOUND_BOOKMARK_MESSAGE = "해당하는 북마크가 존재하지 않습니다.";
     private static final String CONFLICT_BOOKMARK_MESSAGE = "이미 북마크로 지정되어 있습니다.";
 
     private final BookmarkRepository bookmarkRepository;
-    private final UserRepository userRepository;
     private final PaperRepository paperRepository;
+    private final UserStatsService userStatsService;
 
     /** 북마크 저장 */
-    public Bookmark saveBookmark(Long userId, Long paperId) {
+    @Transactional
+    public Bookmark saveBookmark(AuthenticatedUser authenticatedUser, Long paperId) {
 
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_USER_MESSAGE, userId)));
+        Long userId = authenticatedUser.getId();
+        Users user = authenticatedUser.getUser();
 
         Paper paper = paperRepository.findById(paperId)
                 .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_PAPER_MESSAGE, paperId)));
@@ -40,8 +42,9 @@ public class BookmarkService {
             throw new ConflictException(CONFLICT_BOOKMARK_MESSAGE);
         }
 
-        Bookmark bookmark = new Bookmark(user, paper);
-        return bookmarkRepository.save(bookmark);
+        Bookmark bookmark = bookmarkRepository.save(new Bookmark(user, paper));
+        userStatsService.changeBookmarkCount(userId, 1);
+        return bookmark;
     }
 
     /** 북마크 체크한 모든 paper 불러오기 */
@@ -58,10 +61,12 @@ public class BookmarkService {
     }
 
     /** 북마크 삭제 메서드 */
+    @Transactional
     public void deleteBookmark(Long userId, Long paperId) {
         Bookmark bookmark = bookmarkRepository.findByUserIdAndPaperId(userId, paperId)
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_BOOKMARK_MESSAGE));
 
         bookmarkRepository.delete(bookmark);
+        userStatsService.changeBookmarkCount(userId, -1);
     }
 }
@@ -3,6 +3,7 @@ package com.elice.ustory.domain.comment.entity;
 import com.elice.ustory.domain.paper.entity.Paper;
 import com.elice.ustory.domain.user.entity.Users;
 import com.elice.ustory.global.entity.BaseEntity;
+import com.elice.ustory.global.entity.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,7 @@ import lombok.*;
 @NoArgsConstructor
 public class Comment extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -3,6 +3,8 @@ package com.elice.ustory.domain.comment.repository;
 import com.elice.ustory.domain.comment.entity.Comment;
 import com.elice.ustory.domain.paper.entity.Paper;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +14,7 @@ import java.util.Optional;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     Optional<Comment> findById(Long id);
     List<Comment> findByPaper(Paper paper);
+
+    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.paper.id IN :paperIds ORDER BY c.id")
+    List<Comment> findWithUserByPaperIds(@Param("paperIds") List<Long> paperIds);
 }
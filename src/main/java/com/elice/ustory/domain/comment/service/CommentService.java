@@ -4,6 +4,7 @@ import com.elice.ustory.domain.comment.dto.AddCommentRequest;
 import com.elice.ustory.domain.comment.dto.UpdateCommentRequest;
 import com.elice.ustory.domain.comment.entity.Comment;
 import com.elice.ustory.domain.comment.repository.CommentRepository;
+import com.elice.ustory.domain.diaryUser.repository.DiaryUserRepository;
 import com.elice.ustory.domain.notice.service.NoticeService;
 import com.elice.ustory.domain.paper.entity.Paper;
 import com.elice.ustory.domain.paper.service.PaperService;
@@ -12,6 +13,7 @@ import com.elice.ustory.global.exception.model.NotFoundException;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,13 +25,16 @@ public class CommentService {
 
     private static final String NOT_FOUND_COMMENT_MESSAGE = "%d: 해당하는 댓글이 존재하지 않습니다.";
     private final NoticeService noticeService;
+    private final DiaryUserRepository diaryUserRepository;
 
     public CommentService(CommentRepository commentRepository, PaperService paperService,
-                          UserService userService, NoticeService noticeService) {
+                          UserService userService, NoticeService noticeService,
+                          DiaryUserRepository diaryUserRepository) {
         this.commentRepository = commentRepository;
         this.paperService = paperService;
         this.userService = userService;
         this.noticeService = noticeService;
+        this.diaryUserRepository = diaryUserRepository;
     }
 
     public List<Comment> getComments(Long paperId, Long userId) {
@@ -57,6 +62,8 @@ public class CommentService {
 
         Comment savedComment = commentRepository.save(comment);
 
+        diaryUserRepository.touchLastActivity(paper.getDiary().getId(), LocalDateTime.now());
+
         noticeService.deleteNoticeBySender(paperId, userId, 2);
 
         paperService.noticeLocked(paper.getDiary(), paper);
@@ -2,9 +2,12 @@ package com.elice.ustory.domain.diary.controller;
 
 import com.elice.ustory.domain.diary.dto.*;
 import com.elice.ustory.domain.diary.entity.DiaryCategory;
+import com.elice.ustory.domain.diary.service.DiaryExportService;
+import com.elice.ustory.domain.diary.service.DiaryImportService;
 import com.elice.ustory.domain.diary.service.DiaryService;
 import com.elice.ustory.global.exception.dto.ErrorResponse;
 import com.elice.ustory.global.jwt.JwtAuthorization;
+import com.elice.ustory.global.util.ETagUtils;
 import com.elice.ustory.global.Validation.PageableValidation;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -13,13 +16,19 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -32,6 +41,8 @@ import static com.elice.ustory.global.Validation.PageableValidation.madePageable
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final DiaryExportService diaryExportService;
+    private final DiaryImportService diaryImportService;
 
     @Operation(summary = "Create Diary API", description = "다이어리 생성 및 링크 테이블에 등록")
     @ApiResponses({
@@ -77,7 +88,7 @@ public class DiaryController {
         return ResponseEntity.ok(userDiaries);
     }
 
-    @Operation(summary = "Get DiaryList limit 6", description = "홈 페이지 용 최신 다이어리 6개 불러오기")
+    @Operation(summary = "Get DiaryList limit 6", description = "홈 페이지 용 최근에 페이퍼/댓글이 작성된 다이어리 6개 불러오기")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = DiaryListResponse.class)))),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
@@ -110,9 +121,10 @@ public class DiaryController {
         return ResponseEntity.ok(addDiaryResponse);
     }
 
-    @Operation(summary = "Get Diary By DiaryId", description = "다이어리 상세 페이지 불러오기")
+    @Operation(summary = "Get Diary By DiaryId", description = "다이어리 상세 페이지 불러오기 <br> If-None-Match 의 ETag 가 현재와 같으면 본문 없이 304 를 반환한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DiaryResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not Modified", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
@@ -120,13 +132,63 @@ public class DiaryController {
     })
     @GetMapping("/{diaryId}")
     public ResponseEntity<DiaryResponse> getDiaryByID(@JwtAuthorization Long userId,
-                                                      @PathVariable("diaryId") Long diaryId) {
+                                                      @PathVariable("diaryId") Long diaryId,
+                                                      WebRequest webRequest) {
+        // 다이어리와 멤버 구성이 그대로면 상세 정보를 불러오지 않고 304 로 응답한다.
+        String eTag = diaryService.getDiaryDetailETag(userId, diaryId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(ETagUtils.PRIVATE_REVALIDATE).build();
+        }
+
         DiaryResponse diaryResponse = diaryService.getDiaryDetailById(userId,diaryId);
         if (diaryResponse == null) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
         }
 
-        return ResponseEntity.ok(diaryResponse);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(ETagUtils.PRIVATE_REVALIDATE)
+                .body(diaryResponse);
+    }
+
+    @Operation(summary = "Export Diary", description = "다이어리의 모든 페이퍼(주소, 이미지, 댓글 포함)를 ZIP 파일로 내려받기")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/zip")),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{diaryId}/export")
+    public void exportDiary(@JwtAuthorization Long userId,
+                            @PathVariable("diaryId") Long diaryId,
+                            HttpServletResponse response) throws IOException {
+        // 권한 오류는 ZIP 헤더를 쓰기 전에 일반 오류 응답으로 돌려준다.
+        diaryExportService.validateMember(userId, diaryId);
+
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("diary-" + diaryId + ".zip").build().toString());
+
+        diaryExportService.export(userId, diaryId, response.getOutputStream());
+    }
+
+    @Operation(summary = "Import Papers", description = "내보내기 ZIP(application/zip) 또는 페이퍼를 한 줄에 하나씩 담은 JSON Lines(application/x-ndjson)로 페이퍼 일괄 가져오기 <br> 형식이 올바르지 않은 항목은 건너뛰고 사유를 응답에 담는다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DiaryImportResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "415", description = "Unsupported Media Type", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/{diaryId}/import")
+    public ResponseEntity<DiaryImportResponse> importPapers(@JwtAuthorization Long userId,
+                                                            @PathVariable("diaryId") Long diaryId,
+                                                            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                                            InputStream body) throws IOException {
+
+        DiaryImportResponse response = diaryImportService.importPapers(userId, diaryId, contentType, body);
+
+        return ResponseEntity.ok(response);
     }
 
     @Operation(summary = "Get Diary Count", description = "유저가 속한 다이어리 개수 불러오기")
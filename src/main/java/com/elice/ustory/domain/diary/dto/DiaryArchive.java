@@ -0,0 +1,85 @@
+package com.elice.ustory.domain.diary.dto;
+
+import com.elice.ustory.domain.address.Address;
+import com.elice.ustory.domain.comment.entity.Comment;
+import com.elice.ustory.domain.diary.entity.Diary;
+import com.elice.ustory.domain.image.Image;
+import com.elice.ustory.domain.paper.entity.Paper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 다이어리 내보내기/가져오기 ZIP 의 항목 형식
+ *
+ * <pre>
+ * manifest.json                      다이어리 정보, 멤버, 내보낸 Paper 수
+ * papers/{paperId}.json              Paper, 주소, 이미지 URL, 댓글
+ * papers/{paperId}/images/{순서}.{확장자}  이미지 원본 (선택)
+ * </pre>
+ *
+ * 가져오기는 papers/{paperId}.json 만 읽으며, 같은 형식의 PaperRecord 를 한 줄에 하나씩 쓴 JSON Lines 도 받는다.
+ */
+public final class DiaryArchive {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String MANIFEST_ENTRY = "manifest.json";
+    public static final String PAPER_ENTRY_FORMAT = "papers/%d.json";
+    public static final String IMAGE_ENTRY_FORMAT = "papers/%d/images/%d%s";
+    public static final Pattern PAPER_ENTRY_PATTERN = Pattern.compile("^papers/[^/]+\\.json$");
+
+    private DiaryArchive() {
+    }
+
+    public record Manifest(int formatVersion, LocalDateTime exportedAt, DiaryRecord diary, long paperCount) {
+    }
+
+    public record DiaryRecord(Long id, String name, String imgUrl, String diaryCategory, String description,
+                              String color, List<DiaryFriend> members) {
+
+        public static DiaryRecord of(Diary diary, List<DiaryFriend> members) {
+            return new DiaryRecord(diary.getId(), diary.getName(), diary.getImgUrl(), diary.getDiaryCategory().getName(),
+                    diary.getDescription(), diary.getColor().getHexCode(), members);
+        }
+    }
+
+    public record PaperRecord(Long id, String title, String thumbnailImageUrl, LocalDate visitedAt,
+                              LocalDateTime createdAt, String writer, boolean unlocked, AddressRecord address,
+                              List<String> imageUrls, List<CommentRecord> comments) {
+
+        public static PaperRecord of(Paper paper, List<Image> images, List<CommentRecord> comments) {
+            return new PaperRecord(
+                    paper.getId(),
+                    paper.getTitle(),
+                    paper.getThumbnailImageUrl(),
+                    paper.getVisitedAt(),
+                    paper.getCreatedAt(),
+                    paper.getWriter().getNickname(),
+                    paper.isUnlocked(),
+                    AddressRecord.of(paper.getAddress()),
+                    images.stream().map(Image::getImageUrl).toList(),
+                    comments
+            );
+        }
+    }
+
+    public record AddressRecord(String city, String store, Double coordinateX, Double coordinateY) {
+
+        public static AddressRecord of(Address address) {
+            return new AddressRecord(address.getCity(), address.getStore(), address.getCoordinateX(), address.getCoordinateY());
+        }
+    }
+
+    public record CommentRecord(String writer, String content, LocalDateTime createdAt) {
+
+        public static CommentRecord of(Comment comment) {
+            return new CommentRecord(
+                    comment.getUser() != null ? comment.getUser().getNickname() : null,
+                    comment.getContent(),
+                    comment.getCreatedAt()
+            );
+        }
+    }
+}
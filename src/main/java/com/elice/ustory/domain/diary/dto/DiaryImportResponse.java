@@ -0,0 +1,28 @@
+package com.elice.ustory.domain.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiaryImportResponse {
+
+    @Schema(description = "가져온 페이퍼 수", example = "120")
+    private int importedCount;
+
+    @Schema(description = "검증에 실패하여 제외된 페이퍼 수", example = "2")
+    private int failedCount;
+
+    @Schema(description = "실패한 항목과 사유 (최대 100건)", example = "[\"papers/12.json: 타이틀: 해당 파라미터의 길이가 너무 깁니다.\"]")
+    private List<String> errors;
+
+    public DiaryImportResponse(int importedCount, int failedCount, List<String> errors) {
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.errors = errors;
+    }
+}
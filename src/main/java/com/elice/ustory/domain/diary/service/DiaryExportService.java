@@ -0,0 +1,219 @@
+package com.elice.ustory.domain.diary.service;
+
+import com.elice.ustory.domain.comment.entity.Comment;
+import com.elice.ustory.domain.comment.repository.CommentRepository;
+import com.elice.ustory.domain.diary.dto.DiaryArchive.CommentRecord;
+import com.elice.ustory.domain.diary.dto.DiaryArchive.DiaryRecord;
+import com.elice.ustory.domain.diary.dto.DiaryArchive.Manifest;
+import com.elice.ustory.domain.diary.dto.DiaryArchive.PaperRecord;
+import com.elice.ustory.domain.diaryUser.entity.DiaryUser;
+import com.elice.ustory.domain.diaryUser.repository.DiaryUserRepository;
+import com.elice.ustory.domain.image.Image;
+import com.elice.ustory.domain.image.ImageRepository;
+import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.paper.repository.PaperRepository;
+import com.elice.ustory.global.exception.model.ForbiddenException;
+import com.elice.ustory.global.storage.ImageStorage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static com.elice.ustory.domain.diary.dto.DiaryArchive.FORMAT_VERSION;
+import static com.elice.ustory.domain.diary.dto.DiaryArchive.IMAGE_ENTRY_FORMAT;
+import static com.elice.ustory.domain.diary.dto.DiaryArchive.MANIFEST_ENTRY;
+import static com.elice.ustory.domain.diary.dto.DiaryArchive.PAPER_ENTRY_FORMAT;
+
+/**
+ * 다이어리 내보내기 (ZIP)
+ *
+ * Paper 를 id 순으로 chunk-size 개씩 keyset 방식으로 읽고, 각 묶음의 댓글과 이미지는 IN 쿼리 한 번씩으로 함께 불러온다.
+ * 묶음마다 짧은 읽기 전용 트랜잭션에서 내보낼 내용(레코드)만 만들어 두고, ZIP 쓰기와 이미지 원본(S3) 읽기는 트랜잭션 밖에서 한다.
+ * 느린 클라이언트나 큰 이미지 때문에 커넥션과 트랜잭션이 응답이 끝날 때까지 붙잡히지 않도록 하기 위해서다.
+ * 묶음을 읽은 뒤에는 영속성 컨텍스트를 비우므로 다이어리 크기와 관계없이 메모리에는 한 묶음만 남는다.
+ * 항목 형식은 DiaryArchive 를 따르며, 이미지 원본은 ustory.export.include-images=true 인 경우에만 포함한다.
+ */
+@Slf4j
+@Service
+public class DiaryExportService {
+
+    private static final String FORBIDDEN_DIARY_MESSAGE = "%d: 해당 다이어리에 대한 권한이 없습니다.";
+
+    private final DiaryUserRepository diaryUserRepository;
+    private final PaperRepository paperRepository;
+    private final CommentRepository commentRepository;
+    private final ImageRepository imageRepository;
+    private final ImageStorage imageStorage;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+    private final boolean includeImages;
+
+    public DiaryExportService(DiaryUserRepository diaryUserRepository,
+                              PaperRepository paperRepository,
+                              CommentRepository commentRepository,
+                              ImageRepository imageRepository,
+                              ImageStorage imageStorage,
+                              ObjectMapper objectMapper,
+                              EntityManager entityManager,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${ustory.export.chunk-size:100}") int chunkSize,
+                              @Value("${ustory.export.include-images:false}") boolean includeImages) {
+        this.diaryUserRepository = diaryUserRepository;
+        this.paperRepository = paperRepository;
+        this.commentRepository = commentRepository;
+        this.imageRepository = imageRepository;
+        this.imageStorage = imageStorage;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.includeImages = includeImages;
+    }
+
+    /**
+     * 응답을 쓰기 전에 호출하여, 멤버가 아니면 일반 오류 응답을 받도록 한다.
+     */
+    @Transactional(readOnly = true)
+    public void validateMember(Long userId, Long diaryId) {
+        findMembership(userId, diaryId);
+    }
+
+    /**
+     * 트랜잭션 없이 호출해야 한다. 묶음을 읽을 때만 짧은 트랜잭션을 연다.
+     */
+    public void export(Long userId, Long diaryId, OutputStream out) throws IOException {
+        DiaryRecord diaryRecord = readOnlyTransactionTemplate.execute(status -> {
+            DiaryUser diaryUser = findMembership(userId, diaryId);
+            return DiaryRecord.of(diaryUser.getId().getDiary(), diaryUserRepository.findUsersByDiaryId(userId, diaryId));
+        });
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        long paperCount = 0;
+        Long lastPaperId = null;
+
+        while (true) {
+            Long afterPaperId = lastPaperId;
+            List<ExportedPaper> papers = readOnlyTransactionTemplate.execute(status -> readChunk(diaryId, afterPaperId));
+            if (papers.isEmpty()) {
+                break;
+            }
+
+            writeChunk(zip, papers);
+            paperCount += papers.size();
+            lastPaperId = papers.get(papers.size() - 1).record().id();
+
+            if (papers.size() < chunkSize) {
+                break;
+            }
+        }
+
+        writeEntry(zip, MANIFEST_ENTRY, new Manifest(FORMAT_VERSION, LocalDateTime.now(), diaryRecord, paperCount));
+        zip.finish();
+        zip.flush();
+    }
+
+    private DiaryUser findMembership(Long userId, Long diaryId) {
+        DiaryUser diaryUser = diaryUserRepository.findDiaryUserById(userId, diaryId);
+        if (diaryUser == null) {
+            throw new ForbiddenException(String.format(FORBIDDEN_DIARY_MESSAGE, diaryId));
+        }
+        return diaryUser;
+    }
+
+    /**
+     * lastPaperId 다음 묶음을 읽어 내보낼 레코드로 바꾼다. 트랜잭션 안에서 호출된다.
+     */
+    private List<ExportedPaper> readChunk(Long diaryId, Long lastPaperId) {
+        List<Paper> papers = paperRepository.findExportChunk(diaryId, lastPaperId, chunkSize);
+        if (papers.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> paperIds = papers.stream().map(Paper::getId).toList();
+
+        Map<Long, List<CommentRecord>> commentsByPaper = new HashMap<>();
+        for (Comment comment : commentRepository.findWithUserByPaperIds(paperIds)) {
+            commentsByPaper.computeIfAbsent(comment.getPaper().getId(), id -> new ArrayList<>()).add(CommentRecord.of(comment));
+        }
+
+        Map<Long, List<Image>> imagesByPaper = new HashMap<>();
+        for (Image image : imageRepository.findByPaperIdInOrderBySequenceAsc(paperIds)) {
+            imagesByPaper.computeIfAbsent(image.getPaper().getId(), id -> new ArrayList<>()).add(image);
+        }
+
+        List<ExportedPaper> exportedPapers = new ArrayList<>(papers.size());
+        for (Paper paper : papers) {
+            // 잠긴 Paper 의 이미지는 상세 조회와 마찬가지로 내보내지 않는다.
+            List<Image> images = paper.isUnlocked() ? imagesByPaper.getOrDefault(paper.getId(), List.of()) : List.of();
+
+            exportedPapers.add(new ExportedPaper(
+                    PaperRecord.of(paper, images, commentsByPaper.getOrDefault(paper.getId(), List.of())),
+                    images.stream().map(image -> new ExportedImage(image.getSequence(), image.getImageUrl())).toList()));
+        }
+
+        entityManager.clear();
+        return exportedPapers;
+    }
+
+    private void writeChunk(ZipOutputStream zip, List<ExportedPaper> papers) throws IOException {
+        for (ExportedPaper paper : papers) {
+            writeEntry(zip, String.format(PAPER_ENTRY_FORMAT, paper.record().id()), paper.record());
+
+            if (includeImages) {
+                for (ExportedImage image : paper.images()) {
+                    writeImage(zip, paper.record().id(), image);
+                }
+            }
+        }
+    }
+
+    private void writeImage(ZipOutputStream zip, Long paperId, ExportedImage image) throws IOException {
+        Optional<InputStream> source = imageStorage.open(image.imageUrl());
+        if (source.isEmpty()) {
+            log.warn("[DiaryExportService] 이미지 원본을 찾을 수 없어 제외 paperId: {}, url: {}", paperId, image.imageUrl());
+            return;
+        }
+
+        try (InputStream in = source.get()) {
+            zip.putNextEntry(new ZipEntry(String.format(IMAGE_ENTRY_FORMAT, paperId, image.sequence(), extensionOf(image.imageUrl()))));
+            in.transferTo(zip);
+            zip.closeEntry();
+        }
+    }
+
+    private void writeEntry(ZipOutputStream zip, String name, Object value) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(objectMapper.writeValueAsBytes(value));
+        zip.closeEntry();
+    }
+
+    private static String extensionOf(String imageUrl) {
+        int dot = imageUrl.lastIndexOf('.');
+        return dot > imageUrl.lastIndexOf('/') ? imageUrl.substring(dot) : "";
+    }
+
+    private record ExportedPaper(PaperRecord record, List<ExportedImage> images) {
+    }
+
+    private record ExportedImage(int sequence, String imageUrl) {
+    }
+}
@@ -0,0 +1,547 @@
+package com.elice.ustory.domain.diary.service;
+
+import com.elice.ustory.domain.address.Address;
+import com.elice.ustory.domain.comment.entity.Comment;
+import com.elice.ustory.domain.comment.repository.CommentRepository;
+import com.elice.ustory.domain.diary.dto.DiaryArchive;
+import com.elice.ustory.domain.diary.dto.DiaryArchive.AddressRecord;
+import com.elice.ustory.domain.diary.dto.DiaryArchive.CommentRecord;
+import com.elice.ustory.domain.diary.dto.DiaryArchive.PaperRecord;
+import com.elice.ustory.domain.diary.dto.DiaryImportResponse;
+import com.elice.ustory.domain.diary.entity.Diary;
+import com.elice.ustory.domain.diary.entity.DiaryCategory;
+import com.elice.ustory.domain.diaryUser.entity.DiaryUser;
+import com.elice.ustory.domain.diaryUser.repository.DiaryUserRepository;
+import com.elice.ustory.domain.image.Image;
+import com.elice.ustory.domain.notice.service.NoticeService;
+import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.paper.repository.PaperRepository;
+import com.elice.ustory.domain.paper.service.PaperCalendarService;
+import com.elice.ustory.domain.place.service.PlaceService;
+import com.elice.ustory.domain.user.entity.Users;
+import com.elice.ustory.domain.user.repository.UserRepository;
+import com.elice.ustory.domain.user.service.UserStatsService;
+import com.elice.ustory.global.exception.model.CustomException;
+import com.elice.ustory.global.exception.model.ForbiddenException;
+import com.elice.ustory.global.exception.model.UnsupportedMediaTypeException;
+import com.elice.ustory.global.exception.model.ValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 다이어리로 Paper 일괄 가져오기
+ *
+ * 내보내기 ZIP(application/zip) 이나 PaperRecord 를 한 줄에 하나씩 쓴 JSON Lines(application/x-ndjson) 를 스트림으로 읽는다.
+ * 항목은 chunk-size 개씩 모아 별도 스레드에서 병렬로 파싱/검증하고, 통과한 항목만 묶음 단위 트랜잭션으로 저장한다.
+ * 저장은 batch-size 크기의 JDBC 배치로 전송되며, 묶음마다 영속성 컨텍스트를 비우므로 가져오는 양과 관계없이 메모리 사용이 일정하다.
+ *
+ * 가져온 댓글은 모두 가져오는 사용자의 댓글로 저장하고, 원래 작성자는 댓글 본문 앞에 글자로만 남긴다.
+ * 파일의 unlocked 값은 믿지 않고, 잠금 상태는 서버의 해금 규칙(모든 멤버가 댓글을 남기면 해금)으로 다시 정한다.
+ *
+ * Paper 마다 보내던 코멘트 요청 알림은 보내지 않고, 끝난 뒤 다른 멤버들에게 요약 알림을 한 건씩 보낸다.
+ * 검증에 실패한 항목은 건너뛰고 사유를 응답에 담는다.
+ * 읽기나 저장이 도중에 실패하면 앞서 커밋한 묶음의 Paper 를 soft delete 하고 예외를 그대로 던지므로, 반쯤 가져온 다이어리가 남지 않고 처음부터 다시 가져오면 된다.
+ */
+@Slf4j
+@Service
+public class DiaryImportService {
+
+    public static final String ZIP_CONTENT_TYPE = "application/zip";
+    public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    private static final String THREAD_NAME_PREFIX = "diary-import-";
+    private static final int MAX_RECORD_BYTES = 1024 * 1024;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_COMMENT_LENGTH = 200;
+    private static final int MAX_ORIGINAL_WRITER_LENGTH = 20;
+    private static final String ORIGINAL_WRITER_FORMAT = "[%s] ";
+
+    private static final String FORBIDDEN_DIARY_MESSAGE = "%d: 해당 다이어리에 대한 권한이 없습니다.";
+    private static final String UNSUPPORTED_CONTENT_TYPE_MESSAGE = "application/zip 또는 application/x-ndjson 형식만 가져올 수 있습니다.";
+    private static final String TOO_MANY_PAPERS_MESSAGE = "한 번에 최대 %d개의 페이퍼만 가져올 수 있어 나머지는 제외되었습니다.";
+    private static final String TOO_LARGE_RECORD_MESSAGE = "항목의 크기가 너무 큽니다.";
+    private static final String INVALID_FORMAT_MESSAGE = "페이퍼 형식이 올바르지 않습니다.";
+    private static final String REQUIRED_FIELD_MESSAGE = "%s: 필수 항목입니다.";
+    private static final String INVALID_COMMENT_MESSAGE = "댓글은 1자 이상 " + MAX_COMMENT_LENGTH + "자 이하여야 합니다.";
+
+    private final DiaryUserRepository diaryUserRepository;
+    private final PaperRepository paperRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
+    private final NoticeService noticeService;
+    private final PaperCalendarService paperCalendarService;
+    private final PlaceService placeService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService validationExecutor;
+    private final int chunkSize;
+    private final int batchSize;
+    private final int maxPapers;
+
+    public DiaryImportService(DiaryUserRepository diaryUserRepository,
+                              PaperRepository paperRepository,
+                              CommentRepository commentRepository,
+                              UserRepository userRepository,
+                              UserStatsService userStatsService,
+                              NoticeService noticeService,
+                              PaperCalendarService paperCalendarService,
+                              PlaceService placeService,
+                              ObjectMapper objectMapper,
+                              EntityManager entityManager,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${ustory.import.chunk-size:200}") int chunkSize,
+                              @Value("${ustory.import.batch-size:100}") int batchSize,
+                              @Value("${ustory.import.max-papers:5000}") int maxPapers,
+                              @Value("${ustory.import.validation-threads:4}") int validationThreads) {
+        this.diaryUserRepository = diaryUserRepository;
+        this.paperRepository = paperRepository;
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.userStatsService = userStatsService;
+        this.noticeService = noticeService;
+        this.paperCalendarService = paperCalendarService;
+        this.placeService = placeService;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validationExecutor = Executors.newFixedThreadPool(validationThreads, new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.maxPapers = maxPapers;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        validationExecutor.shutdownNow();
+    }
+
+    public DiaryImportResponse importPapers(Long userId, Long diaryId, String contentType, InputStream in) throws IOException {
+        ImportContext context = createContext(userId, diaryId);
+
+        try {
+            if (contentType != null && contentType.startsWith(ZIP_CONTENT_TYPE)) {
+                readZip(in, context);
+            } else if (contentType != null && contentType.startsWith(NDJSON_CONTENT_TYPE)) {
+                readJsonLines(in, context);
+            } else {
+                throw new UnsupportedMediaTypeException(UNSUPPORTED_CONTENT_TYPE_MESSAGE);
+            }
+            flushChunk(context);
+        } catch (IOException | RuntimeException e) {
+            discardImported(context, e);
+            throw e;
+        }
+
+        if (context.importedCount > 0) {
+            finishImport(context);
+        }
+
+        return new DiaryImportResponse(context.importedCount, context.failedCount, context.errors);
+    }
+
+    private ImportContext createContext(Long userId, Long diaryId) {
+        return transactionTemplate.execute(status -> {
+            DiaryUser diaryUser = diaryUserRepository.findDiaryUserById(userId, diaryId);
+            if (diaryUser == null) {
+                throw new ForbiddenException(String.format(FORBIDDEN_DIARY_MESSAGE, diaryId));
+            }
+
+            List<String> memberNicknames = diaryUserRepository.findUserByDiary(diaryId);
+            Map<String, Long> memberIds = new HashMap<>();
+            for (String nickname : memberNicknames) {
+                userRepository.findByNickname(nickname).ifPresent(member -> memberIds.put(nickname, member.getId()));
+            }
+
+            Users importer = diaryUser.getId().getUsers();
+            Diary diary = diaryUser.getId().getDiary();
+            return new ImportContext(userId, importer.getNickname(), diaryId,
+                    diary.getDiaryCategory() == DiaryCategory.INDIVIDUAL, memberNicknames.size(), memberIds, LocalDateTime.now());
+        });
+    }
+
+    private void readZip(InputStream in, ImportContext context) throws IOException {
+        ZipInputStream zip = new ZipInputStream(in, StandardCharsets.UTF_8);
+
+        ZipEntry entry;
+        while (!context.limitReached && (entry = zip.getNextEntry()) != null) {
+            if (entry.isDirectory() || !DiaryArchive.PAPER_ENTRY_PATTERN.matcher(entry.getName()).matches()) {
+                continue;
+            }
+
+            byte[] content = zip.readNBytes(MAX_RECORD_BYTES + 1);
+            if (content.length > MAX_RECORD_BYTES) {
+                context.addError(entry.getName(), TOO_LARGE_RECORD_MESSAGE);
+                continue;
+            }
+
+            accept(new RawRecord(entry.getName(), content), context);
+        }
+    }
+
+    private void readJsonLines(InputStream in, ImportContext context) throws IOException {
+        InputStream input = new BufferedInputStream(in);
+
+        Line line;
+        int lineNumber = 0;
+        while (!context.limitReached && (line = readLine(input)) != null) {
+            lineNumber++;
+
+            String source = "line " + lineNumber;
+            if (line.tooLarge()) {
+                context.addError(source, TOO_LARGE_RECORD_MESSAGE);
+                continue;
+            }
+            if (new String(line.content(), StandardCharsets.UTF_8).isBlank()) {
+                continue;
+            }
+
+            accept(new RawRecord(source, line.content()), context);
+        }
+    }
+
+    /**
+     * 다음 줄을 UTF-8 바이트 그대로 읽는다. 끝에 도달하면 null 을 반환한다.
+     * MAX_RECORD_BYTES 를 넘는 줄은 더 모으지 않고 줄 끝까지 버린 뒤 tooLarge 로 표시하므로, 한 줄이 아무리 길어도 메모리 사용은 제한된다.
+     */
+    private static Line readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        boolean tooLarge = false;
+
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            // 줄 끝의 \r 까지 담을 수 있도록 한 바이트 더 받는다.
+            if (buffer.size() <= MAX_RECORD_BYTES) {
+                buffer.write(b);
+            } else {
+                tooLarge = true;
+            }
+        }
+
+        if (b == -1 && buffer.size() == 0) {
+            return null;
+        }
+
+        byte[] content = buffer.toByteArray();
+        int length = content.length;
+        if (length > 0 && content[length - 1] == '\r') {
+            length--;
+        }
+        if (tooLarge || length > MAX_RECORD_BYTES) {
+            return new Line(null, true);
+        }
+        return new Line(length == content.length ? content : Arrays.copyOf(content, length), false);
+    }
+
+    private void accept(RawRecord record, ImportContext context) {
+        if (context.recordCount == maxPapers) {
+            context.limitReached = true;
+            context.addError(record.source(), String.format(TOO_MANY_PAPERS_MESSAGE, maxPapers));
+            return;
+        }
+
+        context.recordCount++;
+        context.chunk.add(record);
+
+        if (context.chunk.size() >= chunkSize) {
+            flushChunk(context);
+        }
+    }
+
+    /**
+     * 모인 항목을 병렬로 검증한 뒤 통과한 항목을 한 트랜잭션으로 저장한다.
+     */
+    private void flushChunk(ImportContext context) {
+        if (context.chunk.isEmpty()) {
+            return;
+        }
+
+        List<RawRecord> chunk = List.copyOf(context.chunk);
+        context.chunk.clear();
+
+        List<CompletableFuture<PreparedPaper>> futures = chunk.stream()
+                .map(record -> CompletableFuture.supplyAsync(() -> prepare(record, context), validationExecutor))
+                .toList();
+
+        List<PreparedPaper> prepared = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            try {
+                prepared.add(futures.get(i).join());
+            } catch (CompletionException e) {
+                context.addError(chunk.get(i).source(), messageOf(e.getCause()));
+            }
+        }
+
+        if (prepared.isEmpty()) {
+            return;
+        }
+
+        List<Long> paperIds = transactionTemplate.execute(status -> persist(prepared, context));
+        context.importedPaperIds.addAll(paperIds);
+        context.importedCount += prepared.size();
+    }
+
+    /**
+     * 검증 스레드에서 실행된다. 엔티티 생성자의 검증을 그대로 거치며, 세션과 연결되지 않은 객체만 만든다.
+     */
+    private PreparedPaper prepare(RawRecord record, ImportContext context) {
+        PaperRecord paperRecord;
+        try {
+            paperRecord = objectMapper.readValue(record.content(), PaperRecord.class);
+        } catch (IOException e) {
+            throw new ValidationException(INVALID_FORMAT_MESSAGE);
+        }
+
+        requireNonNull(paperRecord.title(), "title");
+        requireNonNull(paperRecord.thumbnailImageUrl(), "thumbnailImageUrl");
+        requireNonNull(paperRecord.visitedAt(), "visitedAt");
+        AddressRecord addressRecord = requireNonNull(paperRecord.address(), "address");
+        requireNonNull(addressRecord.city(), "address.city");
+        requireNonNull(addressRecord.store(), "address.store");
+        requireNonNull(addressRecord.coordinateX(), "address.coordinateX");
+        requireNonNull(addressRecord.coordinateY(), "address.coordinateY");
+
+        Paper paper = Paper.createBuilder()
+                .title(paperRecord.title())
+                .thumbnailImageUrl(paperRecord.thumbnailImageUrl())
+                .visitedAt(paperRecord.visitedAt())
+                .build();
+
+        Address address = Address.createBuilder()
+                .city(addressRecord.city())
+                .store(addressRecord.store())
+                .coordinateX(addressRecord.coordinateX())
+                .coordinateY(addressRecord.coordinateY())
+                .build();
+        address.setPaper(paper);
+
+        if (paperRecord.imageUrls() != null) {
+            int sequence = 1;
+            for (String imageUrl : paperRecord.imageUrls()) {
+                new Image(imageUrl, sequence++).setPaper(paper);
+            }
+        }
+
+        // 댓글은 모두 가져오는 사용자의 댓글로 저장하고, 원래 작성자는 본문 앞에 글자로만 남긴다.
+        List<String> comments = new ArrayList<>();
+        if (paperRecord.comments() != null) {
+            for (CommentRecord commentRecord : paperRecord.comments()) {
+                String content = commentRecord.content();
+                if (content == null || content.isBlank() || content.length() > MAX_COMMENT_LENGTH) {
+                    throw new ValidationException(INVALID_COMMENT_MESSAGE);
+                }
+                comments.add(withOriginalWriter(commentRecord.writer(), content, context));
+            }
+        }
+
+        // 잠금 상태는 PaperService 와 같은 규칙으로 정한다. 댓글 작성자가 가져오는 사용자 한 명뿐이므로
+        // 개인 다이어리이거나, 멤버가 가져오는 사용자 한 명인 다이어리에 댓글이 있을 때만 해금된다.
+        if (context.individualDiary || (context.memberCount == 1 && !comments.isEmpty())) {
+            paper.unLock();
+        }
+
+        return new PreparedPaper(paper, comments);
+    }
+
+    private List<Long> persist(List<PreparedPaper> prepared, ImportContext context) {
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+
+        try {
+            Diary diary = entityManager.getReference(Diary.class, context.diaryId);
+            Users writer = entityManager.getReference(Users.class, context.userId);
+
+            List<Paper> papers = new ArrayList<>(prepared.size());
+            for (PreparedPaper preparedPaper : prepared) {
+                Paper paper = preparedPaper.paper();
+                paper.addWriter(writer);
+                paper.addDiary(diary);
+                papers.add(paper);
+            }
+
+            placeService.assignPlaces(papers.stream().map(Paper::getAddress).toList());
+
+            // 주소와 이미지는 Paper 의 cascade 로 함께 저장된다.
+            paperRepository.saveAll(papers);
+
+            List<Comment> comments = new ArrayList<>();
+            for (PreparedPaper preparedPaper : prepared) {
+                for (String content : preparedPaper.comments()) {
+                    comments.add(Comment.addCommentBuilder()
+                            .content(content)
+                            .paper(preparedPaper.paper())
+                            .user(writer)
+                            .build());
+                }
+            }
+            commentRepository.saveAll(comments);
+
+            userStatsService.changePaperCount(context.userId, papers.size());
+
+            entityManager.flush();
+            context.lastPaperId = papers.get(papers.size() - 1).getId();
+            return papers.stream().map(Paper::getId).toList();
+        } finally {
+            entityManager.clear();
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
+    /**
+     * 가져오기가 도중에 실패했을 때 이미 커밋한 묶음의 Paper 를 soft delete 하고 작성 수를 되돌린다.
+     * 정리마저 실패하면 원래 예외에 덧붙여서, 원래 실패 사유가 가려지지 않게 한다.
+     */
+    private void discardImported(ImportContext context, Exception cause) {
+        if (context.importedPaperIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                long deleted = 0;
+                for (int from = 0; from < context.importedPaperIds.size(); from += chunkSize) {
+                    List<Long> paperIds = context.importedPaperIds.subList(from, Math.min(context.importedPaperIds.size(), from + chunkSize));
+                    deleted += paperRepository.softDeleteByIds(paperIds, now);
+                }
+                userStatsService.changePaperCount(context.userId, -deleted);
+
+                paperCalendarService.evictAfterCommit(context.diaryId, context.startedAt);
+                if (!YearMonth.from(context.startedAt).equals(YearMonth.from(now))) {
+                    paperCalendarService.evictAfterCommit(context.diaryId, now);
+                }
+            });
+            log.warn("[DiaryImportService] 가져오기 실패로 저장했던 Paper {}개를 삭제함 diaryId: {}", context.importedPaperIds.size(), context.diaryId);
+        } catch (RuntimeException e) {
+            log.error("[DiaryImportService] 가져오기 실패 후 정리 실패 diaryId: {}, paperIds: {}", context.diaryId, context.importedPaperIds, e);
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * 홈 화면 정렬, 캘린더 캐시, 요약 알림을 가져오기 전체에 대해 한 번만 반영한다.
+     */
+    private void finishImport(ImportContext context) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            diaryUserRepository.touchLastActivity(context.diaryId, now);
+
+            paperCalendarService.evictAfterCommit(context.diaryId, context.startedAt);
+            if (!YearMonth.from(context.startedAt).equals(YearMonth.from(now))) {
+                paperCalendarService.evictAfterCommit(context.diaryId, now);
+            }
+
+            List<Long> receiverIds = context.memberIds.values().stream()
+                    .filter(memberId -> !memberId.equals(context.userId))
+                    .toList();
+            if (!receiverIds.isEmpty()) {
+                noticeService.sendImportNotices(context.nickname, context.lastPaperId, context.importedCount, receiverIds);
+            }
+        });
+    }
+
+    /**
+     * 원래 작성자가 가져오는 사용자가 아니면 본문 앞에 [닉네임] 을 붙인다. 댓글 길이 제한을 넘는 부분은 잘라낸다.
+     */
+    private static String withOriginalWriter(String originalWriter, String content, ImportContext context) {
+        if (originalWriter == null || originalWriter.isBlank() || originalWriter.equals(context.nickname)) {
+            return content;
+        }
+
+        String writer = originalWriter.length() > MAX_ORIGINAL_WRITER_LENGTH
+                ? originalWriter.substring(0, MAX_ORIGINAL_WRITER_LENGTH)
+                : originalWriter;
+        String labeled = String.format(ORIGINAL_WRITER_FORMAT, writer) + content;
+        return labeled.length() > MAX_COMMENT_LENGTH ? labeled.substring(0, MAX_COMMENT_LENGTH) : labeled;
+    }
+
+    private static <T> T requireNonNull(T value, String fieldName) {
+        if (value == null) {
+            throw new ValidationException(String.format(REQUIRED_FIELD_MESSAGE, fieldName));
+        }
+        return value;
+    }
+
+    private static String messageOf(Throwable cause) {
+        if (cause instanceof CustomException) {
+            return cause.getMessage();
+        }
+        log.warn("[DiaryImportService] 항목 검증 중 예외", cause);
+        return INVALID_FORMAT_MESSAGE;
+    }
+
+    private record RawRecord(String source, byte[] content) {
+    }
+
+    private record Line(byte[] content, boolean tooLarge) {
+    }
+
+    private record PreparedPaper(Paper paper, List<String> comments) {
+    }
+
+    private static class ImportContext {
+        private final Long userId;
+        private final String nickname;
+        private final Long diaryId;
+        private final boolean individualDiary;
+        private final int memberCount;
+        private final Map<String, Long> memberIds;
+        private final LocalDateTime startedAt;
+
+        private final List<RawRecord> chunk = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+        private final List<Long> importedPaperIds = new ArrayList<>();
+        private int recordCount;
+        private int importedCount;
+        private int failedCount;
+        private boolean limitReached;
+        private Long lastPaperId;
+
+        private ImportContext(Long userId, String nickname, Long diaryId, boolean individualDiary, int memberCount,
+                              Map<String, Long> memberIds, LocalDateTime startedAt) {
+            this.userId = userId;
+            this.nickname = nickname;
+            this.diaryId = diaryId;
+            this.individualDiary = individualDiary;
+            this.memberCount = memberCount;
+            this.memberIds = memberIds;
+            this.startedAt = startedAt;
+        }
+
+        private void addError(String source, String message) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(source + ": " + message);
+            }
+        }
+    }
+}
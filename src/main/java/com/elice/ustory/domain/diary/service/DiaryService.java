@@ -10,11 +10,16 @@ import com.elice.ustory.domain.diaryUser.entity.DiaryUserId;
 import com.elice.ustory.domain.diaryUser.repository.DiaryUserRepository;
 import com.elice.ustory.domain.user.entity.Users;
 import com.elice.ustory.domain.user.repository.UserRepository;
+import com.elice.ustory.domain.user.service.UserStatsService;
 import com.elice.ustory.global.exception.model.ForbiddenException;
 import com.elice.ustory.global.exception.model.NotFoundException;
 import com.elice.ustory.global.exception.model.ValidationException;
+import com.elice.ustory.global.util.ETagUtils;
 import com.querydsl.core.Tuple;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +32,7 @@ import java.util.stream.Collectors;
 import static com.elice.ustory.domain.user.entity.QUsers.users;
 import static org.springframework.util.StringUtils.hasText;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DiaryService {
@@ -37,6 +43,7 @@ public class DiaryService {
     private final DiaryRepository diaryRepository;
     private final DiaryUserRepository diaryUserRepository;
     private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
 
     @Transactional
     public AddDiaryResponse createDiary(Long userId, Diary diary, List<String> userList) {
@@ -55,12 +62,14 @@ public class DiaryService {
         for (Users friend : friendList) {
             DiaryUserId diaryUserId = new DiaryUserId(savedDiary, friend);
             diaryUserRepository.save(new DiaryUser(diaryUserId));
+            userStatsService.changeDiaryCount(friend.getId(), 1);
         }
         Users user = userRepository.findById(userId).orElseThrow(
                 () -> new NotFoundException(String.format(NOT_FOUND_USER_MESSAGE, userId))
         );
         DiaryUserId diaryUserId = new DiaryUserId(savedDiary, user);
         diaryUserRepository.save(new DiaryUser(diaryUserId));
+        userStatsService.changeDiaryCount(userId, 1);
 
         List<DiaryFriend> diaryFriends = new ArrayList<>();
         for (Users users : friendList) {
@@ -71,6 +80,7 @@ public class DiaryService {
         return new AddDiaryResponse(savedDiary.getId());
     }
 
+    @Transactional(readOnly = true)
     public DiaryResponse getDiaryDetailById(Long userId, Long diaryId) {
         DiaryUser diaryUser = diaryUserRepository.findDiaryUserById(userId, diaryId);
         if (diaryUser == null) {
@@ -82,6 +92,34 @@ public class DiaryService {
         return DiaryResponse.toDiaryResponse(diaryUser.getId().getDiary(), diaryFriends);
     }
 
+    /**
+     * 다이어리 상세 응답의 ETag
+     *
+     * 다이어리와 멤버 구성만으로 응답이 정해지므로 집계 쿼리 한 번으로 계산한다.
+     * 요청자가 멤버가 아니면 null 을 반환하여 상세 조회에서 권한 검사를 받도록 한다.
+     */
+    @Transactional(readOnly = true)
+    public String getDiaryDetailETag(Long userId, Long diaryId) {
+        Tuple version = diaryUserRepository.findDiaryVersion(userId, diaryId);
+        if (version == null) {
+            return null;
+        }
+
+        Long requesterCount = version.get(4, Long.class);
+        if (requesterCount == null || requesterCount == 0) {
+            return null;
+        }
+
+        return ETagUtils.strongETag(
+                diaryId,
+                version.get(0, LocalDateTime.class),
+                version.get(1, Long.class),
+                version.get(2, Long.class),
+                version.get(3, LocalDateTime.class)
+        );
+    }
+
+    @Transactional(readOnly = true)
     public Diary getDiaryById(Long diaryId) {
         return diaryRepository.findById(diaryId).orElseThrow(
                 () -> new NotFoundException(String.format(NOT_FOUND_DIARY_MESSAGE, diaryId))
@@ -127,6 +165,7 @@ public class DiaryService {
                 } else {
                     DiaryUserId diaryUserId = new DiaryUserId(updatedDiary, user);
                     diaryUserRepository.save(new DiaryUser(diaryUserId));
+                    userStatsService.changeDiaryCount(user.getId(), 1);
                 }
             }
         }
@@ -134,6 +173,7 @@ public class DiaryService {
         return new AddDiaryResponse(diaryId);
     }
 
+    @Transactional(readOnly = true)
     public List<DiaryListResponse> getUserDiaries(Long userId, Pageable pageable, DiaryCategory diaryCategory, LocalDateTime dateTime, String searchWord) {
         if(!hasText(searchWord)) searchWord = null;
         List<DiaryList> diaryList = diaryUserRepository.searchDiary(userId, pageable, diaryCategory, dateTime, searchWord);
@@ -144,6 +184,12 @@ public class DiaryService {
         return result;
     }
 
+    /**
+     * 홈 화면 최근 다이어리 6개
+     *
+     * 페이퍼/댓글 작성 시 갱신되는 diary_users.last_activity_at 순으로 정렬한다.
+     */
+    @Transactional(readOnly = true)
     public List<DiaryListResponse> getUserDiaryList(Long userId) {
         List<DiaryList> result = diaryUserRepository.searchDiaryList(userId);
         return result.stream()
@@ -151,18 +197,33 @@ public class DiaryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * last_activity_at 컬럼이 추가되기 전의 행을 채운다. 이미 채워진 행은 건드리지 않으므로 매 기동 시 실행해도 된다.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLastActivity() {
+        int updated = diaryUserRepository.backfillLastActivity();
+        if (updated > 0) {
+            log.info("diary_users.last_activity_at 채움: {}건", updated);
+        }
+    }
+
     public Long getDiaryCount(Long userId) {
-        return diaryUserRepository.countDiaryByUser(userId);
+        return userStatsService.getUserStats(userId).getDiaryCount();
     }
 
+    @Transactional
     public void deleteDiary(Long diaryId) {
         Diary diary = diaryRepository.findById(diaryId).orElseThrow(
                 () -> new NotFoundException(String.format(NOT_FOUND_DIARY_MESSAGE, diaryId))
         );
 
+        userStatsService.decreaseDiaryCountOfMembers(diaryId);
         diaryRepository.delete(diary);
     }
 
+    @Transactional
     public ExitResponse exitDiary(Long userId, Long diaryId) {
         DiaryUser diaryUser = diaryUserRepository.findDiaryUserById(userId, diaryId);
         if (diaryUser == null) {
@@ -174,6 +235,7 @@ public class DiaryService {
             return new ExitResponse(false);
         } else {
             diaryUserRepository.delete(diaryUser);
+            userStatsService.changeDiaryCount(userId, -1);
         }
 
         return new ExitResponse(true);
@@ -6,15 +6,22 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "diary_users")
+@Table(name = "diary_users", indexes = @Index(name = "IDX_DIARY_USERS_USER_ACTIVITY", columnList = "users_id, last_activity_at"))
 @Entity
 public class DiaryUser extends BaseEntity {
     @EmbeddedId
     DiaryUserId id;
 
+    /** 다이어리에 마지막으로 페이퍼/댓글이 작성된 시각. 홈 화면의 최근 다이어리 정렬 기준 */
+    @Column(name = "last_activity_at", columnDefinition = "DATETIME")
+    private LocalDateTime lastActivityAt;
+
     public DiaryUser(DiaryUserId id) {
         this.id = id;
+        this.lastActivityAt = LocalDateTime.now();
     }
 }
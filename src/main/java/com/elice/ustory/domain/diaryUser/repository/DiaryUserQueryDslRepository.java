@@ -31,4 +31,9 @@ public interface DiaryUserQueryDslRepository {
 
     List<DiaryFriend> findUsersByDiaryId(Long userId,Long diaryId);
 
+    Tuple findDiaryVersion(Long userId, Long diaryId);
+
+    /** 사용자와 같은 다이어리에 속한 다른 사용자들의 id 목록 (중복 제거) */
+    List<Long> findCoMemberIds(Long userId);
+
 }
@@ -3,8 +3,28 @@ package com.elice.ustory.domain.diaryUser.repository;
 import com.elice.ustory.domain.diaryUser.entity.DiaryUser;
 import com.elice.ustory.domain.diaryUser.entity.DiaryUserId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 @Repository
 public interface DiaryUserRepository extends JpaRepository<DiaryUser, DiaryUserId>, DiaryUserQueryDslRepository {
+
+    /** 다이어리 멤버 전원의 최근 활동 시각을 갱신한다. (멤버는 최대 10명) */
+    @Modifying
+    @Query("UPDATE DiaryUser du SET du.lastActivityAt = :activityAt WHERE du.id.diary.id = :diaryId")
+    int touchLastActivity(@Param("diaryId") Long diaryId, @Param("activityAt") LocalDateTime activityAt);
+
+    /** 최근 활동 시각이 없는 기존 행을 마지막 페이퍼 작성 시각(없으면 다이어리 수정 시각)으로 채운다. */
+    @Modifying
+    @Query(value = "UPDATE diary_users du " +
+            "JOIN diary d ON d.id = du.diary_id " +
+            "LEFT JOIN (SELECT p.diary_id, MAX(p.created_at) AS last_paper_at FROM paper p " +
+            "           WHERE p.deleted_at IS NULL GROUP BY p.diary_id) lp ON lp.diary_id = du.diary_id " +
+            "SET du.last_activity_at = GREATEST(d.updated_at, COALESCE(lp.last_paper_at, d.updated_at)) " +
+            "WHERE du.last_activity_at IS NULL", nativeQuery = true)
+    int backfillLastActivity();
 }
@@ -4,12 +4,15 @@ import com.elice.ustory.domain.diary.dto.DiaryFriend;
 import com.elice.ustory.domain.diary.dto.DiaryList;
 import com.elice.ustory.domain.diary.entity.DiaryCategory;
 import com.elice.ustory.domain.diaryUser.entity.DiaryUser;
+import com.elice.ustory.domain.diaryUser.entity.QDiaryUser;
 import com.elice.ustory.domain.friend.entity.FriendStatus;
 import com.elice.ustory.domain.user.entity.Users;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Pageable;
@@ -60,15 +63,17 @@ public class DiaryUserRepositoryImpl implements DiaryUserQueryDslRepository {
         return queryFactory
                 .select(
                         Projections.constructor(DiaryList.class,
-                                diaryUser.id.diary.id,
-                                diaryUser.id.diary.name,
-                                diaryUser.id.diary.imgUrl,
-                                diaryUser.id.diary.diaryCategory
+                                diary.id,
+                                diary.name,
+                                diary.imgUrl,
+                                diary.diaryCategory
                         )
                 )
                 .from(diaryUser)
+                .join(diaryUser.id.diary, diary)
                 .where(diaryUser.id.users.id.eq(userId))
-                .orderBy(diaryUser.id.diary.updatedAt.desc())
+                // (users_id, last_activity_at) 인덱스를 역순으로 읽어 6건만 가져온 뒤 diary 를 기본 키로 조인한다.
+                .orderBy(diaryUser.lastActivityAt.desc())
                 .limit(6)
                 .fetch();
     }
@@ -164,6 +169,31 @@ public class DiaryUserRepositoryImpl implements DiaryUserQueryDslRepository {
                 .fetch();
     }
 
+    /**
+     * 다이어리 상세 응답의 ETag 계산용 조회
+     *
+     * 다이어리 수정 시각, 멤버 수, 멤버 id 합, 멤버 정보의 최신 수정 시각, 요청자가 멤버인지(1/0)를 한 번에 집계한다.
+     * 멤버가 들어오거나 나가면 수와 id 합이, 멤버의 닉네임/프로필이 바뀌면 최신 수정 시각이 달라진다.
+     */
+    @Override
+    public Tuple findDiaryVersion(Long userId, Long diaryId) {
+        NumberExpression<Long> requesterCount = new CaseBuilder()
+                .when(diaryUser.id.users.id.eq(userId)).then(1L)
+                .otherwise(0L)
+                .sum();
+
+        return queryFactory
+                .select(
+                        diaryUser.id.diary.updatedAt.max(),
+                        diaryUser.count(),
+                        diaryUser.id.users.id.sum(),
+                        diaryUser.id.users.updatedAt.max(),
+                        requesterCount
+                )
+                .from(diaryUser)
+                .where(diaryUser.id.diary.id.eq(diaryId))
+                .fetchOne();
+    }
 
     private BooleanExpression categoryEq(DiaryCategory diaryCategory) {
         return diaryCategory != null ? diaryUser.id.diary.diaryCategory.eq(diaryCategory) : null;
@@ -173,4 +203,15 @@ public class DiaryUserRepositoryImpl implements DiaryUserQueryDslRepository {
         return searchWord != null ? diaryUser.id.diary.name.contains(searchWord) : null;
     }
 
+    @Override
+    public List<Long> findCoMemberIds(Long userId) {
+        QDiaryUser member = new QDiaryUser("member");
+
+        return queryFactory.selectDistinct(member.id.users.id)
+                .from(diaryUser)
+                .join(member).on(member.id.diary.id.eq(diaryUser.id.diary.id))
+                .where(diaryUser.id.users.id.eq(userId),
+                        member.id.users.id.ne(userId))
+                .fetch();
+    }
 }
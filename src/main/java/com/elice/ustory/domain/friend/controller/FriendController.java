@@ -7,6 +7,7 @@ import com.elice.ustory.domain.friend.dto.FriendResponseDto;
 import com.elice.ustory.domain.friend.service.FriendService;
 import com.elice.ustory.global.exception.dto.ErrorResponse;
 import com.elice.ustory.global.exception.model.ValidationException;
+import com.elice.ustory.global.jwt.AuthenticatedUser;
 import com.elice.ustory.global.jwt.JwtAuthorization;
 import com.elice.ustory.global.Validation.PageableValidation;
 import io.swagger.v3.oas.annotations.Operation;
@@ -70,7 +71,7 @@ public class FriendController {
     /**
      * 친구 추가 요청을 보냅니다.
      *
-     * @param userId 요청을 보낸 사용자의 ID
+     * @param authenticatedUser 요청을 보낸 사용자
      * @param friendRequestDto 친구 요청을 받을 사용자의 닉네임
      * @return 요청 성공 여부
      */
@@ -83,9 +84,9 @@ public class FriendController {
             @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping
-    public ResponseEntity<Void> sendFriendRequest(@JwtAuthorization Long userId, @Valid @RequestBody FriendRequestDto friendRequestDto) {
+    public ResponseEntity<Void> sendFriendRequest(@JwtAuthorization AuthenticatedUser authenticatedUser, @Valid @RequestBody FriendRequestDto friendRequestDto) {
         validateNickname(friendRequestDto.getReceiverNickname());
-        friendService.sendFriendRequest(userId, friendRequestDto);
+        friendService.sendFriendRequest(authenticatedUser, friendRequestDto);
         return ResponseEntity.noContent().build();
     }
 
@@ -119,7 +120,7 @@ public class FriendController {
     /**
      * 친구 요청에 응답합니다.
      *
-     * @param userId 친구 요청을 받은 사용자의 ID
+     * @param authenticatedUser 친구 요청을 받은 사용자
      * friendRequestDto 친구 요청을 받을 사용자의 닉네임을 포함한 DTO
      * @return 응답 메시지
      */
@@ -132,9 +133,9 @@ public class FriendController {
             @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/approve")
-    public ResponseEntity<String> respondToFriendRequest(@JwtAuthorization Long userId, @Valid @RequestBody FriendResponseDto friendResponseDto) {
+    public ResponseEntity<String> respondToFriendRequest(@JwtAuthorization AuthenticatedUser authenticatedUser, @Valid @RequestBody FriendResponseDto friendResponseDto) {
         validateNickname(friendResponseDto.getSenderNickname());
-        friendService.respondToFriendRequest(userId, friendResponseDto);
+        friendService.respondToFriendRequest(authenticatedUser, friendResponseDto);
         return ResponseEntity.ok("친구요청 " + (friendResponseDto.isAccepted() ? "수락" : "거절") + "이 되었습니다.");
     }
 
@@ -13,5 +13,6 @@ public interface FriendQueryDslRepository {
     List<FriendRequestListDTO> findFriendRequests(Long userId, LocalDateTime requestTime, Pageable pageable);
     boolean existsBySenderAndReceiverAndStatus(Long senderId, Long receiverId, FriendStatus status);
     boolean existsBySenderAndReceiver(Long senderId, Long receiverId);
+    List<Long> findFriendIds(Long userId);
 }
 
@@ -93,4 +93,15 @@ public class FriendRepositoryImpl implements FriendQueryDslRepository {
                         .and(friend.id.friendId.eq(receiverId)))
                 .fetchFirst() != null;
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Long> findFriendIds(Long userId) {
+        QFriend friend = QFriend.friend;
+
+        return queryFactory.select(friend.id.friendId)
+                .from(friend)
+                .where(friend.id.userId.eq(userId),
+                        friend.status.eq(FriendStatus.ACCEPTED))
+                .fetch();
+    }
+}
@@ -12,12 +12,13 @@ import com.elice.ustory.domain.user.repository.UserRepository;
 import com.elice.ustory.global.exception.model.ConflictException;
 import com.elice.ustory.global.exception.model.NotFoundException;
 import com.elice.ustory.global.exception.model.ValidationException;
-import jakarta.transaction.Transactional;
+import com.elice.ustory.global.jwt.AuthenticatedUser;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -49,19 +50,6 @@ public class FriendService {
     }
 
 
-
-    /**
-     * 사용자 조회
-     *
-     * @param userId 사용자 ID
-     * @return Users 객체
-     */
-    private Users getUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ValidationException("잘못된 사용자 ID"));
-    }
-
-
     /**
      * 사용자의 전체 친구 리스트를 조회하거나 닉네임으로 친구를 검색합니다.
      *
@@ -70,6 +58,7 @@ public class FriendService {
      * @return 친구 목록 또는 검색된 친구 목록
      * pageable 무한 스크롤
      */
+    @Transactional(readOnly = true)
     public List<UserFriendDTO> getFriends(Long userId, String nickname, LocalDateTime requestTime ,Pageable pageable) {
 
         return friendRepository.findFriends(userId, nickname, requestTime ,pageable);
@@ -78,12 +67,11 @@ public class FriendService {
     /**
      * 친구 추가 요청을 보냅니다.
      *
-     * @param userId 요청을 보낸 사용자의 ID
+     * @param authenticatedUser 요청을 보낸 사용자
      * @param friendRequestDto 친구 요청을 받을 사용자의 닉네임
      */
-    public void sendFriendRequest(Long userId, FriendRequestDto friendRequestDto) {
-        Users sender = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Sender를 찾을 수 없습니다."));
+    public void sendFriendRequest(AuthenticatedUser authenticatedUser, FriendRequestDto friendRequestDto) {
+        Users sender = authenticatedUser.getUser();
         Users receiver = userRepository.findByNickname(friendRequestDto.getReceiverNickname())
                 .orElseThrow(() -> new NotFoundException("Receiver를 찾을 수 없습니다."));
 
@@ -118,6 +106,7 @@ public class FriendService {
      * @param userId 사용자의 ID
      * @return 친구 요청 목록
      */
+    @Transactional(readOnly = true)
     public List<FriendRequestListDTO> getFriendRequests(Long userId, LocalDateTime requestTime, Pageable pageable) {
         return friendRepository.findFriendRequests(userId, requestTime, pageable);
     }
@@ -157,15 +146,14 @@ public class FriendService {
     /**
      * 친구 요청에 응답합니다.
      *
-     * @param userId 친구 요청을 받은 사용자의 ID
+     * @param authenticatedUser 친구 요청을 받은 사용자
      * @param friendResponseDto 친구 요청을 보낸 사용자의 닉네임과 수락 거절 응답
      */
     // 응답도 userId, senderNickname 으로 해서 보내야됨
-    public void respondToFriendRequest(Long userId, FriendResponseDto friendResponseDto) {
+    public void respondToFriendRequest(AuthenticatedUser authenticatedUser, FriendResponseDto friendResponseDto) {
         Users sender = userRepository.findByNickname(friendResponseDto.getSenderNickname())
                 .orElseThrow(() -> new NotFoundException("sender를 찾을 수 없습니다."));
-        Users receiver = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("receiver를 찾을 수 없습니다."));
+        Users receiver = authenticatedUser.getUser();
 
         FriendId friendId = new FriendId(sender.getId(), receiver.getId());
 
@@ -173,7 +161,7 @@ public class FriendService {
                 .orElseThrow(() -> new NotFoundException("친구 요청을 찾을 수 없습니다."));
 
         if (friendResponseDto.isAccepted()) {
-            processAcceptedFriendRequest(friend, sender.getId(), receiver.getId());
+            processAcceptedFriendRequest(friend, sender, receiver);
         } else {
             friendRepository.delete(friend);
         }
@@ -186,18 +174,19 @@ public class FriendService {
      * 친구 요청 수락 처리 로직
      *
      * @param friend Friend 객체 (기존 친구 관계 엔티티)
-     * @param senderId 친구 요청을 보낸 사용자의 ID
-     * @param receiverId 친구 요청을 받은 사용자의 ID
+     * @param sender 친구 요청을 보낸 사용자
+     * @param receiver 친구 요청을 받은 사용자
      */
-    private void processAcceptedFriendRequest(Friend friend, Long senderId, Long receiverId) {
+    private void processAcceptedFriendRequest(Friend friend, Users sender, Users receiver) {
+        Long senderId = sender.getId();
+        Long receiverId = receiver.getId();
+
         // 기존 친구 관계의 상태를 ACCEPTED로 업데이트
         friend.updateStatus(FriendStatus.ACCEPTED);
         friendRepository.save(friend);
 
 
         // 반대 방향 친구 관계도 추가 (sender와 receiver를 반대로 설정)
-        Users sender = getUserById(senderId);
-        Users receiver = getUserById(receiverId);
         FriendId reverseFriendId = new FriendId(receiverId, senderId);
 
         Friend reverseFriend = Friend.builder()
@@ -5,6 +5,7 @@ import com.elice.ustory.domain.great.dto.GreatListResponse;
 import com.elice.ustory.domain.great.dto.GreatResponse;
 import com.elice.ustory.domain.paper.entity.Paper;
 import com.elice.ustory.global.exception.dto.ErrorResponse;
+import com.elice.ustory.global.jwt.AuthenticatedUser;
 import com.elice.ustory.global.jwt.JwtAuthorization;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -47,9 +48,9 @@ public class GreatController {
     })
     @PostMapping("/{paperId}/great")
     public ResponseEntity<Void> saveGreat(@PathVariable Long paperId,
-                                         @JwtAuthorization Long userId) {
+                                         @JwtAuthorization AuthenticatedUser authenticatedUser) {
 
-        greatService.saveGreat(userId, paperId);
+        greatService.saveGreat(authenticatedUser, paperId);
 
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
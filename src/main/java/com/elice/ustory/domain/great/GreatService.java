@@ -4,13 +4,17 @@ import com.elice.ustory.domain.great.entity.Great;
 import com.elice.ustory.domain.great.repository.GreatRepository;
 import com.elice.ustory.domain.paper.entity.Paper;
 import com.elice.ustory.domain.paper.repository.PaperRepository;
+import com.elice.ustory.domain.recommand.RecommendCardService;
+import com.elice.ustory.domain.recommand.TrendingPlaceService;
 import com.elice.ustory.domain.user.entity.Users;
-import com.elice.ustory.domain.user.repository.UserRepository;
+import com.elice.ustory.domain.user.service.UserStatsService;
 import com.elice.ustory.global.exception.model.ConflictException;
 import com.elice.ustory.global.exception.model.NotFoundException;
+import com.elice.ustory.global.jwt.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -18,19 +22,21 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GreatService {
 
-    private static final String NOT_FOUND_USER_MESSAGE = "%d: 해당하는 사용자가 존재하지 않습니다.";
     private static final String NOT_FOUND_PAPER_MESSAGE = "%d: 해당하는 페이퍼가 존재하지 않습니다.";
     private static final String NOT_FOUND_GREAT_MESSAGE = "해당하는 좋아요가 존재하지 않습니다.";
     private static final String CONFLICT_GREAT_MESSAGE = "이미 좋아요로 지정되어 있습니다.";
 
     private final GreatRepository greatRepository;
-    private final UserRepository userRepository;
     private final PaperRepository paperRepository;
+    private final UserStatsService userStatsService;
+    private final TrendingPlaceService trendingPlaceService;
+    private final RecommendCardService recommendCardService;
 
-    public Great saveGreat(Long userId, Long paperId) {
+    @Transactional
+    public Great saveGreat(AuthenticatedUser authenticatedUser, Long paperId) {
 
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_USER_MESSAGE, userId)));
+        Long userId = authenticatedUser.getId();
+        Users user = authenticatedUser.getUser();
 
         Paper paper = paperRepository.findById(paperId)
                 .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_PAPER_MESSAGE, paperId)));
@@ -39,8 +45,11 @@ public class GreatService {
             throw new ConflictException(CONFLICT_GREAT_MESSAGE);
         }
 
-        Great great = new Great(user, paper);
-        return greatRepository.save(great);
+        Great great = greatRepository.save(new Great(user, paper));
+        userStatsService.changeGreatReceivedCount(paper.getWriter().getId(), 1);
+        trendingPlaceService.recordLikeAfterCommit(paper.getAddress().getPlace());
+        recommendCardService.changeGreatCountAfterCommit(paperId, 1);
+        return great;
 
     }
 
@@ -58,11 +67,15 @@ public class GreatService {
     }
 
     /** 좋아요 삭제 메서드 */
+    @Transactional
     public void deleteGreat(Long userId, Long paperId) {
         Great great = greatRepository.findByUserIdAndPaperId(userId, paperId)
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_GREAT_MESSAGE));
 
         greatRepository.delete(great);
+        userStatsService.changeGreatReceivedCount(great.getPaper().getWriter().getId(), -1);
+        trendingPlaceService.cancelLikeAfterCommit(great.getPaper().getAddress().getPlace(), great.getCreatedAt());
+        recommendCardService.changeGreatCountAfterCommit(paperId, -1);
     }
 
     /** 좋아요 총 개수 반환 메서드 **/
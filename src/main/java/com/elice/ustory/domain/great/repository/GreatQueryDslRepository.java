@@ -1,6 +1,7 @@
 package com.elice.ustory.domain.great.repository;
 
 import com.elice.ustory.domain.paper.entity.Paper;
+import com.querydsl.core.Tuple;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -16,4 +17,7 @@ public interface GreatQueryDslRepository {
     List<Paper> findGreatsByUserId(Long userId, Pageable pageable);
 
     Integer countGreatById(Long paperId);
+
+    /** paperIds 의 좋아요 수를 [Paper id, 좋아요 수] 로 한 번에 불러온다. 좋아요가 없는 Paper 는 포함되지 않는다. */
+    List<Tuple> countGreatsByPaperIds(List<Long> paperIds);
 }
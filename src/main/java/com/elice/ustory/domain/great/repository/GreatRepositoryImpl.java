@@ -1,6 +1,7 @@
 package com.elice.ustory.domain.great.repository;
 
 import com.elice.ustory.domain.paper.entity.Paper;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -46,4 +47,13 @@ public class GreatRepositoryImpl implements GreatQueryDslRepository {
                 .where(great.paper.id.eq(paperId))
                 .fetchOne();
     }
+
+    @Override
+    public List<Tuple> countGreatsByPaperIds(List<Long> paperIds) {
+        return queryFactory.select(great.paper.id, great.count())
+                .from(great)
+                .where(great.paper.id.in(paperIds))
+                .groupBy(great.paper.id)
+                .fetch();
+    }
 }
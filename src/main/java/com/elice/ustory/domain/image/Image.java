@@ -1,13 +1,13 @@
 package com.elice.ustory.domain.image;
 
 import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.global.entity.TimeOrderedId;
 import com.elice.ustory.global.exception.ErrorCode;
 import com.elice.ustory.global.exception.model.ValidationException;
+import com.elice.ustory.global.util.ValidationUtils;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ForeignKey;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -16,8 +16,6 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.stream.Stream;
-
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -28,7 +26,7 @@ public class Image {
     private static final String SUBFIX_NOT_MATCH = "이미지의 확장자를 확인하여 주세요. (.jpg, .jpeg, .png, .gif)";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne
@@ -51,6 +49,10 @@ public class Image {
         return this;
     }
 
+    public boolean isSameUrl(String imageUrl) {
+        return this.imageUrl.equals(imageUrl);
+    }
+
     public void setPaper(Paper paper){
         this.paper = paper;
 
@@ -76,13 +78,11 @@ public class Image {
     }
 
     private String validateUrl(String validateTarget) {
-        String[] suffixes = {".jpg", ".jpeg", ".png", ".gif"};
-
-        if (!validateTarget.startsWith("https://")) {
+        if (!ValidationUtils.isHttps(validateTarget)) {
             throw new ValidationException("이미지의 시작은 https:// 입니다.", ErrorCode.VALIDATION_PARAMETER_EXCEPTION);
         }
 
-        if (Stream.of(suffixes).noneMatch(validateTarget::endsWith)) {
+        if (!ValidationUtils.hasImageSuffix(validateTarget)) {
             throw new ValidationException(SUBFIX_NOT_MATCH, ErrorCode.PARAMETER_INCORRECT_FORMAT);
         }
 
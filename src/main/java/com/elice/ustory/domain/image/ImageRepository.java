@@ -15,4 +15,6 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
      * @return
      */
     List<Image> findByPaperIdOrderBySequenceAsc(Long paperId);
+
+    List<Image> findByPaperIdInOrderBySequenceAsc(List<Long> paperIds);
 }
@@ -4,8 +4,16 @@ import com.elice.ustory.domain.paper.entity.Paper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Paper 에 속한 Image 저장/수정
+ *
+ * 이미지 id 는 INSERT 전에 애플리케이션에서 할당되므로(TimeOrderedId) 새 이미지들은 saveAll 로 한 번의 JDBC 배치로 INSERT 된다.
+ * 수정 시에는 기존 이미지와 순서대로 비교하여 URL 이 바뀐 이미지만 UPDATE 하고,
+ * 추가분은 배치 INSERT, 남는 이미지는 orphanRemoval 에 의한 배치 DELETE 로 처리한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class ImageService {
@@ -14,46 +22,38 @@ public class ImageService {
 
     public void createImages(List<Image> images, Paper paper) {
         for (Image image : images) {
-            createImage(image, paper);
+            image.setPaper(paper);
         }
+        imageRepository.saveAll(images);
     }
 
-    private Image createImage(Image image, Paper paper) {
-        image.setPaper(paper);
-        return imageRepository.save(image);
-    }
-
-    public void updateImages(Paper paper, List<Image> images) {
-        List<Image> savedImages = findImagesByPaperId(paper.getId());
-
-        updateExistingImages(savedImages, images);
+    /**
+     * 요청된 이미지 목록과 저장된 이미지 목록(sequence 순)을 비교하여 변경분만 반영한다.
+     */
+    public void updateImages(Paper paper, List<Image> newImages) {
+        List<Image> savedImages = paper.getImages();
 
-        if (savedImages.size() < images.size()) {
-            updateNewImages(savedImages.size(), images,  paper);
-        }
-    }
+        int newImageSize = newImages.size();
+        int savedImageSize = savedImages.size();
 
-    private List<Image> findImagesByPaperId(Long paperId) {
-        return imageRepository.findByPaperIdOrderBySequenceAsc(paperId);
-    }
-
-    private void updateExistingImages(List<Image> savedImages, List<Image> newImages) {
-        for (int i = 0; i < savedImages.size(); i++) {
+        // 같은 위치의 이미지는 URL 이 바뀐 경우에만 덮어쓴다.
+        for (int i = 0; i < Math.min(newImageSize, savedImageSize); i++) {
             Image savedImage = savedImages.get(i);
+            String newImageUrl = newImages.get(i).getImageUrl();
 
-            if (newImages.size() <= i) {
-                imageRepository.delete(savedImage);
-                continue;
+            if (!savedImage.isSameUrl(newImageUrl)) {
+                savedImage.update(newImageUrl);
             }
+        }
 
-            savedImage.update(newImages.get(i).getImageUrl());
+        // 늘어난 이미지는 한 번에 저장한다.
+        if (savedImageSize < newImageSize) {
+            createImages(new ArrayList<>(newImages.subList(savedImageSize, newImageSize)), paper);
         }
-    }
 
-    private void updateNewImages(int savedImageSize, List<Image> newImages, Paper paper) {
-        for (int i = savedImageSize; i < newImages.size(); i++) {
-            Image newImage = newImages.get(i);
-            createImage(newImage, paper);
+        // 줄어든 이미지는 컬렉션에서 제거하면 flush 시점에 orphanRemoval 로 함께 삭제된다.
+        for (int i = savedImageSize - 1; i >= newImageSize; i--) {
+            savedImages.remove(i);
         }
     }
 }
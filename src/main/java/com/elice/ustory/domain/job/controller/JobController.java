@@ -0,0 +1,72 @@
+package com.elice.ustory.domain.job.controller;
+
+import com.elice.ustory.domain.job.dto.JobRunResponse;
+import com.elice.ustory.domain.job.dto.JobSummaryResponse;
+import com.elice.ustory.domain.job.service.JobService;
+import com.elice.ustory.global.exception.dto.ErrorResponse;
+import com.elice.ustory.global.jwt.JwtAuthorization;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Admin Job API")
+@RestController
+@RequestMapping("/admin/jobs")
+@RequiredArgsConstructor
+public class JobController {
+
+    private final JobService jobService;
+
+    @Operation(summary = "Get Jobs", description = "예약 작업 목록과 작업별 마지막 실행, 평균 소요 시간을 보여줍니다. <br> 관리자만 사용할 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = JobSummaryResponse.class)))),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping
+    public ResponseEntity<List<JobSummaryResponse>> getJobs(@JwtAuthorization Long userId) {
+        List<JobSummaryResponse> jobs = jobService.getJobs(userId);
+        return ResponseEntity.ok(jobs);
+    }
+
+    @Operation(summary = "Get Job Runs", description = "작업의 실행 기록을 최근 순으로 보여줍니다. <br> 관리자만 사용할 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = JobRunResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{jobName}/runs")
+    public ResponseEntity<List<JobRunResponse>> getRuns(@JwtAuthorization Long userId,
+                                                        @PathVariable("jobName") String jobName,
+                                                        @RequestParam(name = "size", defaultValue = "20") int size) {
+        List<JobRunResponse> runs = jobService.getRuns(userId, jobName, size);
+        return ResponseEntity.ok(runs);
+    }
+
+    @Operation(summary = "Run Job", description = "작업을 바로 실행합니다. 실행은 백그라운드에서 진행되며 시작한 실행 기록을 반환합니다. <br> 다른 인스턴스에서 실행 중이면 409 를 반환합니다. <br> 관리자만 사용할 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Accepted", content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobRunResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Conflict", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/{jobName}/run")
+    public ResponseEntity<JobRunResponse> runJob(@JwtAuthorization Long userId,
+                                                 @PathVariable("jobName") String jobName) {
+        JobRunResponse run = jobService.runManually(userId, jobName);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(run);
+    }
+}
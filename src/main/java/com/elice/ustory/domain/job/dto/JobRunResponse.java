@@ -0,0 +1,56 @@
+package com.elice.ustory.domain.job.dto;
+
+import com.elice.ustory.domain.job.entity.JobRun;
+import com.elice.ustory.domain.job.entity.JobRunStatus;
+import com.elice.ustory.domain.job.entity.JobTrigger;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class JobRunResponse {
+
+    @Schema(description = "실행 Id", example = "612345678901234567")
+    private Long runId;
+
+    @Schema(description = "작업 이름", example = "recommend-rebuild")
+    private String jobName;
+
+    @Schema(description = "실행 방식 (SCHEDULED: 예약, MANUAL: 관리자 실행)", example = "SCHEDULED")
+    private JobTrigger trigger;
+
+    @Schema(description = "실행한 관리자 Id (예약 실행이면 null)", example = "1")
+    private Long triggeredBy;
+
+    @Schema(description = "실행한 인스턴스", example = "12345@ip-10-0-1-23")
+    private String owner;
+
+    @Schema(description = "상태 (RUNNING, SUCCEEDED, FAILED)", example = "SUCCEEDED")
+    private JobRunStatus status;
+
+    @Schema(description = "시작 시각", example = "2024-06-03T00:00:00")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 시각", example = "2024-06-03T00:01:12")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "소요 시간(ms)", example = "72031")
+    private Long durationMillis;
+
+    @Schema(description = "처리 결과 요약 또는 실패 사유", example = "places: 100, saved: 97, papers: 1843, chunks: 1, db: 41ms, redis: 6ms, total: 63ms")
+    private String message;
+
+    public JobRunResponse(JobRun run) {
+        this.runId = run.getId();
+        this.jobName = run.getJobName();
+        this.trigger = run.getTrigger();
+        this.triggeredBy = run.getTriggeredBy();
+        this.owner = run.getOwner();
+        this.status = run.getStatus();
+        this.startedAt = run.getStartedAt();
+        this.finishedAt = run.getFinishedAt();
+        this.durationMillis = run.getDurationMillis();
+        this.message = run.getMessage();
+    }
+}
@@ -0,0 +1,28 @@
+package com.elice.ustory.domain.job.dto;
+
+import com.elice.ustory.domain.job.entity.JobRun;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class JobSummaryResponse {
+
+    @Schema(description = "작업 이름", example = "recommend-rebuild")
+    private String jobName;
+
+    @Schema(description = "마지막 실행")
+    private JobRunResponse lastRun;
+
+    @Schema(description = "마지막 성공 실행")
+    private JobRunResponse lastSucceededRun;
+
+    @Schema(description = "최근 성공 실행의 평균 소요 시간(ms)", example = "68410")
+    private Long averageDurationMillis;
+
+    public JobSummaryResponse(String jobName, JobRun lastRun, JobRun lastSucceededRun, Long averageDurationMillis) {
+        this.jobName = jobName;
+        this.lastRun = lastRun == null ? null : new JobRunResponse(lastRun);
+        this.lastSucceededRun = lastSucceededRun == null ? null : new JobRunResponse(lastSucceededRun);
+        this.averageDurationMillis = averageDurationMillis;
+    }
+}
@@ -0,0 +1,95 @@
+package com.elice.ustory.domain.job.entity;
+
+import com.elice.ustory.global.entity.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 실행 기록
+ *
+ * 잠금을 잡은 인스턴스만 기록을 남기므로 한 작업의 RUNNING 기록은 많아야 하나다.
+ * 실행하는 동안 잠금을 연장할 때마다 renewed_at 을 갱신한다.
+ * 실행 중에 인스턴스가 죽어 renewed_at 이 잠금 TTL 보다 오래된 RUNNING 기록은 다음 실행이 시작될 때 FAILED 로 정리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "job_run", indexes = @Index(name = "IDX_JOB_RUN_NAME", columnList = "job_name, id"))
+public class JobRun {
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, columnDefinition = "VARCHAR(50)")
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "run_trigger", nullable = false, columnDefinition = "VARCHAR(10)")
+    private JobTrigger trigger;
+
+    @Column(name = "triggered_by")
+    private Long triggeredBy;
+
+    @Column(name = "owner", nullable = false, columnDefinition = "VARCHAR(100)")
+    private String owner;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, columnDefinition = "VARCHAR(10)")
+    private JobRunStatus status;
+
+    @Column(name = "started_at", nullable = false, columnDefinition = "DATETIME")
+    private LocalDateTime startedAt;
+
+    @Column(name = "renewed_at", nullable = false, columnDefinition = "DATETIME")
+    private LocalDateTime renewedAt;
+
+    @Column(name = "finished_at", columnDefinition = "DATETIME")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_millis")
+    private Long durationMillis;
+
+    @Column(name = "message", columnDefinition = "VARCHAR(500)")
+    private String message;
+
+    @Builder(builderMethodName = "createBuilder")
+    public JobRun(String jobName, JobTrigger trigger, Long triggeredBy, String owner) {
+        this.jobName = jobName;
+        this.trigger = trigger;
+        this.triggeredBy = triggeredBy;
+        this.owner = owner;
+        this.status = JobRunStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+        this.renewedAt = this.startedAt;
+    }
+
+    public void markSucceeded(long durationMillis, String summary) {
+        finish(JobRunStatus.SUCCEEDED, durationMillis, summary);
+    }
+
+    public void markFailed(long durationMillis, String message) {
+        finish(JobRunStatus.FAILED, durationMillis, message);
+    }
+
+    private void finish(JobRunStatus status, long durationMillis, String message) {
+        this.status = status;
+        this.finishedAt = LocalDateTime.now();
+        this.durationMillis = durationMillis;
+        this.message = truncate(message);
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
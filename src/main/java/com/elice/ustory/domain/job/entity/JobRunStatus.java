@@ -0,0 +1,12 @@
+package com.elice.ustory.domain.job.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum JobRunStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+}
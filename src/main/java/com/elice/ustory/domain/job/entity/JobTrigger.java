@@ -0,0 +1,11 @@
+package com.elice.ustory.domain.job.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum JobTrigger {
+    SCHEDULED,
+    MANUAL;
+}
@@ -0,0 +1,41 @@
+package com.elice.ustory.domain.job.repository;
+
+import com.elice.ustory.domain.job.entity.JobRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    /** 최근 실행 기록부터 불러온다. (id 는 생성 시각 순서) */
+    List<JobRun> findByJobNameOrderByIdDesc(String jobName, Pageable pageable);
+
+    /** 실행 중인 기록의 잠금 연장 시각을 갱신한다. */
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobRun r SET r.renewedAt = :now " +
+            "WHERE r.id = :id AND r.status = com.elice.ustory.domain.job.entity.JobRunStatus.RUNNING")
+    int markRenewed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 끝나지 않은 채 남은 실행 기록을 FAILED 로 바꾼다.
+     * 작업 잠금을 잡은 직후에 호출한다. 잠금을 잃은 인스턴스가 아직 실행 중일 수 있으므로
+     * 잠금 연장이 staleBefore 이전에 멈춘, 즉 임대가 확실히 만료된 기록만 정리한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobRun r SET r.status = com.elice.ustory.domain.job.entity.JobRunStatus.FAILED, " +
+            "r.finishedAt = :now, r.message = :message " +
+            "WHERE r.jobName = :jobName AND r.status = com.elice.ustory.domain.job.entity.JobRunStatus.RUNNING " +
+            "AND r.renewedAt < :staleBefore")
+    int markAbandoned(@Param("jobName") String jobName, @Param("now") LocalDateTime now,
+                      @Param("staleBefore") LocalDateTime staleBefore, @Param("message") String message);
+}
@@ -0,0 +1,23 @@
+package com.elice.ustory.domain.job.service;
+
+/**
+ * 클러스터에서 한 번에 한 인스턴스만 실행해야 하는 작업
+ *
+ * 빈으로 등록하면 JobService 가 cron 에 맞춰 예약하고, 잠금을 잡은 인스턴스에서만 실행한 뒤 실행 기록을 남긴다.
+ */
+public interface ClusterJob {
+
+    /** 작업 이름. 잠금 키와 실행 기록, 수동 실행 API 경로에 사용한다. */
+    String getName();
+
+    /** 예약 실행 cron 식 */
+    String getCron();
+
+    /**
+     * 공유 데이터를 쓰기 직전에는 lease.checkHeld() 로 잠금을 아직 잡고 있는지 확인한다.
+     * 잠금을 잃으면 실행 스레드가 interrupt 된다.
+     *
+     * @return 실행 기록에 남길 처리 결과 요약 (없으면 null)
+     */
+    String execute(JobLease lease);
+}
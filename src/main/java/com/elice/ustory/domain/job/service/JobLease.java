@@ -0,0 +1,102 @@
+package com.elice.ustory.domain.job.service;
+
+import com.elice.ustory.global.exception.model.ConflictException;
+import com.elice.ustory.global.redis.lock.LeaseLockService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Future;
+
+/**
+ * 실행 중인 작업이 잡고 있는 임대 잠금
+ *
+ * 연장에 실패해 잠금을 잃으면 작업 스레드를 interrupt 해서 멈추게 한다.
+ * 작업은 공유 데이터를 쓰기 직전에 checkHeld() 를 호출해서, 잠금을 잃은 뒤 새로 잠금을 잡은 인스턴스의 결과를 덮어쓰지 않게 한다.
+ */
+@Slf4j
+public class JobLease {
+
+    private static final String LEASE_LOST_MESSAGE = "%s: 작업 잠금을 잃어 실행을 중단합니다.";
+
+    private final LeaseLockService leaseLockService;
+    private final String lockKey;
+    private final String token;
+    private final Duration ttl;
+
+    private volatile boolean lost;
+    private volatile Future<?> renewal;
+    private volatile Future<?> execution;
+
+    JobLease(LeaseLockService leaseLockService, String lockKey, String token, Duration ttl) {
+        this.leaseLockService = leaseLockService;
+        this.lockKey = lockKey;
+        this.token = token;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 잠금을 아직 잡고 있는지 Redis 에서 토큰으로 확인하고 TTL 을 다시 채운다.
+     * 공유 데이터를 쓰기 직전에 호출한다.
+     *
+     * @throws ConflictException 잠금을 잃은 경우
+     */
+    public void checkHeld() {
+        if (!renew()) {
+            throw new ConflictException(String.format(LEASE_LOST_MESSAGE, lockKey));
+        }
+    }
+
+    public boolean isLost() {
+        return lost;
+    }
+
+    /**
+     * @return 잠금을 잃었으면 false. 잃은 잠금은 다시 잡지 않는다.
+     */
+    boolean renew() {
+        if (lost) {
+            return false;
+        }
+        if (leaseLockService.renew(lockKey, token, ttl)) {
+            return true;
+        }
+
+        lost = true;
+        log.warn("[JobLease] 작업 잠금을 잃어 실행을 중단함 key: {}", lockKey);
+        cancel();
+        return false;
+    }
+
+    /** 주기적인 연장을 멈추고 잠금을 푼다. */
+    void release() {
+        stopRenewal();
+        leaseLockService.release(lockKey, token);
+    }
+
+    void attachRenewal(Future<?> renewal) {
+        this.renewal = renewal;
+    }
+
+    // 실행을 넘겨받기 전에 잠금을 잃었을 수 있으므로 등록한 뒤에 한 번 더 확인한다.
+    void attachExecution(Future<?> execution) {
+        this.execution = execution;
+        if (lost) {
+            cancel();
+        }
+    }
+
+    void stopRenewal() {
+        Future<?> current = renewal;
+        if (current != null) {
+            current.cancel(false);
+        }
+    }
+
+    private void cancel() {
+        stopRenewal();
+        Future<?> current = execution;
+        if (current != null) {
+            current.cancel(true);
+        }
+    }
+}
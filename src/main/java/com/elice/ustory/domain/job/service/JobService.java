@@ -0,0 +1,287 @@
+package com.elice.ustory.domain.job.service;
+
+import com.elice.ustory.domain.job.dto.JobRunResponse;
+import com.elice.ustory.domain.job.dto.JobSummaryResponse;
+import com.elice.ustory.domain.job.entity.JobRun;
+import com.elice.ustory.domain.job.entity.JobRunStatus;
+import com.elice.ustory.domain.job.entity.JobTrigger;
+import com.elice.ustory.domain.job.repository.JobRunRepository;
+import com.elice.ustory.global.exception.model.ConflictException;
+import com.elice.ustory.global.exception.model.ForbiddenException;
+import com.elice.ustory.global.exception.model.NotFoundException;
+import com.elice.ustory.global.exception.model.ValidationException;
+import com.elice.ustory.global.redis.lock.LeaseLockService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 인스턴스에서 같은 시각에 실행되는 예약 작업을 한 인스턴스만 실행하도록 조율한다.
+ *
+ * 작업마다 Redis 임대 잠금(JobLease:{작업 이름})을 잡은 인스턴스만 실행하고, 실행하는 동안 TTL 의 1/3 마다 임대를 연장하며 job_run 의 renewed_at 을 갱신한다.
+ * 연장에 실패해 잠금을 잃으면 작업을 interrupt 하고, 작업은 쓰기 직전에 JobLease.checkHeld() 로 잠금을 다시 확인한다.
+ * 실행이 끝나면 성공, 실패와 관계없이 잠금을 바로 푼다.
+ * 시계가 조금 늦은 인스턴스가 같은 회차를 다시 실행하지 않도록, duplicate-window 안에 시작해 실패하지 않은 예약 실행이 있으면 예약 실행을 건너뛴다.
+ * 실행마다 job_run 에 트리거, 인스턴스, 결과, 소요 시간을 기록한다.
+ */
+@Slf4j
+@Service
+public class JobService implements SchedulingConfigurer {
+
+    public static final int MAX_HISTORY_SIZE = 100;
+
+    private static final String LOCK_KEY_PREFIX = "JobLease:";
+    private static final String THREAD_NAME_PREFIX = "cluster-job-";
+    private static final int SUMMARY_HISTORY_SIZE = 20;
+
+    private static final String NOT_FOUND_JOB_MESSAGE = "%s: 해당하는 작업이 존재하지 않습니다.";
+    private static final String ALREADY_RUNNING_MESSAGE = "%s: 다른 인스턴스에서 이미 실행 중인 작업입니다.";
+    private static final String NOT_ADMIN_MESSAGE = "관리자만 사용할 수 있습니다.";
+    private static final String INVALID_SIZE_MESSAGE = "사이즈는 1 이상 " + MAX_HISTORY_SIZE + " 이하여야 합니다.";
+    private static final String ABANDONED_MESSAGE = "실행 중이던 인스턴스가 종료되어 완료되지 않았습니다.";
+    private static final String LEASE_LOST_MESSAGE = "작업 잠금을 잃어 실행을 중단했습니다.";
+
+    private final Map<String, ClusterJob> jobs = new TreeMap<>();
+    private final JobRunRepository jobRunRepository;
+    private final LeaseLockService leaseLockService;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService leaseRenewer;
+    private final Duration leaseTtl;
+    private final Duration duplicateWindow;
+    private final Set<Long> adminUserIds;
+    private final String owner;
+
+    public JobService(List<ClusterJob> clusterJobs,
+                      JobRunRepository jobRunRepository,
+                      LeaseLockService leaseLockService,
+                      @Value("${ustory.jobs.lease-ttl-seconds:60}") long leaseTtlSeconds,
+                      @Value("${ustory.jobs.duplicate-window-seconds:300}") long duplicateWindowSeconds,
+                      @Value("${ustory.admin.user-ids:}") Set<Long> adminUserIds,
+                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        for (ClusterJob job : clusterJobs) {
+            jobs.put(job.getName(), job);
+        }
+        this.jobRunRepository = jobRunRepository;
+        this.leaseLockService = leaseLockService;
+        this.leaseTtl = Duration.ofSeconds(leaseTtlSeconds);
+        this.duplicateWindow = Duration.ofSeconds(duplicateWindowSeconds);
+        this.adminUserIds = adminUserIds;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName();
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory())
+                : Executors.newCachedThreadPool(new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("job-lease-"));
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdown();
+        leaseRenewer.shutdown();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        for (ClusterJob job : jobs.values()) {
+            registrar.addCronTask(() -> runScheduled(job), job.getCron());
+        }
+    }
+
+    /**
+     * 예약 시각에 호출한다. 다른 인스턴스가 먼저 실행했으면 아무것도 하지 않는다.
+     */
+    private void runScheduled(ClusterJob job) {
+        try {
+            if (start(job, JobTrigger.SCHEDULED, null).isEmpty()) {
+                log.debug("[JobService] 다른 인스턴스가 실행 중이거나 이미 실행함 job: {}", job.getName());
+            }
+        } catch (RuntimeException e) {
+            log.warn("[JobService] 예약 작업 시작 실패 job: {}", job.getName(), e);
+        }
+    }
+
+    /**
+     * 관리자가 작업을 바로 실행한다. 실행은 백그라운드에서 하고 시작한 실행 기록을 반환한다.
+     */
+    public JobRunResponse runManually(Long userId, String jobName) {
+        checkAdmin(userId);
+
+        ClusterJob job = findJob(jobName);
+        return start(job, JobTrigger.MANUAL, userId)
+                .map(JobRunResponse::new)
+                .orElseThrow(() -> new ConflictException(String.format(ALREADY_RUNNING_MESSAGE, jobName)));
+    }
+
+    public List<JobSummaryResponse> getJobs(Long userId) {
+        checkAdmin(userId);
+
+        return jobs.keySet().stream()
+                .map(jobName -> {
+                    List<JobRun> recent = jobRunRepository.findByJobNameOrderByIdDesc(jobName, PageRequest.of(0, SUMMARY_HISTORY_SIZE));
+                    return new JobSummaryResponse(jobName, recent.isEmpty() ? null : recent.get(0),
+                            lastSucceeded(recent), averageDurationMillis(recent));
+                })
+                .toList();
+    }
+
+    public List<JobRunResponse> getRuns(Long userId, String jobName, int size) {
+        checkAdmin(userId);
+        findJob(jobName);
+
+        if (size < 1 || size > MAX_HISTORY_SIZE) {
+            throw new ValidationException(INVALID_SIZE_MESSAGE);
+        }
+
+        return jobRunRepository.findByJobNameOrderByIdDesc(jobName, PageRequest.of(0, size)).stream()
+                .map(JobRunResponse::new)
+                .toList();
+    }
+
+    // 잠금을 잡고 실행 기록을 남긴 뒤 백그라운드에서 실행한다. 잠금을 잡지 못하거나 같은 회차를 이미 실행했으면 빈 값
+    private Optional<JobRun> start(ClusterJob job, JobTrigger trigger, Long triggeredBy) {
+        String lockKey = LOCK_KEY_PREFIX + job.getName();
+        Optional<String> token = leaseLockService.tryAcquire(lockKey, leaseTtl);
+        if (token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        JobLease lease = new JobLease(leaseLockService, lockKey, token.get(), leaseTtl);
+        try {
+            // 잠금이 만료되었어도 연장이 멈춘 지 TTL 이 지나지 않은 기록은 아직 실행 중일 수 있으므로 남겨 둔다.
+            LocalDateTime now = LocalDateTime.now();
+            jobRunRepository.markAbandoned(job.getName(), now, now.minus(leaseTtl), ABANDONED_MESSAGE);
+
+            if (trigger == JobTrigger.SCHEDULED && isAlreadyRun(job, now)) {
+                lease.release();
+                return Optional.empty();
+            }
+
+            JobRun run = jobRunRepository.save(JobRun.createBuilder()
+                    .jobName(job.getName())
+                    .trigger(trigger)
+                    .triggeredBy(triggeredBy)
+                    .owner(owner)
+                    .build());
+
+            long renewMillis = leaseTtl.toMillis() / 3;
+            lease.attachRenewal(leaseRenewer.scheduleAtFixedRate(() -> renewLease(run, lease),
+                    renewMillis, renewMillis, TimeUnit.MILLISECONDS));
+            lease.attachExecution(executor.submit(() -> execute(job, run, lease)));
+            return Optional.of(run);
+        } catch (RuntimeException e) {
+            lease.release();
+            if (e instanceof RejectedExecutionException) {
+                log.warn("[JobService] 작업을 실행하지 못함 job: {}", job.getName(), e);
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    // 시계가 늦은 인스턴스가 앞선 인스턴스가 끝낸 같은 회차를 다시 잡은 경우
+    private boolean isAlreadyRun(ClusterJob job, LocalDateTime now) {
+        LocalDateTime windowStart = now.minus(duplicateWindow);
+        return jobRunRepository.findByJobNameOrderByIdDesc(job.getName(), PageRequest.of(0, 1)).stream()
+                .anyMatch(last -> last.getTrigger() == JobTrigger.SCHEDULED
+                        && last.getStatus() != JobRunStatus.FAILED
+                        && last.getStartedAt().isAfter(windowStart));
+    }
+
+    private void execute(ClusterJob job, JobRun run, JobLease lease) {
+        long startedAt = System.nanoTime();
+        try {
+            String summary = job.execute(lease);
+            if (lease.isLost()) {
+                run.markFailed(elapsedMillis(startedAt), LEASE_LOST_MESSAGE);
+            } else {
+                run.markSucceeded(elapsedMillis(startedAt), summary);
+            }
+            log.info("[JobService] 작업 종료 job: {}, trigger: {}, status: {}, {}ms",
+                    job.getName(), run.getTrigger(), run.getStatus(), run.getDurationMillis());
+        } catch (RuntimeException e) {
+            run.markFailed(elapsedMillis(startedAt), lease.isLost() ? LEASE_LOST_MESSAGE : e.getMessage());
+            log.warn("[JobService] 작업 실패 job: {}, trigger: {}, {}ms", job.getName(), run.getTrigger(), run.getDurationMillis(), e);
+        } finally {
+            // 잠금을 잃어 interrupt 된 경우 실행 기록 저장이 끊기지 않도록 interrupt 상태를 지운다.
+            Thread.interrupted();
+            finish(run, lease);
+        }
+    }
+
+    private void finish(JobRun run, JobLease lease) {
+        lease.stopRenewal();
+        try {
+            jobRunRepository.save(run);
+        } catch (RuntimeException e) {
+            log.warn("[JobService] 실행 기록 저장 실패 job: {}, runId: {}", run.getJobName(), run.getId(), e);
+        }
+
+        try {
+            lease.release();
+        } catch (RuntimeException e) {
+            log.warn("[JobService] 작업 잠금 해제 실패 job: {} (TTL 이 지나면 풀림)", run.getJobName(), e);
+        }
+    }
+
+    private void renewLease(JobRun run, JobLease lease) {
+        try {
+            if (lease.renew()) {
+                jobRunRepository.markRenewed(run.getId(), LocalDateTime.now());
+            }
+        } catch (RuntimeException e) {
+            log.warn("[JobService] 작업 잠금 연장 실패 job: {}", run.getJobName(), e);
+        }
+    }
+
+    private ClusterJob findJob(String jobName) {
+        ClusterJob job = jobs.get(jobName);
+        if (job == null) {
+            throw new NotFoundException(String.format(NOT_FOUND_JOB_MESSAGE, jobName));
+        }
+        return job;
+    }
+
+    private void checkAdmin(Long userId) {
+        if (!adminUserIds.contains(userId)) {
+            throw new ForbiddenException(NOT_ADMIN_MESSAGE);
+        }
+    }
+
+    private static JobRun lastSucceeded(List<JobRun> recent) {
+        return recent.stream()
+                .filter(run -> run.getStatus() == JobRunStatus.SUCCEEDED)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Long averageDurationMillis(List<JobRun> recent) {
+        OptionalDouble average = recent.stream()
+                .filter(run -> run.getStatus() == JobRunStatus.SUCCEEDED)
+                .mapToLong(JobRun::getDurationMillis)
+                .average();
+        return average.isPresent() ? Math.round(average.getAsDouble()) : null;
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+}
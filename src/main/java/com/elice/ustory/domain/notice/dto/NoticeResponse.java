@@ -41,14 +41,14 @@ public class NoticeResponse {
 
         // MessageType을 보고 paperId를 set해줘.
         switch (notice.getMessageType()) {
-            case 2, 4 -> this.paperId = notice.getRequestId();
+            case 2, 4, 5 -> this.paperId = notice.getRequestId();
         }
 
         //MessageType을 보고 type을 지정해라.
         switch (notice.getMessageType()) {
             case 1, 3 -> this.type = "친구";
             case 2 -> this.type = "코멘트";
-            case 4 -> this.type = "기록";
+            case 4, 5 -> this.type = "기록";
             default -> throw new ValidationException("잘못된 메시지 타입입니다.");
         }
     }
@@ -1,6 +1,7 @@
 package com.elice.ustory.domain.notice.entity;
 
 import com.elice.ustory.global.entity.BaseEntity;
+import com.elice.ustory.global.entity.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,7 +14,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Table(name="notice")
 public class Notice extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private long id;
 
     @Column(nullable = false, name = "response_id")
@@ -29,9 +29,10 @@ public class NoticeRepositoryImpl implements NoticeQueryDslRepository {
         BooleanExpression predicate = notice.responseId.eq(userId)
                 .and(notice.createdAt.loe(requestTime));
 
+        // Notice id 는 시간순으로 할당되므로(TimeOrderedId) 최신순 정렬은 기본 키로 한다.
         JPQLQuery<Notice> query = queryFactory.selectFrom(notice)
                         .where(predicate)
-                        .orderBy(notice.createdAt.desc())
+                        .orderBy(notice.id.desc())
                         .offset(pageable.getOffset())
                         .limit(pageable.getPageSize());
         return query.fetch();
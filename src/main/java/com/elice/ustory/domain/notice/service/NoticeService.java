@@ -13,12 +13,12 @@ import com.elice.ustory.global.exception.model.NotFoundException;
 import com.elice.ustory.global.exception.model.UnauthorizedException;
 import com.elice.ustory.global.exception.model.ValidationException;
 import com.elice.ustory.global.util.NoticeUtils;
-import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -40,6 +40,7 @@ public class NoticeService {
      * @param userId 조회할 사용자의 ID
      * @return 알림 목록
      */
+    @Transactional(readOnly = true)
     public List<NoticeResponse> getAllNoticesByUserId(Long userId, LocalDateTime requestTime, Pageable pageable) {
         List<Notice> notices = noticeRepository.findAllNoticesByUserId(userId, requestTime, pageable);
         return notices.stream().map(NoticeResponse::new).collect(Collectors.toList());
@@ -60,7 +61,7 @@ public class NoticeService {
                         .orElseThrow(() -> new NotFoundException("페이퍼를 찾을 수 없습니다."))
                         .getCreatedAt());
             }
-            case 4 -> {
+            case 4, 5 -> {
                 noticeResponse.setType("기록");
                 noticeResponse.setPaperId(notice.getResponseId());
             }
@@ -113,6 +114,33 @@ public class NoticeService {
         noticeRepository.save(notice);
     }
 
+    /**
+     * 페이퍼 가져오기 요약 알림 전송
+     *
+     * 가져온 Paper 마다 코멘트 요청 알림을 보내는 대신, 받는 사람마다 한 건의 알림만 남긴다.
+     * 알림을 누르면 가장 마지막에 가져온 Paper 로 이동한다.
+     *
+     * @param senderNickname 가져온 사용자의 닉네임
+     * @param lastPaperId    마지막으로 가져온 Paper 의 ID
+     * @param paperCount     가져온 Paper 수
+     * @param responseIds    알림을 받을 사용자 ID 목록
+     */
+    @Transactional
+    public void sendImportNotices(String senderNickname, Long lastPaperId, int paperCount, List<Long> responseIds) {
+        String message = NoticeUtils.generateImportMessage(senderNickname, paperCount);
+
+        List<Notice> notices = responseIds.stream()
+                .map(responseId -> Notice.builder()
+                        .requestId(lastPaperId)
+                        .responseId(responseId)
+                        .message(message)
+                        .messageType(5)
+                        .build())
+                .toList();
+
+        noticeRepository.saveAll(notices);
+    }
+
     /**
      * 알림을 ID로 삭제합니다.
      * @param userId 로그인한 사용자의 아이디
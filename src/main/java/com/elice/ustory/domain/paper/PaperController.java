@@ -3,16 +3,25 @@ package com.elice.ustory.domain.paper;
 import com.elice.ustory.domain.bookmark.BookmarkService;
 import com.elice.ustory.domain.paper.dto.AddPaperRequest;
 import com.elice.ustory.domain.paper.dto.AddPaperResponse;
+import com.elice.ustory.domain.paper.dto.NearbyPaperResponse;
+import com.elice.ustory.domain.paper.dto.NearbyPlaceResponse;
+import com.elice.ustory.domain.paper.dto.PaperCalendarResponse;
 import com.elice.ustory.domain.paper.dto.PaperCountResponse;
 import com.elice.ustory.domain.paper.dto.PaperListResponse;
 import com.elice.ustory.domain.paper.dto.PaperMapListResponse;
 import com.elice.ustory.domain.paper.dto.PaperResponse;
+import com.elice.ustory.domain.paper.dto.PaperSearchResponse;
 import com.elice.ustory.domain.paper.dto.UpdatePaperRequest;
 import com.elice.ustory.domain.paper.dto.UpdatePaperResponse;
 import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.paper.service.NearbyPaperService;
+import com.elice.ustory.domain.paper.service.PaperCalendarService;
+import com.elice.ustory.domain.paper.service.PaperSearchService;
 import com.elice.ustory.domain.paper.service.PaperService;
 import com.elice.ustory.global.exception.dto.ErrorResponse;
+import com.elice.ustory.global.jwt.AuthenticatedUser;
 import com.elice.ustory.global.jwt.JwtAuthorization;
+import com.elice.ustory.global.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -34,6 +43,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -49,6 +59,9 @@ public class PaperController {
 
     private final PaperService paperService;
     private final BookmarkService bookmarkService;
+    private final PaperCalendarService paperCalendarService;
+    private final PaperSearchService paperSearchService;
+    private final NearbyPaperService nearbyPaperService;
 
     @Operation(summary = "Create Paper API", description = "페이퍼를 생성한다.")
     @ApiResponses({
@@ -60,10 +73,10 @@ public class PaperController {
             @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping
-    public ResponseEntity<AddPaperResponse> create(@JwtAuthorization Long userId,
+    public ResponseEntity<AddPaperResponse> create(@JwtAuthorization AuthenticatedUser authenticatedUser,
                                                    @Valid @RequestBody AddPaperRequest addPaperRequest) {
 
-        Paper paper = paperService.create(userId, addPaperRequest);
+        Paper paper = paperService.create(authenticatedUser, addPaperRequest);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(new AddPaperResponse(paper.getId()));
     }
@@ -79,17 +92,18 @@ public class PaperController {
     })
     @PutMapping("/{paperId}")
     public ResponseEntity<UpdatePaperResponse> update(@PathVariable Long paperId,
-                                                      @JwtAuthorization Long userId,
+                                                      @JwtAuthorization AuthenticatedUser authenticatedUser,
                                                       @Valid @RequestBody UpdatePaperRequest updatePaperRequest) {
 
-        Paper paper = paperService.update(userId, paperId, updatePaperRequest);
+        Paper paper = paperService.update(authenticatedUser, paperId, updatePaperRequest);
 
         return ResponseEntity.ok(new UpdatePaperResponse(paper.getId()));
     }
 
-    @Operation(summary = "Read Paper API", description = "페이퍼를 불러온다.")
+    @Operation(summary = "Read Paper API", description = "페이퍼를 불러온다. <br> If-None-Match 의 ETag 가 현재와 같으면 본문 없이 304 를 반환한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaperResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not Modified", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
@@ -97,12 +111,23 @@ public class PaperController {
     })
     @GetMapping("/{paperId}")
     public ResponseEntity<PaperResponse> getPaper(@PathVariable Long paperId,
-                                                  @JwtAuthorization Long userId) {
+                                                  @JwtAuthorization Long userId,
+                                                  WebRequest webRequest) {
 
-        Paper paper = paperService.getPaperById(paperId);
         Boolean bookmarked = bookmarkService.isPaperBookmarkedByUser(userId, paperId);
 
-        return ResponseEntity.ok(new PaperResponse(paper, bookmarked, userId));
+        // 변경이 없으면 Paper 를 불러오지 않고 304 로 응답한다.
+        String eTag = paperService.getPaperETag(paperId, userId, bookmarked);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(ETagUtils.PRIVATE_REVALIDATE).build();
+        }
+
+        Paper paper = paperService.getPaperById(paperId);
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(ETagUtils.PRIVATE_REVALIDATE)
+                .body(new PaperResponse(paper, bookmarked, userId));
     }
 
     @Operation(summary = "Delete Paper API", description = "페이퍼를 삭제한다. <br> 작성자만이 삭제할 수 있다.")
@@ -177,6 +202,88 @@ public class PaperController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Read Paper Calendar API", description = "다이어리의 지정된 기간에서 Paper 가 작성된 날짜별 개수와 대표 썸네일을 불러온다. <br> 기간은 최대 12개월이다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = PaperCalendarResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/diary/{diaryId}/calendar")
+    public ResponseEntity<List<PaperCalendarResponse>> getPaperCalendarByDiary(
+            @PathVariable Long diaryId,
+            @RequestParam(name = "startDate") @DateTimeFormat(pattern = "yyyy/MM/dd") LocalDate startDate,
+            @RequestParam(name = "endDate") @DateTimeFormat(pattern = "yyyy/MM/dd") LocalDate endDate
+    ) {
+
+        List<PaperCalendarResponse> response = paperCalendarService.getCalendar(diaryId, startDate, endDate);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Search Papers API", description = "내가 속한 다이어리의 페이퍼를 제목, 상호명, 주소, 댓글 내용으로 검색한다. <br> 결과는 최신순이며, 응답의 nextCursor 를 cursor 로 넘겨 다음 페이지를 불러온다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PaperSearchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/search")
+    public ResponseEntity<PaperSearchResponse> searchPapers(@JwtAuthorization Long userId,
+                                                            @RequestParam(name = "keyword") String keyword,
+                                                            @RequestParam(name = "cursor", required = false) Long cursor,
+                                                            @RequestParam(name = "size", defaultValue = "20") int size) {
+
+        PaperSearchResponse response = paperSearchService.search(userId, keyword, cursor, size);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Read Nearby Papers API", description = "내가 속한 다이어리의 페이퍼 중 기준 좌표에서 반경(m) 안에 있는 페이퍼를 가까운 순으로 불러온다. <br> 반경은 최대 10000m 이다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = NearbyPaperResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyPaperResponse>> getNearbyPapers(@JwtAuthorization Long userId,
+                                                                     @RequestParam(name = "coordinateX") double coordinateX,
+                                                                     @RequestParam(name = "coordinateY") double coordinateY,
+                                                                     @RequestParam(name = "radius", defaultValue = "1000") int radius,
+                                                                     @RequestParam(name = "page", defaultValue = "1") int page,
+                                                                     @RequestParam(name = "size", defaultValue = "20") int size) {
+
+        pageValidate(page, size);
+
+        List<NearbyPaperResponse> response = nearbyPaperService.getNearbyPapers(userId, coordinateX, coordinateY, radius, page, size);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Read Nearby Friend Places API", description = "친구들이 페이퍼를 남긴 장소 중 기준 좌표에서 반경(m) 안에 있는 장소를 가까운 순으로 불러온다. <br> 반경은 최대 10000m 이다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = NearbyPlaceResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/nearby/friends")
+    public ResponseEntity<List<NearbyPlaceResponse>> getNearbyFriendPlaces(@JwtAuthorization Long userId,
+                                                                           @RequestParam(name = "coordinateX") double coordinateX,
+                                                                           @RequestParam(name = "coordinateY") double coordinateY,
+                                                                           @RequestParam(name = "radius", defaultValue = "1000") int radius,
+                                                                           @RequestParam(name = "page", defaultValue = "1") int page,
+                                                                           @RequestParam(name = "size", defaultValue = "20") int size) {
+
+        pageValidate(page, size);
+
+        List<NearbyPlaceResponse> response = nearbyPaperService.getNearbyFriendPlaces(userId, coordinateX, coordinateY, radius, page, size);
+
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Read Papers for Map API", description = "유저와 관련된 모든 리스트를 불러온다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = PaperMapListResponse.class)))),
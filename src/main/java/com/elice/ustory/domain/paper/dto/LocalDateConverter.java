@@ -5,17 +5,88 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 
 import java.io.IOException;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
 import java.util.Locale;
 
+/**
+ * LocalDate 를 "yyyy.MM.dd (요일)" 형식으로 직렬화한다. (예: 2024.05.23 (목))
+ *
+ * 요일 이름은 클래스 로딩 시 한 번만 만들고, 날짜는 문자 배열에 직접 채워 JsonGenerator 에 바로 쓴다.
+ * 목록 응답에는 같은 날짜가 반복해서 나오므로 최근에 만든 문자열을 epochDay 기준의 작은 캐시에 보관해 재사용한다.
+ */
 public class LocalDateConverter extends JsonSerializer<LocalDate> {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    private static final String[] DAY_OF_WEEK_NAMES = new String[DayOfWeek.values().length];
+
+    private static final int MIN_FAST_YEAR = 1;
+    private static final int MAX_FAST_YEAR = 9999;
+    // "yyyy.MM.dd (" 의 길이
+    private static final int PREFIX_LENGTH = 12;
+
+    private static final int CACHE_SIZE = 1024;
+    private static final int CACHE_MASK = CACHE_SIZE - 1;
+
+    // 요소는 불변 객체이므로 동기화 없이 덮어써도 안전하다. 충돌 시에는 다시 만들 뿐이다.
+    private static final CachedDate[] CACHE = new CachedDate[CACHE_SIZE];
+
+    static {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            DAY_OF_WEEK_NAMES[dayOfWeek.ordinal()] = dayOfWeek.getDisplayName(TextStyle.SHORT, Locale.KOREAN);
+        }
+    }
+
     @Override
     public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy.MM.dd");
-        String formattedDate = value.format(formatter);
-        String dayOfWeek = value.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN);
-        gen.writeString(formattedDate + " (" + dayOfWeek + ")");
+        gen.writeString(format(value));
+    }
+
+    public static String format(LocalDate value) {
+        long epochDay = value.toEpochDay();
+        int index = (int) (epochDay & CACHE_MASK);
+
+        CachedDate cached = CACHE[index];
+        if (cached != null && cached.epochDay == epochDay) {
+            return cached.formatted;
+        }
+
+        String formatted = render(value);
+        CACHE[index] = new CachedDate(epochDay, formatted);
+        return formatted;
+    }
+
+    private static String render(LocalDate value) {
+        String dayOfWeek = DAY_OF_WEEK_NAMES[value.getDayOfWeek().ordinal()];
+        int year = value.getYear();
+
+        if (year < MIN_FAST_YEAR || year > MAX_FAST_YEAR) {
+            return value.format(FORMATTER) + " (" + dayOfWeek + ")";
+        }
+
+        char[] chars = new char[PREFIX_LENGTH + dayOfWeek.length() + 1];
+        writeDigits(chars, 0, year, 4);
+        chars[4] = '.';
+        writeDigits(chars, 5, value.getMonthValue(), 2);
+        chars[7] = '.';
+        writeDigits(chars, 8, value.getDayOfMonth(), 2);
+        chars[10] = ' ';
+        chars[11] = '(';
+        dayOfWeek.getChars(0, dayOfWeek.length(), chars, PREFIX_LENGTH);
+        chars[chars.length - 1] = ')';
+
+        return new String(chars);
+    }
+
+    private static void writeDigits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private record CachedDate(long epochDay, String formatted) {
     }
 }
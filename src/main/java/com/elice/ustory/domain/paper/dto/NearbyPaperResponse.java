@@ -0,0 +1,48 @@
+package com.elice.ustory.domain.paper.dto;
+
+import com.elice.ustory.domain.paper.entity.Paper;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class NearbyPaperResponse {
+
+    @Schema(description = "paper Id", example = "12345678")
+    private Long paperId;
+
+    @Schema(description = "타이틀", example = "우규 갔다 왔어요.")
+    private String title;
+
+    @Schema(description = "썸네일 이미지", example = "https://~~~~~~")
+    private String thumbnailImageUrl;
+
+    @Schema(description = "다이어리 이름", example = "꽁냥껑냥")
+    private String diaryName;
+
+    @Schema(description = "상호명", example = "우규")
+    private String store;
+
+    @Schema(description = "주소", example = "서울 마포구 와우산로 94")
+    private String city;
+
+    @Schema(description = "X좌표", example = "37.5494")
+    private Double coordinateX;
+
+    @Schema(description = "Y좌표", example = "126.9169")
+    private Double coordinateY;
+
+    @Schema(description = "기준 좌표로부터의 거리(m)", example = "312")
+    private long distance;
+
+    public NearbyPaperResponse(Paper paper, double distance) {
+        this.paperId = paper.getId();
+        this.title = paper.getTitle();
+        this.thumbnailImageUrl = paper.getThumbnailImageUrl();
+        this.diaryName = paper.getDiary().getName();
+        this.store = paper.getAddress().getStore();
+        this.city = paper.getAddress().getCity();
+        this.coordinateX = paper.getAddress().getCoordinateX();
+        this.coordinateY = paper.getAddress().getCoordinateY();
+        this.distance = Math.round(distance);
+    }
+}
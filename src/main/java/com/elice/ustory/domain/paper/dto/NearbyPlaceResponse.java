@@ -0,0 +1,40 @@
+package com.elice.ustory.domain.paper.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class NearbyPlaceResponse {
+
+    @Schema(description = "상호명", example = "우규")
+    private String store;
+
+    @Schema(description = "주소", example = "서울 마포구 와우산로 94")
+    private String city;
+
+    @Schema(description = "X좌표", example = "37.5494")
+    private Double coordinateX;
+
+    @Schema(description = "Y좌표", example = "126.9169")
+    private Double coordinateY;
+
+    @Schema(description = "방문한 친구 수", example = "2")
+    private long friendCount;
+
+    @Schema(description = "친구들이 작성한 페이퍼 수", example = "3")
+    private long paperCount;
+
+    @Schema(description = "기준 좌표로부터의 거리(m)", example = "312")
+    private long distance;
+
+    public NearbyPlaceResponse(String store, String city, Double coordinateX, Double coordinateY,
+                               long friendCount, long paperCount, double distance) {
+        this.store = store;
+        this.city = city;
+        this.coordinateX = coordinateX;
+        this.coordinateY = coordinateY;
+        this.friendCount = friendCount;
+        this.paperCount = paperCount;
+        this.distance = Math.round(distance);
+    }
+}
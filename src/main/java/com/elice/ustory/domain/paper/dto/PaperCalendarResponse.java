@@ -0,0 +1,24 @@
+package com.elice.ustory.domain.paper.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaperCalendarResponse {
+
+    @Schema(description = "작성 날짜", example = "2024-05-23")
+    private LocalDate date;
+
+    @Schema(description = "해당 날짜에 작성된 Paper 개수", example = "3")
+    private long paperCount;
+
+    @Schema(description = "해당 날짜에 마지막으로 작성된 Paper 의 썸네일", example = "https://~~~~~~")
+    private String thumbnailImageUrl;
+}
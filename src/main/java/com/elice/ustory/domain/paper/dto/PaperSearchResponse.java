@@ -0,0 +1,21 @@
+package com.elice.ustory.domain.paper.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PaperSearchResponse {
+
+    @Schema(description = "검색된 페이퍼 (최신순)")
+    private List<PaperListResponse> papers;
+
+    @Schema(description = "다음 페이지 요청에 cursor 로 넘길 값, 마지막 페이지라면 null", example = "612345678901234567")
+    private Long nextCursor;
+
+    public PaperSearchResponse(List<PaperListResponse> papers, Long nextCursor) {
+        this.papers = papers;
+        this.nextCursor = nextCursor;
+    }
+}
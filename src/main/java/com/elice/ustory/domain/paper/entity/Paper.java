@@ -6,8 +6,10 @@ import com.elice.ustory.domain.diary.entity.Diary;
 import com.elice.ustory.domain.image.Image;
 import com.elice.ustory.domain.user.entity.Users;
 import com.elice.ustory.global.entity.BaseEntity;
+import com.elice.ustory.global.entity.TimeOrderedId;
 import com.elice.ustory.global.exception.ErrorCode;
 import com.elice.ustory.global.exception.model.ValidationException;
+import com.elice.ustory.global.util.ValidationUtils;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -17,20 +19,22 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.regex.Pattern;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "paper", uniqueConstraints = @UniqueConstraint(name = "UK_PAPER_ADDRESS_ID", columnNames = "address_id"))
+@Table(name = "paper",
+        uniqueConstraints = @UniqueConstraint(name = "UK_PAPER_ADDRESS_ID", columnNames = "address_id"),
+        indexes = @Index(name = "IDX_PAPER_DIARY_CREATED_AT", columnList = "diary_id, created_at"))
 public class Paper extends BaseEntity {
 
     private static final String PARAMETER_TOO_LONG = "%s: 해당 파라미터의 길이가 너무 깁니다.";
     private static final String WRONG_PARAMETER_FORMAT = "%s: 해당 파라미터의 형식이 잘못 되었습니다. (한글, 영어, 숫자, 특수문자를 확인하세요.)";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Size(min = 1, max = 50)
@@ -45,6 +49,7 @@ public class Paper extends BaseEntity {
             cascade = {CascadeType.PERSIST, CascadeType.REMOVE},
             orphanRemoval = true
     )
+    @OrderBy("sequence ASC")
     private List<Image> images = new ArrayList<>();
 
     @Column(name = "visited_at", nullable = false, columnDefinition = "DATE")
@@ -77,15 +82,15 @@ public class Paper extends BaseEntity {
 
     @Builder(builderMethodName = "createBuilder")
     public Paper(String title, String thumbnailImageUrl, LocalDate visitedAt) {
-        this.title = validateParam(title, 20, "^[가-힣a-zA-Z0-9\\s!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?~`\\u3131-\\u3163]+$", "타이틀");
-        this.thumbnailImageUrl = validateUrl(validateParam(thumbnailImageUrl, 1000, "^.+$", "썸네일"));
+        this.title = validateParam(title, 20, ValidationUtils.PAPER_TITLE_PATTERN, "타이틀");
+        this.thumbnailImageUrl = validateUrl(validateParam(thumbnailImageUrl, 1000, ValidationUtils.SINGLE_LINE_PATTERN, "썸네일"));
         this.visitedAt = visitedAt;
         this.unLocked = 0;
     }
 
     public Paper update(String title, String thumbnailImageUrl, LocalDate visitedAt) {
-        this.title = validateParam(title, 20, "^[가-힣a-zA-Z0-9\\s!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?~`\\u3131-\\u3163]+$", "타이틀");
-        this.thumbnailImageUrl = validateParam(thumbnailImageUrl, 1000, "^.+$", "썸네일");
+        this.title = validateParam(title, 20, ValidationUtils.PAPER_TITLE_PATTERN, "타이틀");
+        this.thumbnailImageUrl = validateParam(thumbnailImageUrl, 1000, ValidationUtils.SINGLE_LINE_PATTERN, "썸네일");
         this.visitedAt = visitedAt;
 
         return this;
@@ -147,6 +152,10 @@ public class Paper extends BaseEntity {
         this.diary = diary;
     }
 
+    public void updateTime(LocalDateTime now) {
+        setUpdatedAt(now);
+    }
+
     public void setAddress(Address address) {
         this.address = address;
 
@@ -155,12 +164,12 @@ public class Paper extends BaseEntity {
         }
     }
 
-    private String validateParam(String validateTarget, int size, String regex, String fieldName) {
+    private String validateParam(String validateTarget, int size, Pattern pattern, String fieldName) {
         if (validateTarget.length() > size) {
             throw new ValidationException(String.format(PARAMETER_TOO_LONG, fieldName), ErrorCode.VALIDATION_PARAMETER_EXCEPTION);
         }
 
-        if (!validateTarget.matches(regex)) {
+        if (!ValidationUtils.matches(pattern, validateTarget)) {
             throw new ValidationException(String.format(WRONG_PARAMETER_FORMAT, fieldName), ErrorCode.PARAMETER_INCORRECT_FORMAT);
         }
 
@@ -168,13 +177,11 @@ public class Paper extends BaseEntity {
     }
 
     private String validateUrl(String validateTarget) {
-        String[] suffixes = {".jpg", ".jpeg", ".png", ".gif"};
-
-        if (!validateTarget.startsWith("https://")) {
+        if (!ValidationUtils.isHttps(validateTarget)) {
             throw new ValidationException("썸네일이 특정 문자로 시작하지 않습니다.", ErrorCode.VALIDATION_PARAMETER_EXCEPTION);
         }
 
-        if (Stream.of(suffixes).noneMatch(validateTarget::endsWith)) {
+        if (!ValidationUtils.hasImageSuffix(validateTarget)) {
             throw new ValidationException("썸네일의 확장자를 확인해주세요. (.jpg, .jpeg, .png, .gif)", ErrorCode.PARAMETER_INCORRECT_FORMAT);
         }
 
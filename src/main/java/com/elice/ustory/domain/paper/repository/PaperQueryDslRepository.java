@@ -1,7 +1,6 @@
 package com.elice.ustory.domain.paper.repository;
 
 import com.elice.ustory.domain.address.Address;
-import com.elice.ustory.domain.address.AddressRecommendDTO;
 import com.elice.ustory.domain.paper.entity.Paper;
 import com.querydsl.core.Tuple;
 import org.springframework.data.domain.Pageable;
@@ -25,5 +24,57 @@ public interface PaperQueryDslRepository {
      */
     List<Paper> findByWriterId(Long writerId, LocalDateTime requestTime, Pageable pageable);
 
-    List<Paper> joinPaperByAddress(AddressRecommendDTO addressRecommendDTO);
+    /** 여러 장소에 남겨진 Paper 를 [장소 id, Paper id, 제목, 썸네일, 상호명] 으로 한 번에 불러온다. 정렬 기준은 최신순이다. */
+    List<Tuple> findRecommendCardsByPlaceIds(List<Long> placeIds);
+
+    /** paperIds 를 [장소 id, Paper id, 제목, 썸네일, 상호명] 으로 불러온다. 삭제된 Paper 는 제외한다. */
+    List<Tuple> findRecommendCardsByPaperIds(List<Long> paperIds);
+
+    /** Paper 응답의 ETag 계산에 필요한 값(Paper/Diary 수정 시각, 작성자 id)만 조회한다. <br>
+     *  삭제되었거나 존재하지 않는 Paper 라면 null 을 반환한다.
+     */
+    Tuple findPaperVersion(Long paperId);
+
+    /** 다이어리의 Paper 를 작성 날짜별로 묶어 [날짜, 개수, 그날 마지막 Paper id] 를 날짜순으로 불러온다. <br>
+     *  start 이상 end 미만의 작성 시각만 포함한다.
+     */
+    List<Tuple> countByCreatedDate(Long diaryId, LocalDateTime start, LocalDateTime end);
+
+    /** id 로 Paper 의 [id, 썸네일] 만 불러온다. */
+    List<Tuple> findThumbnailsByIds(List<Long> paperIds);
+
+    /** 다이어리 내보내기용으로 afterId 다음부터 id 순으로 size 개의 Paper 를 주소, 작성자와 함께 불러온다. <br>
+     *  afterId 가 null 이면 처음부터 불러온다.
+     */
+    List<Paper> findExportChunk(Long diaryId, Long afterId, int size);
+
+    /** 검색 결과 표시용으로 id 에 해당하는 Paper 를 다이어리, 주소와 함께 불러온다. 순서는 보장하지 않는다. */
+    List<Paper> findWithDiaryAndAddressByIds(List<Long> paperIds);
+
+    /** 사용자가 속한 다이어리의 Paper 중 주소의 geohash 가 cells 중 하나로 시작하고 좌표가 범위 안에 있는 Paper 를 <br>
+     *  다이어리, 주소와 함께 (centerX, centerY) 에서 가까운 순으로 최대 limit 개 불러온다. <br>
+     *  DB 의 정렬은 평면 근사 거리이므로, 정확한 거리 계산과 반경 필터는 호출하는 쪽에서 한다.
+     */
+    List<Paper> findNearbyCandidates(Long userId, List<String> cells, double centerX, double centerY,
+                                     double minX, double maxX, double minY, double maxY, int limit);
+
+    /** 사용자의 친구가 작성한 Paper 의 장소 중 주소의 geohash 가 cells 중 하나로 시작하고 좌표가 범위 안에 있는 장소를 <br>
+     *  [상호명, 주소, X좌표, Y좌표, 방문한 친구 수, Paper 수] 로 묶어 (centerX, centerY) 에서 가까운 순으로 최대 limit 개 불러온다.
+     */
+    List<Tuple> findFriendPlaceCandidates(Long userId, List<String> cells, double centerX, double centerY,
+                                          double minX, double maxX, double minY, double maxY, int limit);
+
+    /** writerIds 가 작성한 Paper 를 [작성자 id, 장소 id, Paper 수] 로 묶어 불러온다. 장소가 연결되지 않은 주소는 제외한다. */
+    List<Tuple> countVisitsByWriters(List<Long> writerIds);
+
+    /** 사용자가 Paper 를 작성한 장소 id 목록 */
+    List<Long> findVisitedPlaceIds(Long writerId);
+
+    /** 사용자가 속한 다이어리의 Paper 중 terms 의 모든 단어가 제목, 상호명/주소, 댓글 어디에든 하나씩 들어 있는 Paper id 를 최신순으로 불러온다. <br>
+     *  cursor 보다 작은 id 부터 size 개를 반환한다. terms 의 각 항목은 단어 하나의 BOOLEAN MODE 검색식이다.
+     */
+    List<Long> searchPaperIds(Long userId, List<String> terms, Long cursor, int size);
+
+    /** 아직 지워지지 않은 paperIds 의 Paper 를 deletedAt 시각으로 soft delete 하고 지운 개수를 반환한다. */
+    long softDeleteByIds(List<Long> paperIds, LocalDateTime deletedAt);
 }
@@ -1,14 +1,22 @@
 package com.elice.ustory.domain.paper.repository;
 
 import com.elice.ustory.domain.address.Address;
-import com.elice.ustory.domain.address.AddressRecommendDTO;
 import com.elice.ustory.domain.address.QAddress;
 import com.elice.ustory.domain.diaryUser.entity.QDiaryUser;
+import com.elice.ustory.domain.friend.entity.FriendStatus;
+import com.elice.ustory.domain.friend.entity.QFriend;
 import com.elice.ustory.domain.paper.entity.Paper;
 import com.elice.ustory.domain.paper.entity.QPaper;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
@@ -26,8 +34,10 @@ import static com.elice.ustory.domain.address.QAddress.address;
 @Slf4j
 public class PaperQueryDslRepositoryImpl implements PaperQueryDslRepository {
 
+    // Paper id 는 시간순으로 할당되므로(TimeOrderedId) 최신순 정렬은 created_at 대신 기본 키로 한다.
     private static final QPaper paper = QPaper.paper;
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
     @Override
     public List<Paper> findAllByDiaryIdAndDateRange(Long diaryId, LocalDateTime requestTime, Pageable pageable, LocalDate startDate, LocalDate endDate) {
         return queryFactory.selectFrom(paper)
@@ -36,7 +46,7 @@ public class PaperQueryDslRepositoryImpl implements PaperQueryDslRepository {
                         endDateCondition(endDate),
                         paper.createdAt.loe(requestTime),
                         paper.deletedAt.isNull())
-                .orderBy(paper.createdAt.desc())
+                .orderBy(paper.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
@@ -62,7 +72,7 @@ public class PaperQueryDslRepositoryImpl implements PaperQueryDslRepository {
                         ),
                         paper.deletedAt.isNull()
                 )
-                .orderBy(paper.createdAt.desc())
+                .orderBy(paper.id.desc())
                 .fetch();
     }
 
@@ -72,22 +82,228 @@ public class PaperQueryDslRepositoryImpl implements PaperQueryDslRepository {
                 .where(paper.writer.id.eq(writerId),
                         paper.createdAt.loe(requestTime),
                         paper.deletedAt.isNull())
-                .orderBy(paper.createdAt.desc())
+                .orderBy(paper.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
     }
 
     @Override
-    public List<Paper> joinPaperByAddress(AddressRecommendDTO addressRecommendDTO) {
-
+    public List<Tuple> findRecommendCardsByPlaceIds(List<Long> placeIds) {
         return queryFactory
-                .select(paper)
+                .select(address.place.id, paper.id, paper.title, paper.thumbnailImageUrl, address.store)
                 .from(paper)
-                .where(paper.address.city.eq(addressRecommendDTO.getCity()),
-                        paper.address.store.eq(addressRecommendDTO.getStore()))
+                .join(paper.address, address)
+                .where(address.place.id.in(placeIds),
+                        paper.deletedAt.isNull())
                 .orderBy(paper.id.desc())
                 .fetch();
     }
 
+    @Override
+    public List<Tuple> findRecommendCardsByPaperIds(List<Long> paperIds) {
+        return queryFactory
+                .select(address.place.id, paper.id, paper.title, paper.thumbnailImageUrl, address.store)
+                .from(paper)
+                .join(paper.address, address)
+                .where(paper.id.in(paperIds),
+                        paper.deletedAt.isNull())
+                .fetch();
+    }
+
+    @Override
+    public Tuple findPaperVersion(Long paperId) {
+        return queryFactory
+                .select(paper.updatedAt, paper.diary.updatedAt, paper.writer.id)
+                .from(paper)
+                .where(paper.id.eq(paperId),
+                        paper.deletedAt.isNull())
+                .fetchOne();
+    }
+
+    @Override
+    public List<Tuple> countByCreatedDate(Long diaryId, LocalDateTime start, LocalDateTime end) {
+        DateExpression<LocalDate> createdDate = Expressions.dateTemplate(LocalDate.class, "cast({0} as LocalDate)", paper.createdAt);
+
+        // (diary_id, created_at) 인덱스 범위 스캔 한 번으로 집계한다.
+        return queryFactory
+                .select(createdDate, paper.count(), paper.id.max())
+                .from(paper)
+                .where(paper.diary.id.eq(diaryId),
+                        paper.createdAt.goe(start),
+                        paper.createdAt.lt(end),
+                        paper.deletedAt.isNull())
+                .groupBy(createdDate)
+                .orderBy(createdDate.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<Tuple> findThumbnailsByIds(List<Long> paperIds) {
+        return queryFactory
+                .select(paper.id, paper.thumbnailImageUrl)
+                .from(paper)
+                .where(paper.id.in(paperIds))
+                .fetch();
+    }
+
+    @Override
+    public List<Paper> findExportChunk(Long diaryId, Long afterId, int size) {
+        return queryFactory.selectFrom(paper)
+                .join(paper.address).fetchJoin()
+                .join(paper.writer).fetchJoin()
+                .where(paper.diary.id.eq(diaryId),
+                        afterId != null ? paper.id.gt(afterId) : null,
+                        paper.deletedAt.isNull())
+                .orderBy(paper.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<Paper> findWithDiaryAndAddressByIds(List<Long> paperIds) {
+        return queryFactory.selectFrom(paper)
+                .join(paper.diary).fetchJoin()
+                .join(paper.address).fetchJoin()
+                .where(paper.id.in(paperIds))
+                .fetch();
+    }
+
+    @Override
+    public List<Paper> findNearbyCandidates(Long userId, List<String> cells, double centerX, double centerY,
+                                            double minX, double maxX, double minY, double maxY, int limit) {
+        QDiaryUser diaryUser = QDiaryUser.diaryUser;
+
+        return queryFactory.selectFrom(paper)
+                .join(paper.address, address).fetchJoin()
+                .join(paper.diary).fetchJoin()
+                .where(geohashInCells(cells),
+                        address.coordinateX.between(minX, maxX),
+                        address.coordinateY.between(minY, maxY),
+                        paper.diary.id.in(
+                                JPAExpressions.select(diaryUser.id.diary.id)
+                                        .from(diaryUser)
+                                        .where(diaryUser.id.users.id.eq(userId))
+                        ),
+                        paper.deletedAt.isNull())
+                .orderBy(approximateDistance(centerX, centerY).asc(), paper.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Tuple> findFriendPlaceCandidates(Long userId, List<String> cells, double centerX, double centerY,
+                                                 double minX, double maxX, double minY, double maxY, int limit) {
+        QFriend friend = QFriend.friend;
+
+        return queryFactory.select(address.store, address.city, address.coordinateX, address.coordinateY,
+                        paper.writer.id.countDistinct(), paper.id.count())
+                .from(paper)
+                .join(paper.address, address)
+                .where(geohashInCells(cells),
+                        address.coordinateX.between(minX, maxX),
+                        address.coordinateY.between(minY, maxY),
+                        paper.writer.id.in(
+                                JPAExpressions.select(friend.id.friendId)
+                                        .from(friend)
+                                        .where(friend.id.userId.eq(userId),
+                                                friend.status.eq(FriendStatus.ACCEPTED))
+                        ),
+                        paper.deletedAt.isNull())
+                .groupBy(address.store, address.city, address.coordinateX, address.coordinateY)
+                .orderBy(approximateDistance(centerX, centerY).asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 후보가 limit 을 넘으면 먼 것부터 빠지도록, 경도 차이를 위도 기준 길이로 맞춘 평면 거리의 제곱으로 정렬한다.
+    private NumberExpression<Double> approximateDistance(double centerX, double centerY) {
+        double longitudeScale = Math.cos(Math.toRadians(centerX));
+        NumberExpression<Double> dx = address.coordinateX.subtract(centerX);
+        NumberExpression<Double> dy = address.coordinateY.subtract(centerY).multiply(longitudeScale);
+        return dx.multiply(dx).add(dy.multiply(dy));
+    }
+
+    // geohash 인덱스의 접두어 범위 조회(LIKE 'cell%')를 셀마다 OR 로 묶는다.
+    private BooleanBuilder geohashInCells(List<String> cells) {
+        BooleanBuilder condition = new BooleanBuilder();
+        for (String cell : cells) {
+            condition.or(address.geohash.startsWith(cell));
+        }
+        return condition;
+    }
+
+    @Override
+    public List<Tuple> countVisitsByWriters(List<Long> writerIds) {
+        return queryFactory.select(paper.writer.id, address.place.id, paper.id.count())
+                .from(paper)
+                .join(paper.address, address)
+                .where(paper.writer.id.in(writerIds),
+                        address.place.isNotNull(),
+                        paper.deletedAt.isNull())
+                .groupBy(paper.writer.id, address.place.id)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findVisitedPlaceIds(Long writerId) {
+        return queryFactory.selectDistinct(address.place.id)
+                .from(paper)
+                .join(paper.address, address)
+                .where(paper.writer.id.eq(writerId),
+                        address.place.isNotNull(),
+                        paper.deletedAt.isNull())
+                .fetch();
+    }
+
+    /**
+     * 단어마다 FULLTEXT 인덱스(FTX_*, db/paper_search_fulltext.sql)를 하나씩 따로 조회해 UNION 으로 후보 Paper id 를 모으고,
+     * 단어별 후보를 paper_id 로 JOIN 해서 모든 단어를 포함한 Paper 만 남긴다.
+     * 세 테이블을 OR 로 묶으면 인덱스를 쓰지 못해 다이어리의 Paper 를 모두 훑게 되므로, 각 MATCH 가 자기 인덱스만 읽도록 나눈다.
+     * 이렇게 줄인 id 집합에만 diary_users 를 붙여 접근 권한을 확인하고 keyset cursor 를 적용한다.
+     * MATCH ... AGAINST 는 QueryDSL(JPQL) 로 표현할 수 없어 네이티브 쿼리로 만든다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> searchPaperIds(Long userId, List<String> terms, Long cursor, int size) {
+        StringBuilder sql = new StringBuilder("SELECT p.id FROM ");
+
+        for (int i = 0; i < terms.size(); i++) {
+            String term = ":term" + i;
+            String alias = "t" + i;
+            if (i > 0) {
+                sql.append(" JOIN ");
+            }
+            sql.append("(SELECT pt.id AS paper_id FROM paper pt WHERE MATCH(pt.title) AGAINST (").append(term).append(" IN BOOLEAN MODE) AND pt.id < :cursor")
+                    .append(" UNION SELECT pa.id FROM address a JOIN paper pa ON pa.address_id = a.id WHERE MATCH(a.store, a.city) AGAINST (").append(term).append(" IN BOOLEAN MODE) AND pa.id < :cursor")
+                    .append(" UNION SELECT c.paper_id FROM comment c WHERE MATCH(c.content) AGAINST (").append(term).append(" IN BOOLEAN MODE) AND c.paper_id < :cursor")
+                    .append(") ").append(alias);
+            if (i > 0) {
+                sql.append(" ON ").append(alias).append(".paper_id = t0.paper_id");
+            }
+        }
+
+        sql.append(" JOIN paper p ON p.id = t0.paper_id")
+                .append(" JOIN diary_users du ON du.diary_id = p.diary_id AND du.users_id = :userId")
+                .append(" WHERE p.deleted_at IS NULL")
+                .append(" ORDER BY p.id DESC LIMIT :size");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Long.class)
+                .setParameter("userId", userId)
+                .setParameter("cursor", cursor)
+                .setParameter("size", size);
+        for (int i = 0; i < terms.size(); i++) {
+            query.setParameter("term" + i, terms.get(i));
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public long softDeleteByIds(List<Long> paperIds, LocalDateTime deletedAt) {
+        return queryFactory.update(paper)
+                .set(paper.deletedAt, deletedAt)
+                .where(paper.id.in(paperIds),
+                        paper.deletedAt.isNull())
+                .execute();
+    }
 }
@@ -4,11 +4,6 @@ import com.elice.ustory.domain.paper.entity.Paper;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-
 @Repository
 public interface PaperRepository extends JpaRepository<Paper, Long>, PaperQueryDslRepository {
-
-    List<Paper> findByWriterId(Long writerId);
 }
-
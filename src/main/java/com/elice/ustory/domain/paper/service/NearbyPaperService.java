@@ -0,0 +1,158 @@
+package com.elice.ustory.domain.paper.service;
+
+import com.elice.ustory.domain.paper.dto.NearbyPaperResponse;
+import com.elice.ustory.domain.paper.dto.NearbyPlaceResponse;
+import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.paper.repository.PaperRepository;
+import com.elice.ustory.global.exception.model.ValidationException;
+import com.elice.ustory.global.util.GeoHashUtils;
+import com.querydsl.core.Tuple;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 기준 좌표 주변의 Paper / 친구가 방문한 장소 조회
+ *
+ * 반경을 감싸는 geohash 셀들의 접두어 범위와 좌표 범위로 address 인덱스에서 후보만 읽고,
+ * 후보마다 haversine 거리를 계산해 반경 밖을 걸러낸 뒤 가까운 순으로 페이지를 나눈다.
+ * 후보는 DB 에서 가까운 순으로 max-candidates 개까지만 읽으므로, 상한을 넘으면 먼 후보부터 빠진다.
+ */
+@Slf4j
+@Service
+public class NearbyPaperService {
+
+    public static final int MAX_RADIUS_METERS = 10_000;
+    private static final String INVALID_RADIUS_MESSAGE = "반경은 1m 이상 " + MAX_RADIUS_METERS + "m 이하여야 합니다.";
+    private static final String WRONG_COORDINATE_X = "X좌표(위도)는 -90 이상 90 이하여야 합니다.";
+    private static final String WRONG_COORDINATE_Y = "Y좌표(경도)는 -180 이상 180 이하여야 합니다.";
+
+    private final PaperRepository paperRepository;
+    private final int maxCandidates;
+
+    public NearbyPaperService(PaperRepository paperRepository,
+                              @Value("${ustory.nearby.max-candidates:5000}") int maxCandidates) {
+        this.paperRepository = paperRepository;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * 사용자가 속한 다이어리의 Paper 중 (coordinateX, coordinateY) 에서 radius(m) 안에 있는 Paper 를 가까운 순으로 불러온다.
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyPaperResponse> getNearbyPapers(Long userId, double coordinateX, double coordinateY, int radius, int page, int size) {
+        validate(coordinateX, coordinateY, radius);
+        SearchArea area = new SearchArea(coordinateX, coordinateY, radius);
+
+        List<Paper> papers = paperRepository.findNearbyCandidates(userId, area.cells(), coordinateX, coordinateY,
+                area.minX(), area.maxX(), area.minY(), area.maxY(), maxCandidates);
+        warnIfTruncated(papers.size(), userId, area);
+
+        List<Candidate<Paper>> candidates = new ArrayList<>(papers.size());
+        for (Paper paper : papers) {
+            double distance = area.distanceTo(paper.getAddress().getCoordinateX(), paper.getAddress().getCoordinateY());
+            if (distance <= radius) {
+                candidates.add(new Candidate<>(paper, distance));
+            }
+        }
+        // 거리가 같으면 최신 Paper 를 먼저 보여준다.
+        candidates.sort(Comparator.<Candidate<Paper>>comparingDouble(Candidate::distance)
+                .thenComparing(candidate -> candidate.value().getId(), Comparator.reverseOrder()));
+
+        return page(candidates, page, size).stream()
+                .map(candidate -> new NearbyPaperResponse(candidate.value(), candidate.distance()))
+                .toList();
+    }
+
+    /**
+     * 친구가 작성한 Paper 의 장소 중 (coordinateX, coordinateY) 에서 radius(m) 안에 있는 장소를 가까운 순으로 불러온다.
+     * 장소는 상호명, 주소, 좌표가 같은 주소끼리 묶는다.
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyPlaceResponse> getNearbyFriendPlaces(Long userId, double coordinateX, double coordinateY, int radius, int page, int size) {
+        validate(coordinateX, coordinateY, radius);
+        SearchArea area = new SearchArea(coordinateX, coordinateY, radius);
+
+        List<Tuple> places = paperRepository.findFriendPlaceCandidates(userId, area.cells(), coordinateX, coordinateY,
+                area.minX(), area.maxX(), area.minY(), area.maxY(), maxCandidates);
+        warnIfTruncated(places.size(), userId, area);
+
+        List<Candidate<NearbyPlaceResponse>> candidates = new ArrayList<>(places.size());
+        for (Tuple place : places) {
+            Double placeX = place.get(2, Double.class);
+            Double placeY = place.get(3, Double.class);
+            double distance = area.distanceTo(placeX, placeY);
+            if (distance <= radius) {
+                candidates.add(new Candidate<>(new NearbyPlaceResponse(
+                        place.get(0, String.class),
+                        place.get(1, String.class),
+                        placeX,
+                        placeY,
+                        place.get(4, Long.class),
+                        place.get(5, Long.class),
+                        distance
+                ), distance));
+            }
+        }
+        candidates.sort(Comparator.<Candidate<NearbyPlaceResponse>>comparingDouble(Candidate::distance)
+                .thenComparing(candidate -> candidate.value().getStore()));
+
+        return page(candidates, page, size).stream()
+                .map(Candidate::value)
+                .toList();
+    }
+
+    private void validate(double coordinateX, double coordinateY, int radius) {
+        if (radius < 1 || radius > MAX_RADIUS_METERS) {
+            throw new ValidationException(INVALID_RADIUS_MESSAGE);
+        }
+        if (coordinateX < -90 || coordinateX > 90) {
+            throw new ValidationException(WRONG_COORDINATE_X);
+        }
+        if (coordinateY < -180 || coordinateY > 180) {
+            throw new ValidationException(WRONG_COORDINATE_Y);
+        }
+    }
+
+    private void warnIfTruncated(int candidateCount, Long userId, SearchArea area) {
+        if (candidateCount >= maxCandidates) {
+            log.warn("[NearbyPaperService] 후보가 {}개를 넘어 먼 결과가 빠질 수 있음 userId: {}, cells: {}", maxCandidates, userId, area.cells());
+        }
+    }
+
+    private static <T> List<T> page(List<T> sorted, int page, int size) {
+        long offset = (long) (page - 1) * size;
+        if (offset >= sorted.size()) {
+            return List.of();
+        }
+        return sorted.subList((int) offset, (int) Math.min(sorted.size(), offset + size));
+    }
+
+    private record Candidate<T>(T value, double distance) {
+    }
+
+    /**
+     * 기준 좌표(X: 위도, Y: 경도)와 반경으로 조회할 geohash 셀과 좌표 범위를 계산한다.
+     */
+    private record SearchArea(double coordinateX, double coordinateY, List<String> cells,
+                              double minX, double maxX, double minY, double maxY) {
+
+        private SearchArea(double coordinateX, double coordinateY, int radius) {
+            this(coordinateX, coordinateY,
+                    GeoHashUtils.coveringCells(coordinateX, coordinateY, radius),
+                    coordinateX - GeoHashUtils.latitudeDelta(radius),
+                    coordinateX + GeoHashUtils.latitudeDelta(radius),
+                    coordinateY - GeoHashUtils.longitudeDelta(coordinateX, radius),
+                    coordinateY + GeoHashUtils.longitudeDelta(coordinateX, radius));
+        }
+
+        private double distanceTo(double x, double y) {
+            return GeoHashUtils.distanceMeters(coordinateX, coordinateY, x, y);
+        }
+    }
+}
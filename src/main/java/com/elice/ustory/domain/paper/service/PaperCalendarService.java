@@ -0,0 +1,224 @@
+package com.elice.ustory.domain.paper.service;
+
+import com.elice.ustory.domain.diary.repository.DiaryRepository;
+import com.elice.ustory.domain.paper.dto.PaperCalendarResponse;
+import com.elice.ustory.domain.paper.repository.PaperRepository;
+import com.elice.ustory.global.exception.model.NotFoundException;
+import com.elice.ustory.global.datasource.ReplicationRoutingDataSource;
+import com.elice.ustory.global.exception.model.ValidationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.Tuple;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 다이어리 캘린더용 날짜별 Paper 집계
+ *
+ * 날짜별 Paper 개수와 그날 마지막으로 작성된 Paper 의 썸네일을 (diary_id, created_at) 인덱스 위의 GROUP BY 한 번으로 계산한다.
+ * 결과는 다이어리-월 단위로 Redis 에 보관하고, Paper 가 작성/수정/삭제되면 커밋 후 해당 월의 캐시를 지운다.
+ */
+@Slf4j
+@Service
+public class PaperCalendarService {
+
+    private static final String KEY_PREFIX = "PaperCalendar:";
+    private static final int MAX_MONTHS = 12;
+    private static final String INVALID_RANGE_MESSAGE = "시작 날짜는 종료 날짜보다 늦을 수 없습니다.";
+    private static final String TOO_LONG_RANGE_MESSAGE = "캘린더는 최대 " + MAX_MONTHS + "개월까지 조회할 수 있습니다.";
+    private static final String NOT_FOUND_DIARY_MESSAGE = "%d: 해당하는 다이어리가 존재하지 않습니다.";
+    private static final TypeReference<List<PaperCalendarResponse>> CACHED_MONTH_TYPE = new TypeReference<>() {
+    };
+
+    private final PaperRepository paperRepository;
+    private final DiaryRepository diaryRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public PaperCalendarService(PaperRepository paperRepository,
+                                DiaryRepository diaryRepository,
+                                StringRedisTemplate stringRedisTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${ustory.paper.calendar.ttl-seconds:3600}") long ttlSeconds) {
+        this.paperRepository = paperRepository;
+        this.diaryRepository = diaryRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * startDate ~ endDate(포함) 사이에 Paper 가 작성된 날짜만 날짜순으로 반환한다.
+     * 캐시가 지워진 직후 지연된 replica 에서 집계하면 옛 결과가 다시 캐시되므로 primary 에서 읽는다.
+     */
+    @Transactional(readOnly = true, label = ReplicationRoutingDataSource.PRIMARY_LABEL)
+    public List<PaperCalendarResponse> getCalendar(Long diaryId, LocalDate startDate, LocalDate endDate) {
+
+        if (startDate.isAfter(endDate)) {
+            throw new ValidationException(INVALID_RANGE_MESSAGE);
+        }
+
+        YearMonth startMonth = YearMonth.from(startDate);
+        YearMonth endMonth = YearMonth.from(endDate);
+        if (startMonth.plusMonths(MAX_MONTHS - 1).isBefore(endMonth)) {
+            throw new ValidationException(TOO_LONG_RANGE_MESSAGE);
+        }
+
+        diaryRepository.findById(diaryId).orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_DIARY_MESSAGE, diaryId)));
+
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = startMonth; !month.isAfter(endMonth); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+
+        Map<YearMonth, List<PaperCalendarResponse>> days = readCachedMonths(diaryId, months);
+
+        List<YearMonth> missingMonths = months.stream()
+                .filter(month -> !days.containsKey(month))
+                .toList();
+        if (!missingMonths.isEmpty()) {
+            Map<YearMonth, List<PaperCalendarResponse>> loaded = loadMonths(diaryId, missingMonths);
+            writeCachedMonths(diaryId, loaded);
+            days.putAll(loaded);
+        }
+
+        List<PaperCalendarResponse> result = new ArrayList<>();
+        for (YearMonth month : months) {
+            for (PaperCalendarResponse day : days.get(month)) {
+                if (!day.getDate().isBefore(startDate) && !day.getDate().isAfter(endDate)) {
+                    result.add(day);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * createdAt 에 작성된 Paper 가 바뀌었으므로 트랜잭션 커밋 후 해당 다이어리-월의 캐시를 지운다.
+     */
+    public void evictAfterCommit(Long diaryId, LocalDateTime createdAt) {
+        String key = key(diaryId, YearMonth.from(createdAt));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(key);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(key);
+            }
+        });
+    }
+
+    /**
+     * 캐시에 없는 월들을 한 번의 집계 쿼리로 계산한다. 비어 있는 월도 빈 목록으로 채워 캐시한다.
+     */
+    private Map<YearMonth, List<PaperCalendarResponse>> loadMonths(Long diaryId, List<YearMonth> missingMonths) {
+        YearMonth first = missingMonths.get(0);
+        YearMonth last = missingMonths.get(missingMonths.size() - 1);
+
+        List<Tuple> counts = paperRepository.countByCreatedDate(
+                diaryId,
+                first.atDay(1).atStartOfDay(),
+                last.plusMonths(1).atDay(1).atStartOfDay()
+        );
+
+        Map<Long, String> thumbnails = new HashMap<>();
+        if (!counts.isEmpty()) {
+            List<Long> latestPaperIds = counts.stream()
+                    .map(tuple -> tuple.get(2, Long.class))
+                    .toList();
+            for (Tuple tuple : paperRepository.findThumbnailsByIds(latestPaperIds)) {
+                thumbnails.put(tuple.get(0, Long.class), tuple.get(1, String.class));
+            }
+        }
+
+        Map<YearMonth, List<PaperCalendarResponse>> loaded = new TreeMap<>();
+        for (YearMonth month : missingMonths) {
+            loaded.put(month, new ArrayList<>());
+        }
+        for (Tuple tuple : counts) {
+            LocalDate date = tuple.get(0, LocalDate.class);
+            List<PaperCalendarResponse> monthDays = loaded.get(YearMonth.from(date));
+            if (monthDays == null) {
+                // first ~ last 사이에 이미 캐시된 월
+                continue;
+            }
+            monthDays.add(new PaperCalendarResponse(
+                    date,
+                    tuple.get(1, Long.class),
+                    thumbnails.get(tuple.get(2, Long.class))
+            ));
+        }
+        return loaded;
+    }
+
+    private Map<YearMonth, List<PaperCalendarResponse>> readCachedMonths(Long diaryId, List<YearMonth> months) {
+        Map<YearMonth, List<PaperCalendarResponse>> cached = new HashMap<>();
+
+        List<String> values;
+        try {
+            values = stringRedisTemplate.opsForValue().multiGet(months.stream().map(month -> key(diaryId, month)).toList());
+        } catch (RuntimeException e) {
+            log.warn("[PaperCalendarService] 캘린더 캐시 조회 실패 diaryId: {}", diaryId, e);
+            return cached;
+        }
+        if (values == null) {
+            return cached;
+        }
+
+        for (int i = 0; i < months.size(); i++) {
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                cached.put(months.get(i), objectMapper.readValue(value, CACHED_MONTH_TYPE));
+            } catch (JsonProcessingException e) {
+                log.warn("[PaperCalendarService] 캘린더 캐시 역직렬화 실패 key: {}", key(diaryId, months.get(i)), e);
+            }
+        }
+        return cached;
+    }
+
+    private void writeCachedMonths(Long diaryId, Map<YearMonth, List<PaperCalendarResponse>> loaded) {
+        try {
+            for (Map.Entry<YearMonth, List<PaperCalendarResponse>> entry : loaded.entrySet()) {
+                stringRedisTemplate.opsForValue().set(key(diaryId, entry.getKey()), objectMapper.writeValueAsString(entry.getValue()), ttl);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[PaperCalendarService] 캘린더 캐시 저장 실패 diaryId: {}", diaryId, e);
+        }
+    }
+
+    private void evict(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("[PaperCalendarService] 캘린더 캐시 삭제 실패 key: {}", key, e);
+        }
+    }
+
+    private static String key(Long diaryId, YearMonth month) {
+        return KEY_PREFIX + diaryId + ":" + month;
+    }
+}
@@ -0,0 +1,115 @@
+package com.elice.ustory.domain.paper.service;
+
+import com.elice.ustory.domain.paper.dto.PaperListResponse;
+import com.elice.ustory.domain.paper.dto.PaperSearchResponse;
+import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.paper.repository.PaperRepository;
+import com.elice.ustory.global.exception.model.ValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Paper 검색 (제목, 상호명, 주소, 댓글)
+ *
+ * MySQL FULLTEXT 인덱스를 ngram 파서로 만들어 띄어쓰기 없이 붙은 한국어도 2글자 단위로 검색한다.
+ * 인덱스는 기동 시 만들지 않고 배포 전에 src/main/resources/db/paper_search_fulltext.sql 로 만든다. (큰 테이블의 ALTER TABLE 은 오래 걸린다.)
+ * 검색어의 단어마다 제목, 상호명/주소, 댓글 중 한 곳에만 있으면 되므로 여러 곳에 나뉘어 있는 검색어도 찾는다.
+ * 단어별로 인덱스마다 따로 찾은 후보 id 를 먼저 좁히고, 그 id 에만 다이어리 접근 권한을 확인한다.
+ * InnoDB FULLTEXT 인덱스는 커밋 시점에 함께 반영되므로 Paper/댓글 작성 경로에서 따로 색인할 필요가 없다.
+ * 결과는 id(TimeOrderedId) 내림차순이며, 마지막으로 받은 id 를 cursor 로 넘기는 keyset 방식으로 페이지를 나눈다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PaperSearchService {
+
+    public static final int MAX_SIZE = 50;
+    private static final int MAX_KEYWORD_LENGTH = 50;
+    private static final int MAX_TERMS = 5;
+    // ngram_token_size 기본값. 이보다 짧은 검색어는 접두어 검색으로 바꾼다.
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    // BOOLEAN MODE 연산자로 해석되는 문자
+    private static final Pattern BOOLEAN_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String EMPTY_KEYWORD_MESSAGE = "검색어를 입력해주세요.";
+    private static final String TOO_LONG_KEYWORD_MESSAGE = "검색어는 " + MAX_KEYWORD_LENGTH + "자 이하여야 합니다.";
+    private static final String INVALID_SIZE_MESSAGE = "사이즈는 1 이상 " + MAX_SIZE + " 이하여야 합니다.";
+
+    private final PaperRepository paperRepository;
+
+    /**
+     * 사용자가 속한 다이어리의 Paper 중 검색어의 모든 단어를 포함하는 Paper 를 최신순으로 size 개 불러온다.
+     * cursor 가 null 이면 처음부터 불러온다.
+     */
+    @Transactional(readOnly = true)
+    public PaperSearchResponse search(Long userId, String keyword, Long cursor, int size) {
+
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ValidationException(INVALID_SIZE_MESSAGE);
+        }
+
+        List<String> terms = toBooleanTerms(keyword);
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 불러온다.
+        List<Long> paperIds = paperRepository.searchPaperIds(userId, terms, cursor == null ? Long.MAX_VALUE : cursor, size + 1);
+
+        Long nextCursor = null;
+        if (paperIds.size() > size) {
+            paperIds = paperIds.subList(0, size);
+            nextCursor = paperIds.get(size - 1);
+        }
+
+        if (paperIds.isEmpty()) {
+            return new PaperSearchResponse(List.of(), null);
+        }
+
+        Map<Long, Paper> papers = paperRepository.findWithDiaryAndAddressByIds(paperIds).stream()
+                .collect(Collectors.toMap(Paper::getId, Function.identity()));
+
+        List<PaperListResponse> result = new ArrayList<>(paperIds.size());
+        for (Long paperId : paperIds) {
+            Paper paper = papers.get(paperId);
+            if (paper != null) {
+                result.add(new PaperListResponse(paper));
+            }
+        }
+
+        return new PaperSearchResponse(result, nextCursor);
+    }
+
+    /**
+     * 검색어를 공백으로 나눠 단어마다 BOOLEAN MODE 검색식을 만든다. 모든 단어가 일치해야 하는 조건은 쿼리에서 단어별 후보를 JOIN 해서(교집합) 건다.
+     * 각 단어는 구문("...")으로 감싸 ngram 토큰이 연속으로 일치해야 하고, ngram 토큰보다 짧은 단어는 접두어(*)로 검색한다.
+     */
+    private static List<String> toBooleanTerms(String keyword) {
+
+        if (keyword == null || keyword.isBlank()) {
+            throw new ValidationException(EMPTY_KEYWORD_MESSAGE);
+        }
+
+        if (keyword.length() > MAX_KEYWORD_LENGTH) {
+            throw new ValidationException(TOO_LONG_KEYWORD_MESSAGE);
+        }
+
+        String sanitized = BOOLEAN_OPERATORS.matcher(keyword).replaceAll(" ").strip();
+        if (sanitized.isEmpty()) {
+            throw new ValidationException(EMPTY_KEYWORD_MESSAGE);
+        }
+
+        String[] words = WHITESPACE.split(sanitized);
+        List<String> terms = new ArrayList<>(Math.min(words.length, MAX_TERMS));
+        for (int i = 0; i < words.length && i < MAX_TERMS; i++) {
+            String word = words[i];
+            terms.add(word.length() < NGRAM_TOKEN_SIZE ? word + '*' : '"' + word + '"');
+        }
+        return terms;
+    }
+}
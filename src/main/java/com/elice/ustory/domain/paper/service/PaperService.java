@@ -8,18 +8,26 @@ import com.elice.ustory.domain.diary.entity.Diary;
 import com.elice.ustory.domain.diary.repository.DiaryRepository;
 import com.elice.ustory.domain.diaryUser.entity.DiaryUser;
 import com.elice.ustory.domain.diaryUser.repository.DiaryUserRepository;
-import com.elice.ustory.domain.image.Image;
-import com.elice.ustory.domain.image.ImageRepository;
+import com.elice.ustory.domain.image.ImageService;
 import com.elice.ustory.domain.notice.dto.NoticeRequest;
 import com.elice.ustory.domain.notice.service.NoticeService;
 import com.elice.ustory.domain.paper.dto.AddPaperRequest;
 import com.elice.ustory.domain.paper.dto.UpdatePaperRequest;
 import com.elice.ustory.domain.paper.entity.Paper;
 import com.elice.ustory.domain.paper.repository.PaperRepository;
+import com.elice.ustory.domain.place.entity.Place;
+import com.elice.ustory.domain.place.service.PlaceService;
+import com.elice.ustory.domain.recommand.PersonalRecommendService;
+import com.elice.ustory.domain.recommand.RecommendCardService;
+import com.elice.ustory.domain.recommand.TrendingPlaceService;
 import com.elice.ustory.domain.user.entity.Users;
 import com.elice.ustory.domain.user.repository.UserRepository;
+import com.elice.ustory.domain.user.service.UserStatsService;
 import com.elice.ustory.global.exception.model.ForbiddenException;
 import com.elice.ustory.global.exception.model.NotFoundException;
+import com.elice.ustory.global.jwt.AuthenticatedUser;
+import com.elice.ustory.global.util.ETagUtils;
+import com.querydsl.core.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -37,27 +45,32 @@ public class PaperService {
 
     private static final String NOT_FOUND_PAPER_MESSAGE = "%d: 해당하는 페이퍼가 존재하지 않습니다.";
     private static final String NOT_FOUND_DIARY_MESSAGE = "%d: 해당하는 다이어리가 존재하지 않습니다.";
-    private static final String NOT_FOUND_USER_MESSAGE = "%d: 해당하는 사용자가 존재하지 않습니다.";
     private static final String NOT_FOUND_IN_DIARY_MESSAGE = "%s: 해당하는 사용자가 다이어리 내에 존재하지 않습니다.";
 
     private final PaperRepository paperRepository;
     private final AddressRepository addressRepository;
-    private final ImageRepository imageRepository;
+    private final ImageService imageService;
     private final NoticeService noticeService;
     private final DiaryRepository diaryRepository;
     private final DiaryUserRepository diaryUserRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final UserStatsService userStatsService;
+    private final PaperCalendarService paperCalendarService;
+    private final PlaceService placeService;
+    private final TrendingPlaceService trendingPlaceService;
+    private final PersonalRecommendService personalRecommendService;
+    private final RecommendCardService recommendCardService;
 
     @Transactional
-    public Paper create(Long writerId, AddPaperRequest request) {
+    public Paper create(AuthenticatedUser authenticatedWriter, AddPaperRequest request) {
 
         // Paper 객체 생성
         Paper paper = request.toPaperEntity();
 
         // Writer 주입
-        Users writer = userRepository.findById(writerId)
-                .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_USER_MESSAGE, writerId)));
+        Long writerId = authenticatedWriter.getId();
+        Users writer = authenticatedWriter.getUser();
         paper.addWriter(writer);
 
         // Diary 주입
@@ -77,18 +90,22 @@ public class PaperService {
 
         // Paper 객체 저장
         paper = paperRepository.save(paper);
+        userStatsService.changePaperCount(writerId, 1);
 
         // Address 객체 생성 및 저장
         Address address = request.toAddressEntity();
+        placeService.assignPlace(address);
         address.setPaper(paper);
         addressRepository.save(address);
+        trendingPlaceService.recordVisitAfterCommit(address.getPlace(), paper.getCreatedAt());
+        personalRecommendService.recordVisitAfterCommit(writerId, address.getPlace());
 
-        // Images 객체 생성 및 저장
-        List<Image> images = request.toImagesEntity();
-        for (Image image : images) {
-            image.setPaper(paper);
-            imageRepository.save(image);
-        }
+        // Images 객체 생성 및 배치 저장
+        imageService.createImages(request.toImagesEntity(), paper);
+
+        // 다이어리 멤버들의 홈 화면에서 이 다이어리를 맨 앞으로 올린다.
+        diaryUserRepository.touchLastActivity(diary.getId(), LocalDateTime.now());
+        paperCalendarService.evictAfterCommit(diary.getId(), paper.getCreatedAt());
 
         // 작성자 Comment 저장
         Comment commentEntity = Comment.addCommentBuilder()
@@ -104,18 +121,42 @@ public class PaperService {
         return paper;
     }
 
+    @Transactional(readOnly = true)
     public Paper getPaperById(long Id) {
         return validatePaper(Id);
     }
 
+    /**
+     * Paper 상세 응답의 ETag
+     *
+     * 응답은 Paper(주소, 이미지, 잠금 여부 포함)와 다이어리 이름, 요청자의 북마크 여부와 작성자 여부로 정해지므로
+     * Paper 를 불러오지 않고 수정 시각과 작성자 id 만 조회하여 계산한다. Paper 가 없으면 null 을 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public String getPaperETag(Long paperId, Long userId, boolean bookmarked) {
+        Tuple version = paperRepository.findPaperVersion(paperId);
+        if (version == null) {
+            return null;
+        }
+
+        return ETagUtils.strongETag(
+                paperId,
+                version.get(0, LocalDateTime.class),
+                version.get(1, LocalDateTime.class),
+                userId.equals(version.get(2, Long.class)),
+                bookmarked,
+                userId
+        );
+    }
+
     @Transactional
-    public Paper update(Long userId, Long paperId, UpdatePaperRequest request) {
+    public Paper update(AuthenticatedUser authenticatedUser, Long paperId, UpdatePaperRequest request) {
 
         // Paper 검증 및 불러오기
         Paper paper = validatePaper(paperId);
 
         // User 검증
-        Users findUser = userRepository.findById(userId).orElseThrow(() -> new NotFoundException("존재하지 않는 유저입니다."));
+        Users findUser = authenticatedUser.getUser();
 
         // User가 Diary에 속하는 User인지 검증
         List<String> findDiaryByUserId = diaryUserRepository.findUserByDiary(paper.getDiary().getId());
@@ -132,38 +173,28 @@ public class PaperService {
 
         // Address 업데이트
         Address address = paper.getAddress();
+        Place previousPlace = address.getPlace();
         address.update(
                 request.getCity(),
                 request.getStore(),
                 request.getCoordinateX(),
                 request.getCoordinateY()
         );
+        placeService.assignPlace(address);
 
-        List<Image> newImages = request.toImagesEntity();
-        List<Image> savedimages = paper.getImages();
+        // 장소가 바뀌었으면 이전 장소의 방문 점수를 옮긴다.
+        trendingPlaceService.moveVisitAfterCommit(previousPlace, address.getPlace(), paper.getCreatedAt());
+        personalRecommendService.moveVisitAfterCommit(paper.getWriter().getId(), previousPlace, address.getPlace());
 
-        int newImageSize = newImages.size();
-        int savedImageSize = savedimages.size();
+        // Images 업데이트 (변경된 이미지만 반영)
+        imageService.updateImages(paper, request.toImagesEntity());
 
-        // Images 업데이트 (1/3) 덮어씌우기
-        for (int i = 0; i < newImageSize; i++) {
-            if (i == savedImageSize) break;
-            Image image = savedimages.get(i);
-            image.update(newImages.get(i).getImageUrl());
-        }
-
-        // Images 업데이트 (2/3) 추가로 저장하기
-        for (int i = savedImageSize; i < newImageSize; i++) {
-            Image image = newImages.get(i);
-            image.setPaper(paper);
-            imageRepository.save(image);
-        }
-
-        // Images 업데이트 (3/3) 남는다면 삭제하기
-        for (int i = savedImageSize - 1; i >= newImageSize; i--) {
-            Image image = savedimages.remove(i);
-            imageRepository.delete(image);
-        }
+        // 주소나 이미지만 바뀌어도 Paper 의 ETag 가 바뀌도록 수정 시각을 갱신한다.
+        LocalDateTime now = LocalDateTime.now();
+        paper.updateTime(now);
+        diaryUserRepository.touchLastActivity(paper.getDiary().getId(), now);
+        paperCalendarService.evictAfterCommit(paper.getDiary().getId(), paper.getCreatedAt());
+        recommendCardService.patchAfterCommit(paper);
 
         return paper;
     }
@@ -171,6 +202,7 @@ public class PaperService {
     /**
      * 다이어리 내에 존재하는 Papers 최신순으로 페이지네이션
      */
+    @Transactional(readOnly = true)
     public List<Paper> getPapersByDiaryId(Long diaryId, int page, int size, LocalDate startDate, LocalDate endDate, LocalDateTime requestTime) {
 
         // 다이어리 검증
@@ -183,6 +215,7 @@ public class PaperService {
     /**
      * 작성한 Papers 최신순으로 페이지네이션
      */
+    @Transactional(readOnly = true)
     public List<Paper> getPapersByWriterId(Long writerId, int page, int size, LocalDateTime requestTime) {
 
         PageRequest pageRequest = PageRequest.of(page - 1, size);
@@ -192,10 +225,12 @@ public class PaperService {
     /**
      * 사용자가 속해있는 다이어리의 모든 Paper 불러오기
      */
+    @Transactional(readOnly = true)
     public List<Paper> getPapersByUserId(Long userId) {
         return paperRepository.findAllPapersByUserId(userId);
     }
 
+    @Transactional
     public void deleteById(Long userId, Long paperId) {
 
         Paper findPaper = paperRepository.findById(paperId).orElseThrow(() -> new NotFoundException(NOT_FOUND_PAPER_MESSAGE));
@@ -209,6 +244,14 @@ public class PaperService {
         }
 
         paperRepository.save(findPaper);
+        userStatsService.changePaperCount(userId, -1);
+        paperCalendarService.evictAfterCommit(findPaper.getDiary().getId(), findPaper.getCreatedAt());
+        recommendCardService.markDeletedAfterCommit(paperId);
+
+        // 작성할 때 더했던 방문 점수를 뺀다.
+        Place place = findPaper.getAddress() == null ? null : findPaper.getAddress().getPlace();
+        trendingPlaceService.cancelVisitAfterCommit(place, findPaper.getCreatedAt());
+        personalRecommendService.cancelVisitAfterCommit(userId, place);
     }
 
     public Paper validatePaper(Long paperId) {
@@ -223,15 +266,7 @@ public class PaperService {
     }
 
     public int countPapersByWriterId(Long userId) {
-        List<Paper> findByWriterId = paperRepository.findByWriterId(userId);
-        int count = 0;
-
-        for (Paper paper : findByWriterId) {
-            if (!paper.isDeleted()) {
-                count++;
-            }
-        }
-        return count;
+        return (int) userStatsService.getUserStats(userId).getPaperCount();
     }
 
     // 작성자를 제외한 멤버들에게 코멘트를 달아달라고 알림 전송, 트랜잭션?
@@ -0,0 +1,137 @@
+package com.elice.ustory.domain.place.entity;
+
+import com.elice.ustory.global.entity.BaseEntity;
+import com.elice.ustory.global.entity.TimeOrderedId;
+import com.elice.ustory.global.util.GeoHashUtils;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 여러 Address 가 가리키는 하나의 장소
+ *
+ * 같은 가게를 조금씩 다르게 적은 주소(띄어쓰기, 대소문자, 특수문자, 미세한 좌표 차이)를 하나로 묶기 위해
+ * 정규화한 상호명과 좌표의 geohash 셀로 만든 키(placeKey)로 식별한다.
+ * 셀 경계 양쪽에 찍힌 같은 가게도 묶을 수 있도록, 주변 셀 키의 장소 중 {@value #SAME_PLACE_METERS}m 안에 있는 장소도 같은 장소로 본다.
+ * 상호명이 정규화 후 비어 있으면(특수문자만 있는 경우 등) 묶을 기준이 없으므로 주소마다 따로 장소를 만든다.
+ * 상호명, 주소, 좌표는 이 장소가 처음 만들어질 때의 값을 대표값으로 사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "place", uniqueConstraints = @UniqueConstraint(name = "UK_PLACE_KEY", columnNames = "place_key"))
+public class Place extends BaseEntity {
+
+    /** 같은 장소로 보는 범위 (약 150m x 150m) */
+    public static final int KEY_GEOHASH_PRECISION = 7;
+
+    /** 주변 셀의 장소를 같은 장소로 보는 최대 거리 */
+    public static final int SAME_PLACE_METERS = 150;
+
+    private static final int MAX_KEY_LENGTH = 100;
+    // 상호명 부분의 최대 길이. 넘으면 SHA-256 해시(# + 64자)로 바꾼다.
+    private static final int MAX_STORE_KEY_LENGTH = MAX_KEY_LENGTH - KEY_GEOHASH_PRECISION - 1;
+    private static final String HASHED_STORE_PREFIX = "#";
+    private static final String SINGLETON_KEY_PREFIX = "!";
+
+    private static final Pattern NOT_LETTER_OR_DIGIT = Pattern.compile("[^\\p{L}\\p{N}]");
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(name = "place_key", nullable = false, columnDefinition = "varchar(100)")
+    private String placeKey;
+
+    @Column(name = "store", nullable = false, columnDefinition = "varchar(200)")
+    private String store;
+
+    @Column(name = "city", nullable = false, columnDefinition = "varchar(300)")
+    private String city;
+
+    @Column(name = "coordinate_x", nullable = false, columnDefinition = "decimal(17,15)")
+    private Double coordinateX;
+
+    @Column(name = "coordinate_y", nullable = false, columnDefinition = "decimal(18,15)")
+    private Double coordinateY;
+
+    /**
+     * 장소 키
+     *
+     * 상호명은 호환 문자를 통일(NFKC)하고 소문자로 바꾼 뒤 글자와 숫자만 남긴다.
+     * 상호명 부분이 place_key 길이({@value #MAX_KEY_LENGTH}자)를 넘길 만큼 길면 SHA-256 해시로 바꾼다.
+     * 좌표는 X좌표(위도), Y좌표(경도)의 geohash 앞 {@value #KEY_GEOHASH_PRECISION}자리만 사용한다.
+     *
+     * @return 정규화한 상호명이 비어 있으면 null
+     */
+    public static String keyOf(String store, double coordinateX, double coordinateY) {
+        String storeKey = storeKeyOf(store);
+        if (storeKey == null) {
+            return null;
+        }
+        return storeKey + "@" + GeoHashUtils.encode(coordinateX, coordinateY, KEY_GEOHASH_PRECISION);
+    }
+
+    /**
+     * 같은 상호명으로 주변 8개 셀에 만들어졌을 장소 키들. 정규화한 상호명이 비어 있으면 빈 목록을 반환한다.
+     */
+    public static List<String> neighborKeysOf(String store, double coordinateX, double coordinateY) {
+        String storeKey = storeKeyOf(store);
+        if (storeKey == null) {
+            return List.of();
+        }
+        return GeoHashUtils.neighborCells(coordinateX, coordinateY, KEY_GEOHASH_PRECISION).stream()
+                .map(cell -> storeKey + "@" + cell)
+                .toList();
+    }
+
+    /**
+     * 다른 주소와 묶지 않는 장소의 키. 새 장소의 id 로 만든다.
+     */
+    public static String singletonKey(long id) {
+        return SINGLETON_KEY_PREFIX + id;
+    }
+
+    /** 장소의 대표 좌표에서 (coordinateX, coordinateY) 까지의 거리(m) */
+    public double distanceTo(double coordinateX, double coordinateY) {
+        return GeoHashUtils.distanceMeters(this.coordinateX, this.coordinateY, coordinateX, coordinateY);
+    }
+
+    private static String storeKeyOf(String store) {
+        String normalizedStore = NOT_LETTER_OR_DIGIT.matcher(
+                Normalizer.normalize(store, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT)
+        ).replaceAll("");
+
+        if (normalizedStore.isEmpty()) {
+            return null;
+        }
+        // varchar 길이는 문자 수 기준이므로 코드 포인트 수로 비교한다.
+        if (normalizedStore.codePointCount(0, normalizedStore.length()) <= MAX_STORE_KEY_LENGTH) {
+            return normalizedStore;
+        }
+        return HASHED_STORE_PREFIX + sha256(normalizedStore);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.elice.ustory.domain.place.repository;
+
+import com.elice.ustory.domain.place.entity.Place;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PlaceRepository extends JpaRepository<Place, Long> {
+
+    List<Place> findByPlaceKeyIn(Collection<String> placeKeys);
+
+    /** 잠금 읽기로 조회하여, 트랜잭션이 시작된 뒤 다른 트랜잭션이 커밋한 장소도 읽는다. */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT p FROM Place p WHERE p.placeKey IN :placeKeys")
+    List<Place> findLatestByPlaceKeyIn(@Param("placeKeys") Collection<String> placeKeys);
+
+    /** 같은 키의 장소가 없을 때만 저장한다. 동시에 같은 장소를 만들어도 한 행만 남는다. */
+    @Modifying
+    @Query(value = "INSERT INTO place (id, place_key, store, city, coordinate_x, coordinate_y, created_at, updated_at) " +
+            "VALUES (:id, :placeKey, :store, :city, :coordinateX, :coordinateY, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id,
+                       @Param("placeKey") String placeKey,
+                       @Param("store") String store,
+                       @Param("city") String city,
+                       @Param("coordinateX") Double coordinateX,
+                       @Param("coordinateY") Double coordinateY);
+}
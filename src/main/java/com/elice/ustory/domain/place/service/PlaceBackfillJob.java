@@ -0,0 +1,39 @@
+package com.elice.ustory.domain.place.service;
+
+import com.elice.ustory.domain.job.service.ClusterJob;
+import com.elice.ustory.domain.job.service.JobLease;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장소가 연결되지 않은 주소를 주기적으로 장소에 연결한다. 여러 인스턴스 중 한 곳에서만 실행된다.
+ */
+@Component
+public class PlaceBackfillJob implements ClusterJob {
+
+    public static final String NAME = "place-backfill";
+
+    private final PlaceService placeService;
+    private final String cron;
+
+    public PlaceBackfillJob(PlaceService placeService,
+                            @Value("${ustory.jobs.place-backfill-cron:0 15 * * * ?}") String cron) {
+        this.placeService = placeService;
+        this.cron = cron;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getCron() {
+        return cron;
+    }
+
+    @Override
+    public String execute(JobLease lease) {
+        return placeService.backfillPlaces(lease);
+    }
+}
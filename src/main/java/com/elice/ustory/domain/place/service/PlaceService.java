@@ -0,0 +1,180 @@
+package com.elice.ustory.domain.place.service;
+
+import com.elice.ustory.domain.address.Address;
+import com.elice.ustory.domain.address.AddressRepository;
+import com.elice.ustory.domain.job.service.JobLease;
+import com.elice.ustory.domain.place.entity.Place;
+import com.elice.ustory.domain.place.repository.PlaceRepository;
+import com.elice.ustory.global.entity.TimeOrderedIdGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Address 를 장소(Place)에 연결한다.
+ *
+ * 장소 키로 기존 장소를 찾고, 같은 셀에 없으면 주변 셀의 같은 상호명 장소 중 가까운 장소를 쓴다.
+ * 둘 다 없으면 INSERT ... ON DUPLICATE KEY 로 만든 뒤 잠금 읽기로 다시 읽는다.
+ * 여러 요청이 같은 셀의 장소를 동시에 만들어도 유니크 키 덕분에 한 행만 남고 모두 같은 장소를 가리킨다.
+ * (서로 이웃한 셀에서 동시에 처음 만들어지는 경우에는 두 장소가 생길 수 있다.)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceService {
+
+    private final PlaceRepository placeRepository;
+    private final AddressRepository addressRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 주소의 현재 상호명과 좌표에 맞는 장소를 연결한다. 주소를 만들거나 수정한 뒤 호출한다.
+     */
+    @Transactional
+    public void assignPlace(Address address) {
+        assignPlaces(List.of(address));
+    }
+
+    /**
+     * 여러 주소를 한 번에 장소에 연결한다. 장소 조회는 키 IN 쿼리 한 번으로 한다.
+     */
+    @Transactional
+    public void assignPlaces(List<Address> addresses) {
+        Map<String, Address> firstByKey = new LinkedHashMap<>();
+        Map<Address, String> keys = new HashMap<>();
+        Map<String, Address> missing = new LinkedHashMap<>();
+        for (Address address : addresses) {
+            String key = Place.keyOf(address.getStore(), address.getCoordinateX(), address.getCoordinateY());
+            if (key == null) {
+                // 상호명으로 묶을 수 없는 주소는 다른 주소와 묶지 않고 따로 장소를 만든다.
+                key = Place.singletonKey(TimeOrderedIdGenerator.nextId());
+                missing.put(key, address);
+            } else {
+                firstByKey.putIfAbsent(key, address);
+            }
+            keys.put(address, key);
+        }
+
+        Set<String> lookupKeys = new HashSet<>(firstByKey.keySet());
+        for (Address address : firstByKey.values()) {
+            lookupKeys.addAll(Place.neighborKeysOf(address.getStore(), address.getCoordinateX(), address.getCoordinateY()));
+        }
+        Map<String, Place> found = lookupKeys.isEmpty() ? Map.of() : toMap(placeRepository.findByPlaceKeyIn(lookupKeys));
+
+        Map<String, Place> places = new HashMap<>();
+        for (Map.Entry<String, Address> entry : firstByKey.entrySet()) {
+            Place place = found.containsKey(entry.getKey())
+                    ? found.get(entry.getKey())
+                    : nearestNeighbor(entry.getValue(), found);
+            if (place != null) {
+                places.put(entry.getKey(), place);
+            } else {
+                missing.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (Map.Entry<String, Address> entry : missing.entrySet()) {
+                Address source = entry.getValue();
+                placeRepository.insertIfAbsent(TimeOrderedIdGenerator.nextId(), entry.getKey(),
+                        source.getStore(), source.getCity(), source.getCoordinateX(), source.getCoordinateY());
+            }
+            places.putAll(toMap(placeRepository.findLatestByPlaceKeyIn(missing.keySet())));
+        }
+
+        for (Address address : addresses) {
+            address.assignPlace(places.get(keys.get(address)));
+        }
+    }
+
+    /**
+     * place 컬럼이 추가되기 전의 주소를 장소에 연결한다. 이미 연결된 주소는 건드리지 않으므로 여러 번 실행해도 된다.
+     * PlaceBackfillJob 이 여러 인스턴스 중 한 곳에서만 실행한다.
+     *
+     * 주소를 id 순으로 500개씩 읽고(id > 마지막 id), 묶음마다 따로 커밋해서 행 잠금이 전체 작업 동안 유지되지 않는다.
+     * 한 묶음에서 하나도 연결하지 못하면 같은 실패가 이어질 것으로 보고 멈춘다.
+     *
+     * @return 실행 기록에 남길 처리 결과 요약
+     */
+    public String backfillPlaces(JobLease lease) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int updated = 0;
+        int skipped = 0;
+        long lastId = 0;
+
+        while (true) {
+            lease.checkHeld();
+
+            long afterId = lastId;
+            BackfillChunk chunk = transactionTemplate.execute(status -> {
+                List<Address> addresses = addressRepository.findTop500ByPlaceIsNullAndIdGreaterThanOrderByIdAsc(afterId);
+                if (addresses.isEmpty()) {
+                    return null;
+                }
+
+                assignPlaces(addresses);
+                int assigned = (int) addresses.stream().filter(address -> address.getPlace() != null).count();
+                return new BackfillChunk(addresses.get(addresses.size() - 1).getId(), addresses.size(), assigned);
+            });
+
+            if (chunk == null) {
+                break;
+            }
+            if (chunk.assigned() == 0) {
+                log.warn("[PlaceService] 장소를 하나도 연결하지 못해 채우기를 멈춤 lastId: {}", chunk.lastId());
+                skipped += chunk.size();
+                break;
+            }
+
+            lastId = chunk.lastId();
+            updated += chunk.assigned();
+            skipped += chunk.size() - chunk.assigned();
+        }
+
+        if (updated > 0 || skipped > 0) {
+            log.info("address.place_id 채움: {}건, 건너뜀: {}건", updated, skipped);
+        }
+        return String.format("updated: %d, skipped: %d, lastId: %d", updated, skipped, lastId);
+    }
+
+    private record BackfillChunk(long lastId, int size, int assigned) {
+    }
+
+    /**
+     * 주변 셀 키로 찾은 장소 중 주소에서 SAME_PLACE_METERS 안에 있는 가장 가까운 장소. 없으면 null
+     */
+    private static Place nearestNeighbor(Address address, Map<String, Place> found) {
+        Place nearest = null;
+        double nearestDistance = Place.SAME_PLACE_METERS;
+        for (String neighborKey : Place.neighborKeysOf(address.getStore(), address.getCoordinateX(), address.getCoordinateY())) {
+            Place candidate = found.get(neighborKey);
+            if (candidate == null) {
+                continue;
+            }
+            double distance = candidate.distanceTo(address.getCoordinateX(), address.getCoordinateY());
+            if (distance <= nearestDistance) {
+                nearest = candidate;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    private static Map<String, Place> toMap(List<Place> found) {
+        Map<String, Place> places = new HashMap<>();
+        for (Place place : found) {
+            places.put(place.getPlaceKey(), place);
+        }
+        return places;
+    }
+}
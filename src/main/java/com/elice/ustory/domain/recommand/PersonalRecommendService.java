@@ -0,0 +1,452 @@
+package com.elice.ustory.domain.recommand;
+
+import com.elice.ustory.domain.diaryUser.repository.DiaryUserRepository;
+import com.elice.ustory.domain.friend.repository.FriendRepository;
+import com.elice.ustory.domain.paper.repository.PaperRepository;
+import com.elice.ustory.domain.place.entity.Place;
+import com.elice.ustory.domain.place.repository.PlaceRepository;
+import com.elice.ustory.domain.recommand.VisitMatrix.ScoredPlace;
+import com.elice.ustory.domain.recommand.dto.PersonalRecommendResponse;
+import com.elice.ustory.domain.recommand.dto.TrendingPlaceResponse;
+import com.elice.ustory.global.exception.model.ValidationException;
+import com.querydsl.core.Tuple;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 친구와 다이어리 멤버의 방문 기록으로 만든 사용자별 추천 장소
+ *
+ * 사용자의 친구와 같은 다이어리 멤버를 행으로, 그들이 Paper 를 작성한 장소를 열로 하는 방문 수 희소 행렬(VisitMatrix)에
+ * 관계별 가중치를 곱해 장소 점수를 계산하고, 사용자가 이미 방문한 장소를 뺀 상위 후보를 Redis sorted set 에 저장해 둔다.
+ * 후보 목록은 TTL 이 지나면 다시 계산하고, 그 사이에는 이웃이 Paper 를 작성할 때마다 그 장소의 점수를 더해 갱신한다.
+ *
+ * 조회는 timeout-ms 안에 끝나지 않거나 후보 목록이 아직 없으면 전체 인기 장소를 대신 반환하고,
+ * 후보 목록 계산은 백그라운드에서 시작한다. 계산된 후보가 size 개보다 적으면 나머지를 인기 장소로 채운다.
+ *
+ * 조회는 크기가 정해진 전용 풀(read-threads, read-queue-size)에서 실행하여, 후보 계산이나 방문 반영 작업이 밀려도
+ * 조회가 그 뒤에 줄 서지 않는다. 풀이 가득 차면 기다리지 않고 바로 인기 장소를 반환한다.
+ */
+@Slf4j
+@Service
+public class PersonalRecommendService {
+
+    public static final int MAX_SIZE = TrendingPlaceService.MAX_SIZE;
+
+    private static final String KEY_PREFIX = "PersonalPlace:";
+    private static final String THREAD_NAME_PREFIX = "personal-recommend-";
+    private static final String READ_THREAD_NAME_PREFIX = "personal-recommend-read-";
+    // 이웃의 방문 기록이 없는 사용자도 "계산이 끝났음" 을 구분하기 위한 점수 0 의 멤버
+    private static final String EMPTY_MARKER = "-";
+    private static final String INVALID_SIZE_MESSAGE = "사이즈는 1 이상 " + MAX_SIZE + " 이하여야 합니다.";
+
+    // KEYS: 후보 목록 / ARGV: TTL(초), 장소 id, 점수, 장소 id, 점수, ...
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('ZADD', KEYS[1], 0, '%s')
+            for i = 2, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """.formatted(EMPTY_MARKER), Long.class);
+
+    // KEYS: 후보 목록 / ARGV: 장소 id, 더할 점수, 남길 후보 수
+    // 아직 계산되지 않은 목록은 만들지 않는다. 다음 조회 때 전체 계산에 포함된다.
+    // 이웃마다 키가 달라(클러스터에서 슬롯이 다를 수 있음) 한 번의 EVAL 로 묶지 않고, 이웃별 EVAL 을 파이프라인으로 보낸다.
+    private static final byte[] INCREMENT_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 2))
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    // KEYS: 후보 목록 / ARGV: 장소 id, 뺄 점수
+    // 방문 취소는 목록에 있는 장소에서만 빼고, 0 이하가 되면 지운다.
+    private static final byte[] DECREMENT_SCRIPT = """
+            if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                return 0
+            end
+            local score = tonumber(redis.call('ZINCRBY', KEYS[1], -tonumber(ARGV[2]), ARGV[1]))
+            if score <= 0 then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FriendRepository friendRepository;
+    private final DiaryUserRepository diaryUserRepository;
+    private final PaperRepository paperRepository;
+    private final PlaceRepository placeRepository;
+    private final TrendingPlaceService trendingPlaceService;
+    private final ExecutorService executor;
+    private final ExecutorService readExecutor;
+    private final Set<Long> rebuilding = ConcurrentHashMap.newKeySet();
+    private final long timeoutMillis;
+    private final Duration ttl;
+    private final int candidateSize;
+    private final int maxNeighbors;
+    private final double friendWeight;
+    private final double coMemberWeight;
+
+    public PersonalRecommendService(StringRedisTemplate stringRedisTemplate,
+                                    FriendRepository friendRepository,
+                                    DiaryUserRepository diaryUserRepository,
+                                    PaperRepository paperRepository,
+                                    PlaceRepository placeRepository,
+                                    TrendingPlaceService trendingPlaceService,
+                                    @Value("${ustory.personal-recommend.timeout-ms:150}") long timeoutMillis,
+                                    @Value("${ustory.personal-recommend.ttl-hours:24}") long ttlHours,
+                                    @Value("${ustory.personal-recommend.candidate-size:100}") int candidateSize,
+                                    @Value("${ustory.personal-recommend.max-neighbors:2000}") int maxNeighbors,
+                                    @Value("${ustory.personal-recommend.friend-weight:1.0}") double friendWeight,
+                                    @Value("${ustory.personal-recommend.co-member-weight:0.5}") double coMemberWeight,
+                                    @Value("${ustory.personal-recommend.worker-threads:4}") int workerThreads,
+                                    @Value("${ustory.personal-recommend.read-threads:8}") int readThreads,
+                                    @Value("${ustory.personal-recommend.read-queue-size:64}") int readQueueSize,
+                                    @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.friendRepository = friendRepository;
+        this.diaryUserRepository = diaryUserRepository;
+        this.paperRepository = paperRepository;
+        this.placeRepository = placeRepository;
+        this.trendingPlaceService = trendingPlaceService;
+        this.timeoutMillis = timeoutMillis;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.candidateSize = candidateSize;
+        this.maxNeighbors = maxNeighbors;
+        this.friendWeight = friendWeight;
+        this.coMemberWeight = coMemberWeight;
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory())
+                : Executors.newFixedThreadPool(workerThreads, new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+        // 조회는 대기열까지 가득 차면 거절(RejectedExecutionException)하고 인기 장소로 대체한다.
+        ThreadFactory readThreadFactory = virtualThreads
+                ? Thread.ofVirtual().name(READ_THREAD_NAME_PREFIX, 0).factory()
+                : new CustomizableThreadFactory(READ_THREAD_NAME_PREFIX);
+        this.readExecutor = new ThreadPoolExecutor(readThreads, readThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(readQueueSize), readThreadFactory);
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdown();
+        readExecutor.shutdown();
+    }
+
+    /**
+     * 사용자에게 추천할 장소를 점수 순으로 size 개 불러온다.
+     * 후보 목록이 없거나 timeout-ms 안에 읽지 못하면 전체 인기 장소를 반환하고,
+     * 후보가 size 개보다 적으면(이웃의 방문 기록이 적은 경우 등) 목록에 없는 인기 장소로 나머지를 채운다.
+     */
+    public PersonalRecommendResponse getPersonalPlaces(Long userId, int size) {
+
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ValidationException(INVALID_SIZE_MESSAGE);
+        }
+
+        List<TrendingPlaceResponse> places = readWithinBudget(userId, size);
+        if (places == null || places.isEmpty()) {
+            return new PersonalRecommendResponse(false, trendingPlaceService.getTrendingPlaces(null, null, size));
+        }
+
+        if (places.size() < size) {
+            return new PersonalRecommendResponse(true, fillWithTrending(places, size));
+        }
+        return new PersonalRecommendResponse(true, places);
+    }
+
+    /**
+     * 사용자가 장소에 Paper 를 작성했음을 커밋 후 반영한다.
+     * 친구와 다이어리 멤버의 후보 목록에서 그 장소의 점수를 올리고, 작성자 본인의 후보 목록에서는 지운다.
+     */
+    public void recordVisitAfterCommit(Long writerId, Place place) {
+        if (place == null) {
+            return;
+        }
+
+        Long placeId = place.getId();
+        afterCommit(() -> submit(() -> propagateVisit(writerId, placeId)));
+    }
+
+    /**
+     * 사용자가 장소에 작성한 Paper 가 삭제되었음을 커밋 후 반영한다.
+     * 친구와 다이어리 멤버의 후보 목록에서 작성할 때 올렸던 만큼 그 장소의 점수를 내린다.
+     */
+    public void cancelVisitAfterCommit(Long writerId, Place place) {
+        if (place == null) {
+            return;
+        }
+
+        Long placeId = place.getId();
+        afterCommit(() -> submit(() -> propagateCancel(writerId, placeId)));
+    }
+
+    /**
+     * 사용자가 작성한 Paper 의 장소가 바뀌었음을 커밋 후 반영한다. 이전 장소의 방문을 취소하고 새 장소의 방문을 더한다.
+     */
+    public void moveVisitAfterCommit(Long writerId, Place from, Place to) {
+        if (from != null && to != null && from.getId().equals(to.getId())) {
+            return;
+        }
+
+        cancelVisitAfterCommit(writerId, from);
+        recordVisitAfterCommit(writerId, to);
+    }
+
+    /**
+     * 사용자의 후보 목록을 처음부터 다시 계산해 저장한다.
+     */
+    public void rebuild(Long userId) {
+        Map<Long, Double> neighborWeights = neighborWeights(userId);
+
+        List<ScoredPlace> ranked = List.of();
+        if (!neighborWeights.isEmpty()) {
+            VisitMatrix.Builder builder = new VisitMatrix.Builder();
+            List<Long> neighborIds = new ArrayList<>(neighborWeights.keySet());
+            Map<Long, List<Tuple>> visitsByWriter = paperRepository.countVisitsByWriters(neighborIds).stream()
+                    .collect(Collectors.groupingBy(visit -> visit.get(0, Long.class)));
+
+            double[] rowWeights = new double[neighborIds.size()];
+            for (int row = 0; row < neighborIds.size(); row++) {
+                Long neighborId = neighborIds.get(row);
+                rowWeights[row] = neighborWeights.get(neighborId);
+                for (Tuple visit : visitsByWriter.getOrDefault(neighborId, List.of())) {
+                    builder.add(visit.get(1, Long.class), visit.get(2, Long.class));
+                }
+                builder.nextRow();
+            }
+
+            Set<Long> visited = new HashSet<>(paperRepository.findVisitedPlaceIds(userId));
+            ranked = builder.build().topPlaces(rowWeights, visited, candidateSize);
+        }
+
+        List<String> args = new ArrayList<>(ranked.size() * 2 + 1);
+        args.add(String.valueOf(ttl.toSeconds()));
+        for (ScoredPlace place : ranked) {
+            args.add(String.valueOf(place.placeId()));
+            args.add(String.valueOf(place.score()));
+        }
+        stringRedisTemplate.execute(REPLACE_SCRIPT, List.of(key(userId)), args.toArray());
+    }
+
+    // 후보 목록을 읽어 장소 정보를 붙인다. 목록이 없거나 시간 안에 끝나지 않으면 null
+    private List<TrendingPlaceResponse> readWithinBudget(Long userId, int size) {
+        Future<List<TrendingPlaceResponse>> future;
+        try {
+            future = readExecutor.submit(() -> read(userId, size));
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+
+        try {
+            List<TrendingPlaceResponse> places = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            if (places == null) {
+                requestRebuild(userId);
+            }
+            return places;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("[PersonalRecommendService] 개인 추천 조회가 {}ms 안에 끝나지 않아 인기 장소로 대체 userId: {}", timeoutMillis, userId);
+        } catch (ExecutionException e) {
+            log.warn("[PersonalRecommendService] 개인 추천 조회 실패 userId: {}", userId, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private List<TrendingPlaceResponse> read(Long userId, int size) {
+        String key = key(userId);
+        // 점수가 0 보다 큰 장소만 읽는다. EMPTY_MARKER 만 있는 목록은 빈 목록이 된다.
+        Set<TypedTuple<String>> ranked = stringRedisTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(key, Double.MIN_VALUE, Double.POSITIVE_INFINITY, 0, size);
+
+        if (ranked == null || ranked.isEmpty()) {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key)) ? List.of() : null;
+        }
+
+        List<Long> placeIds = ranked.stream()
+                .map(tuple -> Long.valueOf(tuple.getValue()))
+                .toList();
+        Map<Long, Place> places = placeRepository.findAllById(placeIds).stream()
+                .collect(Collectors.toMap(Place::getId, Function.identity()));
+
+        List<TrendingPlaceResponse> result = new ArrayList<>(ranked.size());
+        for (TypedTuple<String> tuple : ranked) {
+            Place place = places.get(Long.valueOf(tuple.getValue()));
+            if (place != null) {
+                result.add(new TrendingPlaceResponse(place, tuple.getScore()));
+            }
+        }
+        return result;
+    }
+
+    // 같은 사용자의 계산은 동시에 하나만 실행한다.
+    private void requestRebuild(Long userId) {
+        if (!rebuilding.add(userId)) {
+            return;
+        }
+
+        try {
+            CompletableFuture.runAsync(() -> rebuild(userId), executor)
+                    .whenComplete((ignored, e) -> {
+                        rebuilding.remove(userId);
+                        if (e != null) {
+                            log.warn("[PersonalRecommendService] 개인 추천 후보 계산 실패 userId: {}", userId, e);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            rebuilding.remove(userId);
+        }
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 방문 수는 log(1 + n) 으로 반영하므로, 증가분은 첫 방문 기준(log 2)의 근사값이다. TTL 이 지나 다시 계산할 때 정확한 값이 된다.
+    private void propagateVisit(Long writerId, Long placeId) {
+        String member = String.valueOf(placeId);
+        stringRedisTemplate.opsForZSet().remove(key(writerId), member);
+
+        Map<Long, Double> neighbors = neighborWeights(writerId);
+        if (neighbors.isEmpty()) {
+            return;
+        }
+
+        byte[] memberBytes = member.getBytes(StandardCharsets.UTF_8);
+        byte[] candidateSizeBytes = String.valueOf(candidateSize).getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<Long, Double> neighbor : neighbors.entrySet()) {
+                connection.scriptingCommands().eval(INCREMENT_SCRIPT, ReturnType.INTEGER, 1,
+                        key(neighbor.getKey()).getBytes(StandardCharsets.UTF_8),
+                        memberBytes,
+                        String.valueOf(neighbor.getValue() * Math.log(2)).getBytes(StandardCharsets.UTF_8),
+                        candidateSizeBytes);
+            }
+            return null;
+        });
+    }
+
+    // propagateVisit 이 더했던 근사값(log 2)만큼 뺀다. 작성자 본인의 목록은 다시 계산할 때 채워진다.
+    private void propagateCancel(Long writerId, Long placeId) {
+        Map<Long, Double> neighbors = neighborWeights(writerId);
+        if (neighbors.isEmpty()) {
+            return;
+        }
+
+        byte[] memberBytes = String.valueOf(placeId).getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<Long, Double> neighbor : neighbors.entrySet()) {
+                connection.scriptingCommands().eval(DECREMENT_SCRIPT, ReturnType.INTEGER, 1,
+                        key(neighbor.getKey()).getBytes(StandardCharsets.UTF_8),
+                        memberBytes,
+                        String.valueOf(neighbor.getValue() * Math.log(2)).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+
+    // 개인 추천 뒤에 목록에 없는 인기 장소를 이어 붙여 size 개까지 채운다.
+    private List<TrendingPlaceResponse> fillWithTrending(List<TrendingPlaceResponse> places, int size) {
+        Set<Long> included = places.stream()
+                .map(TrendingPlaceResponse::getPlaceId)
+                .collect(Collectors.toSet());
+
+        List<TrendingPlaceResponse> filled = new ArrayList<>(places);
+        for (TrendingPlaceResponse trending : trendingPlaceService.getTrendingPlaces(null, null, size)) {
+            if (filled.size() >= size) {
+                break;
+            }
+            if (included.add(trending.getPlaceId())) {
+                filled.add(trending);
+            }
+        }
+        return filled;
+    }
+
+    // 친구와 다이어리 멤버의 id 별 가중치. 두 관계에 모두 해당하면 가중치를 더한다.
+    private Map<Long, Double> neighborWeights(Long userId) {
+        Map<Long, Double> weights = new LinkedHashMap<>();
+        for (Long friendId : friendRepository.findFriendIds(userId)) {
+            weights.merge(friendId, friendWeight, Double::sum);
+        }
+        for (Long memberId : diaryUserRepository.findCoMemberIds(userId)) {
+            weights.merge(memberId, coMemberWeight, Double::sum);
+        }
+
+        if (weights.size() > maxNeighbors) {
+            log.warn("[PersonalRecommendService] 이웃이 {}명을 넘어 일부만 반영 userId: {}, neighbors: {}", maxNeighbors, userId, weights.size());
+            return weights.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                    .limit(maxNeighbors)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+        }
+        return weights;
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("[PersonalRecommendService] 개인 추천 후보 갱신 실패", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("[PersonalRecommendService] 개인 추천 후보 갱신 작업을 등록하지 못함", e);
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
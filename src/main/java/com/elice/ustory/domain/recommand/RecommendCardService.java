@@ -0,0 +1,147 @@
+package com.elice.ustory.domain.recommand;
+
+import com.elice.ustory.domain.great.repository.GreatRepository;
+import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.paper.repository.PaperRepository;
+import com.elice.ustory.domain.recommand.dto.RecommendCardDTO;
+import com.elice.ustory.global.redis.recommend.RecommendCardRedisService;
+import com.querydsl.core.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 Paper 카드의 write-through 캐시
+ *
+ * 추천 재계산이 카드를 함께 저장하고, 조회는 Redis 에서만 읽는다. 카드가 없을 때만 MySQL 에서 읽어 다시 저장한다.
+ * Paper 수정, 삭제와 좋아요 변경은 커밋 후 카드에 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendCardService {
+
+    // 좋아요 수를 셀 때 IN 절 하나에 넣는 Paper 수
+    private static final int GREAT_COUNT_BATCH_SIZE = 1000;
+
+    private final PaperRepository paperRepository;
+    private final GreatRepository greatRepository;
+    private final RecommendCardRedisService recommendCardRedisService;
+
+    /**
+     * [장소 id, Paper id, 제목, 썸네일, 상호명] 행에 좋아요 수를 붙여 카드로 만든다. 행의 순서를 유지한다.
+     */
+    public List<RecommendCardDTO> toCards(List<Tuple> rows) {
+        Map<Long, Integer> greatCounts = new HashMap<>();
+        for (int from = 0; from < rows.size(); from += GREAT_COUNT_BATCH_SIZE) {
+            List<Long> paperIds = rows.subList(from, Math.min(rows.size(), from + GREAT_COUNT_BATCH_SIZE)).stream()
+                    .map(row -> row.get(1, Long.class))
+                    .toList();
+            for (Tuple count : greatRepository.countGreatsByPaperIds(paperIds)) {
+                greatCounts.put(count.get(0, Long.class), count.get(1, Long.class).intValue());
+            }
+        }
+
+        List<RecommendCardDTO> cards = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Long paperId = row.get(1, Long.class);
+            cards.add(new RecommendCardDTO(
+                    paperId,
+                    row.get(2, String.class),
+                    row.get(3, String.class),
+                    row.get(4, String.class),
+                    greatCounts.getOrDefault(paperId, 0)
+            ));
+        }
+        return cards;
+    }
+
+    /**
+     * paperIds 의 카드를 불러온다. Redis 에 없는 카드만 MySQL 에서 읽어 저장한다.
+     * 삭제된 Paper 는 결과에서 빠지며, 삭제된 카드로 저장해 두어 다음 조회부터는 MySQL 을 읽지 않는다.
+     * 읽는 사이 Paper 가 삭제되어 삭제된 카드가 먼저 저장되었으면, 읽어 둔 카드로 덮어쓰지 않는다.
+     */
+    public Map<Long, RecommendCardDTO> getCards(List<Long> paperIds) {
+        Map<Long, RecommendCardDTO> cards = new HashMap<>();
+        try {
+            cards.putAll(recommendCardRedisService.getAll(paperIds));
+        } catch (RuntimeException e) {
+            log.warn("[RecommendCardService] 추천 카드 조회 실패, MySQL 에서 읽음", e);
+        }
+
+        if (cards.size() < paperIds.size()) {
+            List<Long> missingIds = paperIds.stream()
+                    .filter(paperId -> !cards.containsKey(paperId))
+                    .toList();
+
+            List<RecommendCardDTO> loaded = new ArrayList<>(toCards(paperRepository.findRecommendCardsByPaperIds(missingIds)));
+            for (RecommendCardDTO card : loaded) {
+                cards.put(card.getPaperId(), card);
+            }
+            for (Long paperId : missingIds) {
+                if (!cards.containsKey(paperId)) {
+                    loaded.add(RecommendCardDTO.deleted(paperId));
+                }
+            }
+
+            try {
+                recommendCardRedisService.saveAll(loaded);
+            } catch (RuntimeException e) {
+                log.warn("[RecommendCardService] 추천 카드 저장 실패 count: {}", loaded.size(), e);
+            }
+        }
+
+        cards.values().removeIf(RecommendCardDTO::isDeleted);
+        return cards;
+    }
+
+    /** Paper 의 제목, 썸네일, 상호명이 바뀐 것을 커밋 후 카드에 반영한다. */
+    public void patchAfterCommit(Paper paper) {
+        Long paperId = paper.getId();
+        Map<String, String> fields = new HashMap<>();
+        fields.put(RecommendCardDTO.TITLE, paper.getTitle());
+        fields.put(RecommendCardDTO.THUMBNAIL_IMAGE_URL, paper.getThumbnailImageUrl());
+        fields.put(RecommendCardDTO.STORE, paper.getAddress().getStore());
+
+        afterCommit(() -> recommendCardRedisService.patch(paperId, fields), paperId);
+    }
+
+    /** 삭제된 Paper 의 카드를 커밋 후 삭제된 카드로 바꾼다. */
+    public void markDeletedAfterCommit(Long paperId) {
+        afterCommit(() -> recommendCardRedisService.markDeleted(paperId), paperId);
+    }
+
+    /** 좋아요 수 변경을 커밋 후 카드에 반영한다. */
+    public void changeGreatCountAfterCommit(Long paperId, int delta) {
+        afterCommit(() -> recommendCardRedisService.incrementGreatCount(paperId, delta), paperId);
+    }
+
+    private void afterCommit(Runnable task, Long paperId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(task, paperId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                run(task, paperId);
+            }
+        });
+    }
+
+    private void run(Runnable task, Long paperId) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("[RecommendCardService] 추천 카드 갱신 실패 paperId: {}", paperId, e);
+        }
+    }
+}
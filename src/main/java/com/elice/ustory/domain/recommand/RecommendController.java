@@ -1,10 +1,13 @@
 package com.elice.ustory.domain.recommand;
 
 import com.elice.ustory.domain.recommand.dto.MainRecommendResponse;
+import com.elice.ustory.domain.recommand.dto.PersonalRecommendResponse;
 import com.elice.ustory.domain.recommand.dto.RecommendPaperDTO;
 import com.elice.ustory.domain.recommand.dto.RecommendPaperResponse;
+import com.elice.ustory.domain.recommand.dto.TrendingPlaceResponse;
 import com.elice.ustory.global.Validation.PageableValidation;
 import com.elice.ustory.global.exception.dto.ErrorResponse;
+import com.elice.ustory.global.jwt.JwtAuthorization;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,7 +15,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,6 +26,8 @@ import java.util.List;
 public class RecommendController {
 
     private final RecommendService recommendService;
+    private final TrendingPlaceService trendingPlaceService;
+    private final PersonalRecommendService personalRecommendService;
 
     @Operation(summary = "Get Recommend Store", description = "추천하는 장소 리스트들을 보여줍니다.")
     @ApiResponses({
@@ -52,15 +56,31 @@ public class RecommendController {
         return ResponseEntity.ok(recommendPapers);
     }
 
-    @Operation(summary = "Reset Recommend Redis DataBase", description = "새로운 추천 리스트들을 보여줍니다. <br> 원래는 자정마다 변경됩니다. <br> 실행시키면 주소 개수에 따라 추천이 변경됩니다.")
+    @Operation(summary = "Get Trending Places", description = "최근 방문과 좋아요가 많은 장소를 인기 점수 순으로 보여줍니다. <br> 점수는 시간이 지날수록 줄어듭니다. <br> 좌표를 지정하면 그 좌표가 속한 지역의 순위를 보여줍니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "204", description = "No Content", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = TrendingPlaceResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingPlaceResponse>> getTrendingPlaces(@RequestParam(name = "coordinateX", required = false) Double coordinateX,
+                                                                         @RequestParam(name = "coordinateY", required = false) Double coordinateY,
+                                                                         @RequestParam(name = "size", defaultValue = "10") int size) {
+        List<TrendingPlaceResponse> trendingPlaces = trendingPlaceService.getTrendingPlaces(coordinateX, coordinateY, size);
+        return ResponseEntity.ok(trendingPlaces);
+    }
+
+    @Operation(summary = "Get Personal Recommend Places", description = "친구와 같은 다이어리 멤버가 방문한 장소 중 아직 방문하지 않은 장소를 추천 점수 순으로 보여줍니다. <br> 추천 목록이 준비되지 않았거나 응답이 늦으면 전체 인기 장소를 대신 보여줍니다. (personalized = false) <br> 추천 장소가 size 개보다 적으면 나머지를 인기 장소로 채웁니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PersonalRecommendResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
-    @GetMapping("/reset")
-    public ResponseEntity<Void> recommendTest() {
-        recommendService.setRecommendPapers();
-        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    @GetMapping("/personal")
+    public ResponseEntity<PersonalRecommendResponse> getPersonalPlaces(@JwtAuthorization Long userId,
+                                                                       @RequestParam(name = "size", defaultValue = "10") int size) {
+        PersonalRecommendResponse personalPlaces = personalRecommendService.getPersonalPlaces(userId, size);
+        return ResponseEntity.ok(personalPlaces);
     }
 
 }
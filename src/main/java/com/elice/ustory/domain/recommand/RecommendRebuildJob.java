@@ -0,0 +1,39 @@
+package com.elice.ustory.domain.recommand;
+
+import com.elice.ustory.domain.job.service.ClusterJob;
+import com.elice.ustory.domain.job.service.JobLease;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매일 자정 추천 페이퍼 목록을 다시 만든다. 여러 인스턴스 중 한 곳에서만 실행된다.
+ */
+@Component
+public class RecommendRebuildJob implements ClusterJob {
+
+    public static final String NAME = "recommend-rebuild";
+
+    private final RecommendService recommendService;
+    private final String cron;
+
+    public RecommendRebuildJob(RecommendService recommendService,
+                               @Value("${ustory.jobs.recommend-rebuild-cron:0 0 0 * * ?}") String cron) {
+        this.recommendService = recommendService;
+        this.cron = cron;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getCron() {
+        return cron;
+    }
+
+    @Override
+    public String execute(JobLease lease) {
+        return recommendService.setRecommendPapers(lease);
+    }
+}
@@ -2,129 +2,315 @@ package com.elice.ustory.domain.recommand;
 
 import com.elice.ustory.domain.address.AddressRecommendDTO;
 import com.elice.ustory.domain.address.AddressRepository;
-import com.elice.ustory.domain.great.repository.GreatRepository;
-import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.job.service.JobLease;
 import com.elice.ustory.domain.paper.repository.PaperRepository;
+import com.elice.ustory.domain.place.entity.Place;
+import com.elice.ustory.domain.place.repository.PlaceRepository;
 import com.elice.ustory.domain.recommand.dto.*;
+import com.elice.ustory.global.exception.model.InternalServerException;
 import com.elice.ustory.global.exception.model.NotFoundException;
+import com.elice.ustory.global.redis.recommend.RecommendCardRedisService;
 import com.elice.ustory.global.redis.recommend.RecommendRedisService;
-import lombok.RequiredArgsConstructor;
+import com.querydsl.core.Tuple;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RecommendService {
 
     private final AddressRepository addressRepository;
     private final PaperRepository paperRepository;
-    private final GreatRepository greatRepository;
     private final RecommendRedisService recommendRedisService;
+    private final RecommendCardRedisService recommendCardRedisService;
+    private final RecommendCardService recommendCardService;
+    private final TrendingPlaceService trendingPlaceService;
+    private final PlaceRepository placeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService rebuildExecutor;
+    private final int chunkSize;
+    private final int parallelism;
+
+    private static final int RECOMMEND_PLACE_SIZE = 100;
+    private static final int THUMBNAIL_CANDIDATE_SIZE = 3;
+    private static final String THREAD_NAME_PREFIX = "recommend-rebuild-";
 
-    private static final String NOT_FOUND_PAPER_MESSAGE = "%d: 해당하는 페이퍼가 존재하지 않습니다.";
     private static final String NOT_FOUND_PAPERS = "어떠한 페이퍼도 찾을 수 없습니다.";
 
     private static final String NOT_FOUND_STORE = "상호명을 불러올 수 없습니다.";
 
+    private static final String PUBLISH_FAILED = "저장한 추천 목록이 만료되어 교체하지 못했습니다.";
+
+    public RecommendService(AddressRepository addressRepository,
+                            PaperRepository paperRepository,
+                            RecommendRedisService recommendRedisService,
+                            RecommendCardRedisService recommendCardRedisService,
+                            RecommendCardService recommendCardService,
+                            TrendingPlaceService trendingPlaceService,
+                            PlaceRepository placeRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${ustory.recommend.rebuild.chunk-size:200}") int chunkSize,
+                            @Value("${ustory.recommend.rebuild.parallelism:4}") int parallelism) {
+        this.addressRepository = addressRepository;
+        this.paperRepository = paperRepository;
+        this.recommendRedisService = recommendRedisService;
+        this.recommendCardRedisService = recommendCardRedisService;
+        this.recommendCardService = recommendCardService;
+        this.trendingPlaceService = trendingPlaceService;
+        this.placeRepository = placeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rebuildExecutor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        rebuildExecutor.shutdown();
+    }
+
     /**
-     * 매일 자정마다 추천 페이퍼들을 뽑아낸다. (생명주기 또한 자정까지)
+     * 추천 페이퍼들을 뽑아낸다. (생명주기는 자정까지)
+     * 장소는 최근 방문과 좋아요로 계산한 인기 점수 순서를 따른다.
+     * 매일 자정 RecommendRebuildJob 이 여러 인스턴스 중 한 곳에서만 실행한다.
      *
+     * 순위를 매길 장소 id 를 먼저 한 번에 정한다. (인기 점수 상위 RECOMMEND_PLACE_SIZE 개, 점수가 없으면 주소 개수 집계 한 번)
+     * 정한 순위를 chunk 로 나누고, chunk 마다 장소와 Paper 카드(id, 제목, 썸네일, 상호명, 좋아요 수)를 IN 쿼리로 한 번에 불러오는 작업을
+     * parallelism 개 스레드에서 동시에 실행한다.
+     * 장소가 적으면(인기 점수 경로는 최대 RECOMMEND_PLACE_SIZE 개) chunk 하나에 몰리지 않도록 parallelism 개로 나눠 chunk 크기를 줄인다.
+     * 끝난 chunk 는 순위 순서대로 이번 실행의 staging 해시에 저장하며, 아직 저장하지 못한 chunk 는 parallelism * 2 개까지만 쌓아 둔다.
+     * 모두 저장하면 staging 해시를 현재 추천 목록과 한 번에 바꾼다. 실패하면 staging 해시를 지우고 이전 추천을 그대로 둔다.
+     * 저장할 때마다, 그리고 바꾸기 직전에 작업 잠금을 확인해서, 잠금을 잃은 뒤 다른 인스턴스가 만든 추천을 덮어쓰지 않는다.
+     *
+     * @param lease 실행 중인 작업의 잠금
+     * @return 실행 기록에 남길 처리 결과 요약
      */
-    @Scheduled(cron = "0 0 0 * * ?")
-    public void setRecommendPapers() {
+    public String setRecommendPapers(JobLease lease) {
+        long startedAt = System.nanoTime();
+        RebuildProgress progress = new RebuildProgress();
+
+        List<Long> rankedPlaceIds = trendingPlaceService.getTopPlaceIds(RECOMMEND_PLACE_SIZE);
+        if (rankedPlaceIds.isEmpty()) {
+            rankedPlaceIds = countedPlaceIds(LocalDateTime.now(), progress);
+        }
+        progress.places = rankedPlaceIds.size();
+        int size = chunkSizeFor(rankedPlaceIds.size());
 
-        recommendRedisService.deleteKeysWithPattern("RecommendPaper*");
+        String stagingKey = recommendRedisService.newStagingKey();
+        Deque<CompletableFuture<RecommendChunk>> pending = new ArrayDeque<>();
 
-        List<RecommendCountDTO> recommendCountDTOS = addressRepository.countEqualAddress();
+        try {
+            for (int from = 0; from < rankedPlaceIds.size(); from += size) {
+                List<Long> placeIds = rankedPlaceIds.subList(from, Math.min(rankedPlaceIds.size(), from + size));
+                pending.add(CompletableFuture.supplyAsync(() -> resolveChunk(placeIds, progress), rebuildExecutor));
+
+                if (pending.size() >= parallelism * 2) {
+                    save(pending.poll().join(), stagingKey, progress, lease);
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                save(pending.poll().join(), stagingKey, progress, lease);
+            }
+
+            // 저장한 추천이 하나도 없으면 이전 추천을 그대로 둔다.
+            if (progress.saved == 0) {
+                throw new NotFoundException(NOT_FOUND_PAPERS);
+            }
 
-        if (recommendCountDTOS.isEmpty()) {
-            throw new NotFoundException(NOT_FOUND_PAPERS);
+            lease.checkHeld();
+            if (!recommendRedisService.publish(stagingKey)) {
+                throw new InternalServerException(PUBLISH_FAILED);
+            }
+        } catch (RuntimeException e) {
+            pending.forEach(future -> future.cancel(true));
+            discard(stagingKey);
+            if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
 
-        for (RecommendCountDTO recommendCountDTO : recommendCountDTOS) {
-            AddressRecommendDTO addressRecommendDTO = new AddressRecommendDTO(recommendCountDTO);
-            RecommendRedisDTO recommendRedisDTO = new RecommendRedisDTO();
+        String summary = String.format("places: %d, saved: %d, papers: %d, chunks: %d, db: %dms, redis: %dms, total: %dms",
+                progress.places, progress.saved, progress.papers, progress.chunks,
+                progress.dbMillis.get(), progress.redisMillis, elapsedMillis(startedAt));
+        log.info("[RecommendService] 추천 페이퍼 저장 완료 {}", summary);
+        return summary;
+    }
 
-            recommendRedisDTO.setAddressRecommendDTO(addressRecommendDTO);
+    // 점수가 아직 쌓이지 않았거나 Redis 를 사용할 수 없으면 requestTime 시점까지의 주소를 장소별로 한 번만 세어 순위를 정한다.
+    private List<Long> countedPlaceIds(LocalDateTime requestTime, RebuildProgress progress) {
+        long startedAt = System.nanoTime();
+        List<Long> placeIds = readOnlyTransaction.execute(status -> addressRepository.findPlaceIdsOrderByAddressCount(requestTime));
+        progress.dbMillis.addAndGet(elapsedMillis(startedAt));
+        return placeIds == null ? List.of() : placeIds;
+    }
 
-            List<Paper> papers = paperRepository.joinPaperByAddress(addressRecommendDTO);
+    // chunk-size 를 넘지 않는 선에서, 장소가 적어도 parallelism 개 스레드가 모두 일하도록 나눈다.
+    private int chunkSizeFor(int placeCount) {
+        return Math.max(1, Math.min(chunkSize, Math.ceilDiv(placeCount, parallelism)));
+    }
 
-            List<Long> paperIds = new ArrayList<>();
+    // chunk 의 장소와 장소별 Paper 카드를 한 트랜잭션에서 불러온다. 없어진 장소와 Paper 가 없는 장소는 뺀다.
+    private RecommendChunk resolveChunk(List<Long> placeIds, RebuildProgress progress) {
+        long startedAt = System.nanoTime();
+
+        Map<Long, Place> places = new HashMap<>();
+        List<RecommendCardDTO> cards = new ArrayList<>();
+        List<Tuple> rows = readOnlyTransaction.execute(status -> {
+            placeRepository.findAllById(placeIds).forEach(place -> places.put(place.getId(), place));
+            List<Tuple> found = paperRepository.findRecommendCardsByPlaceIds(placeIds);
+            cards.addAll(recommendCardService.toCards(found));
+            return found;
+        });
+
+        Map<Long, List<Long>> paperIdsByPlace = new HashMap<>();
+        for (Tuple row : rows) {
+            paperIdsByPlace.computeIfAbsent(row.get(0, Long.class), placeId -> new ArrayList<>())
+                    .add(row.get(1, Long.class));
+        }
 
-            for (Paper paper : papers) {
-                paperIds.add(paper.getId());
+        List<RecommendRedisDTO> recommends = new ArrayList<>(placeIds.size());
+        for (Long placeId : placeIds) {
+            Place place = places.get(placeId);
+            List<Long> paperIds = paperIdsByPlace.get(placeId);
+            if (place != null && paperIds != null) {
+                recommends.add(new RecommendRedisDTO(new AddressRecommendDTO(place), paperIds));
             }
+        }
 
-            recommendRedisDTO.setPaperIds(paperIds);
+        progress.dbMillis.addAndGet(elapsedMillis(startedAt));
+        return new RecommendChunk(recommends, cards);
+    }
+
+    // 순위가 이어지도록 지금까지 저장한 개수 다음 번호부터 저장한다. 카드는 순위보다 먼저 저장해 조회할 때 비어 있지 않게 한다.
+    private void save(RecommendChunk chunk, String stagingKey, RebuildProgress progress, JobLease lease) {
+        lease.checkHeld();
+        long startedAt = System.nanoTime();
+        recommendCardRedisService.saveAll(chunk.cards());
+        recommendRedisService.saveAll(stagingKey, progress.saved + 1, chunk.recommends());
+
+        progress.saved += chunk.recommends().size();
+        progress.papers += chunk.cards().size();
+        progress.chunks++;
+        progress.redisMillis += elapsedMillis(startedAt);
 
-            recommendRedisService.saveData(recommendRedisDTO);
+        log.debug("[RecommendService] 추천 페이퍼 저장 중 chunks: {}, places: {}, saved: {}", progress.chunks, progress.places, progress.saved);
+    }
+
+    private void discard(String stagingKey) {
+        try {
+            recommendRedisService.discard(stagingKey);
+        } catch (RuntimeException e) {
+            log.warn("[RecommendService] staging 추천 삭제 실패 key: {} (TTL 이 지나면 지워짐)", stagingKey, e);
         }
     }
 
-    public List<MainRecommendResponse> getRecommendM(int page, int size) {
+    private static long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
 
-        List<MainRecommendResponse> mainRecommendResponses = new ArrayList<>();
+    private record RecommendChunk(List<RecommendRedisDTO> recommends, List<RecommendCardDTO> cards) {
+    }
 
-        int startIndex = (page - 1) * size + 1; // 페이지 번호가 1부터 시작한다고 가정
-        int endIndex = page * size;
+    /**
+     * 재계산 진행 상황. dbMillis 만 작업 스레드에서 더하고 나머지는 호출한 스레드에서만 바꾼다.
+     */
+    private static class RebuildProgress {
+        private int places;
+        private int saved;
+        private long papers;
+        private int chunks;
+        private long redisMillis;
+        private final AtomicLong dbMillis = new AtomicLong();
+    }
 
-        for (int i = startIndex; i <= endIndex; i++) {
-            MainRecommendResponse mainRecommendResponse = new MainRecommendResponse();
-            mainRecommendResponse.setRecommendPaperKey("RecommendPaper" + i);
+    /**
+     * 추천 장소 목록을 Redis 에서만 읽는다. 썸네일은 장소의 최신 Paper 카드에서 가져온다.
+     */
+    public List<MainRecommendResponse> getRecommendM(int page, int size) {
 
-            RecommendRedisDTO recommendRedisDTO = recommendRedisService.getData("RecommendPaper" + i);
+        int startIndex = (page - 1) * size + 1; // 페이지 번호가 1부터 시작한다고 가정
+        List<RecommendRedisDTO> recommends = recommendRedisService.getRange(startIndex, size);
 
-            if (recommendRedisDTO == null) {
-                break;
-            }
+        // 최신 Paper 가 삭제되었을 수 있으므로 앞에서부터 몇 개의 카드를 함께 읽는다.
+        List<Long> thumbnailPaperIds = recommends.stream()
+                .flatMap(recommend -> recommend.getPaperIds().stream().limit(THUMBNAIL_CANDIDATE_SIZE))
+                .toList();
+        Map<Long, RecommendCardDTO> cards = recommendCardService.getCards(thumbnailPaperIds);
 
-            mainRecommendResponse.setStore(recommendRedisDTO.getAddressRecommendDTO().getStore());
+        List<MainRecommendResponse> mainRecommendResponses = new ArrayList<>(recommends.size());
+        for (int i = 0; i < recommends.size(); i++) {
+            RecommendRedisDTO recommendRedisDTO = recommends.get(i);
 
-            Paper getPaper = paperRepository.findById(recommendRedisDTO.getPaperIds().get(0))
-                    .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_PAPER_MESSAGE, recommendRedisDTO.getPaperIds().get(0))));
+            MainRecommendResponse mainRecommendResponse = new MainRecommendResponse();
+            mainRecommendResponse.setRecommendPaperKey(RecommendRedisService.KEY_PREFIX + (startIndex + i));
+            mainRecommendResponse.setStore(recommendRedisDTO.getAddressRecommendDTO().getStore());
 
-            mainRecommendResponse.setImgUrl(getPaper.getThumbnailImageUrl());
+            recommendRedisDTO.getPaperIds().stream()
+                    .limit(THUMBNAIL_CANDIDATE_SIZE)
+                    .map(cards::get)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .ifPresent(card -> mainRecommendResponse.setImgUrl(card.getThumbnailImageUrl()));
 
             mainRecommendResponses.add(mainRecommendResponse);
-
         }
 
         return mainRecommendResponses;
 
     }
 
+    /**
+     * 추천 장소의 Paper 들을 좋아요 순으로 Redis 에서만 읽는다. 좋아요 수가 같으면 최신 Paper 가 먼저 온다.
+     */
     public RecommendPaperResponse getRecommendPaper(String recommendPaperKey) {
 
-        List<RecommendPaperDTO> recommendPaperResponses = new ArrayList<>();
-        RecommendPaperResponse recommendPaperResponse = new RecommendPaperResponse();
-
-        List<Long> paperIds = recommendRedisService.getData(recommendPaperKey).getPaperIds();
+        RecommendRedisDTO recommendRedisDTO = recommendRedisService.getData(recommendPaperKey);
 
-        for (Long paperId : paperIds) {
-            Paper paper = paperRepository.findById(paperId).orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_PAPER_MESSAGE, paperId)));
-            RecommendPaperDTO recommendPaperDTO = new RecommendPaperDTO(paper);
-
-            Integer countGreatById = greatRepository.countGreatById(paperId);
-            recommendPaperDTO.setCountGreat(countGreatById);
-
-            recommendPaperResponses.add(recommendPaperDTO);
+        if (recommendRedisDTO == null) {
+            throw new NotFoundException(NOT_FOUND_STORE);
         }
 
-        recommendPaperResponses.sort((r1, r2) -> Integer.compare(r2.getCountGreat(), r1.getCountGreat()));
+        List<Long> paperIds = recommendRedisDTO.getPaperIds();
+        Map<Long, RecommendCardDTO> cards = recommendCardService.getCards(paperIds);
 
-        if (recommendPaperResponses.isEmpty()) {
+        List<RecommendCardDTO> sortedCards = paperIds.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .sorted((c1, c2) -> Integer.compare(c2.getGreatCount(), c1.getGreatCount()))
+                .toList();
+
+        if (sortedCards.isEmpty()) {
             throw new NotFoundException(NOT_FOUND_STORE);
         }
 
-        Paper paper = paperRepository.findById(recommendPaperResponses.get(0).getPaperId()).orElseThrow(() -> new NotFoundException(NOT_FOUND_STORE));
-
-        recommendPaperResponse.setStore(paper.getAddress().getStore());
-        recommendPaperResponse.setRecommendPaper(recommendPaperResponses);
+        RecommendPaperResponse recommendPaperResponse = new RecommendPaperResponse();
+        recommendPaperResponse.setStore(sortedCards.get(0).getStore());
+        recommendPaperResponse.setRecommendPaper(sortedCards.stream()
+                .map(RecommendCardDTO::toRecommendPaperDTO)
+                .toList());
 
         return recommendPaperResponse;
     }
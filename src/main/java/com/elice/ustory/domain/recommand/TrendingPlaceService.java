@@ -0,0 +1,347 @@
+package com.elice.ustory.domain.recommand;
+
+import com.elice.ustory.domain.place.entity.Place;
+import com.elice.ustory.domain.place.repository.PlaceRepository;
+import com.elice.ustory.domain.recommand.dto.TrendingPlaceResponse;
+import com.elice.ustory.global.exception.model.ValidationException;
+import com.elice.ustory.global.util.GeoHashUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 시간에 따라 감소하는 장소별 인기 점수
+ *
+ * Paper 작성(방문)과 좋아요마다 장소에 가중치를 더하고, 점수는 반감기(half-life)마다 절반으로 줄어든다.
+ * 모든 점수를 매번 줄이는 대신 기준 시각(epoch)으로부터 지난 시간만큼 가중치를 키워서 더하고(forward decay),
+ * 하루에 한 번 모든 점수를 현재 기준으로 다시 맞추면서(rebase) 충분히 작아진 장소를 지운다.
+ * 순서는 감소를 적용해도 바뀌지 않으므로 조회는 Redis sorted set 의 ZREVRANGE 한 번(O(log n + k))이다.
+ *
+ * 점수는 전체와 지역(geohash 앞 region-precision 자리)별 sorted set 에 함께 쌓고,
+ * 증가와 rebase 는 Lua 스크립트로 원자적으로 실행하여 서로 섞이지 않는다.
+ * 좋아요를 취소하면 그 좋아요가 지금까지 남긴 만큼(좋아요 시각 기준으로 감소한 가중치)을 빼서 반복 좋아요/취소로 점수를 올릴 수 없다.
+ * Paper 를 삭제하거나 다른 장소로 옮겨도 같은 방식으로 작성 시각 기준의 방문 가중치를 빼고, 옮긴 장소에는 작성 시각 기준으로 더한다.
+ *
+ * 스크립트가 다루는 키는 모두 KEYS 로 넘기고, Redis Cluster 에서 한 슬롯에 모이도록 {TrendingPlace} 해시 태그를 붙인다.
+ */
+@Slf4j
+@Service
+public class TrendingPlaceService {
+
+    public static final int MAX_SIZE = 50;
+
+    private static final String ALL_KEY = "{TrendingPlace}:all";
+    private static final String REGION_KEY_PREFIX = "{TrendingPlace}:region:";
+    private static final String REGIONS_KEY = "{TrendingPlace}:regions";
+    private static final String EPOCH_KEY = "{TrendingPlace}:epoch";
+    private static final int MAX_REBASE_ATTEMPTS = 3;
+
+    private static final String INVALID_SIZE_MESSAGE = "사이즈는 1 이상 " + MAX_SIZE + " 이하여야 합니다.";
+    private static final String COORDINATE_PAIR_MESSAGE = "X좌표와 Y좌표는 함께 지정해야 합니다.";
+
+    // KEYS: 전체, 지역, 지역 목록, 기준 시각 / ARGV: 장소 id, 가중치, 가중치를 더하는 기준 시각(ms), 반감기(ms), 현재 시각(ms)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = tonumber(redis.call('GET', KEYS[4]))
+            if not epoch then
+                epoch = tonumber(ARGV[5])
+                redis.call('SET', KEYS[4], ARGV[5])
+            end
+            local increment = tonumber(ARGV[2]) * math.pow(2, (tonumber(ARGV[3]) - epoch) / tonumber(ARGV[4]))
+            redis.call('ZINCRBY', KEYS[1], increment, ARGV[1])
+            redis.call('ZINCRBY', KEYS[2], increment, ARGV[1])
+            redis.call('SADD', KEYS[3], KEYS[2])
+            return 1
+            """, Long.class);
+
+    // KEYS: 전체, 지역, 기준 시각 / ARGV: 장소 id, 가중치, 가중치를 더했던 시각(ms), 반감기(ms)
+    // 더했던 시각의 가중치를 현재 기준 시각으로 환산해서 뺀다. 0 이하가 되면 지운다.
+    private static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = tonumber(redis.call('GET', KEYS[3]))
+            if not epoch then
+                return 0
+            end
+            local decrement = tonumber(ARGV[2]) * math.pow(2, (tonumber(ARGV[3]) - epoch) / tonumber(ARGV[4]))
+            for i = 1, 2 do
+                if redis.call('ZSCORE', KEYS[i], ARGV[1]) then
+                    local score = tonumber(redis.call('ZINCRBY', KEYS[i], -decrement, ARGV[1]))
+                    if score <= 0 then
+                        redis.call('ZREM', KEYS[i], ARGV[1])
+                    end
+                end
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS: 전체, 지역 목록, 기준 시각, 지역1, 지역2, ... / ARGV: 현재 시각(ms), 반감기(ms), 남길 최소 점수
+    // 지역 목록에 KEYS 로 넘어오지 않은 지역이 있으면(조회 후 새로 생긴 경우) 아무것도 바꾸지 않고 -1 을 반환한다.
+    private static final RedisScript<Long> REBASE_SCRIPT = new DefaultRedisScript<>("""
+            local regions = {}
+            for i = 4, #KEYS do
+                regions[KEYS[i]] = true
+            end
+            for _, key in ipairs(redis.call('SMEMBERS', KEYS[2])) do
+                if not regions[key] then
+                    return -1
+                end
+            end
+            local epoch = tonumber(redis.call('GET', KEYS[3]))
+            if not epoch then
+                return 0
+            end
+            local factor = math.pow(2, -(tonumber(ARGV[1]) - epoch) / tonumber(ARGV[2]))
+            local function rescale(key)
+                redis.call('ZUNIONSTORE', key, 1, key, 'WEIGHTS', factor)
+                redis.call('ZREMRANGEBYSCORE', key, '-inf', '(' .. ARGV[3])
+            end
+            rescale(KEYS[1])
+            for i = 4, #KEYS do
+                rescale(KEYS[i])
+                if redis.call('EXISTS', KEYS[i]) == 0 then
+                    redis.call('SREM', KEYS[2], KEYS[i])
+                end
+            end
+            redis.call('SET', KEYS[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PlaceRepository placeRepository;
+    private final long halfLifeMillis;
+    private final double visitWeight;
+    private final double likeWeight;
+    private final int regionPrecision;
+    private final double minScore;
+
+    public TrendingPlaceService(StringRedisTemplate stringRedisTemplate,
+                                PlaceRepository placeRepository,
+                                @Value("${ustory.trending.half-life-hours:72}") long halfLifeHours,
+                                @Value("${ustory.trending.visit-weight:1.0}") double visitWeight,
+                                @Value("${ustory.trending.like-weight:0.5}") double likeWeight,
+                                @Value("${ustory.trending.region-precision:4}") int regionPrecision,
+                                @Value("${ustory.trending.min-score:0.01}") double minScore) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.placeRepository = placeRepository;
+        this.halfLifeMillis = halfLifeHours * 60 * 60 * 1000;
+        this.visitWeight = visitWeight;
+        this.likeWeight = likeWeight;
+        this.regionPrecision = regionPrecision;
+        this.minScore = minScore;
+    }
+
+    /**
+     * visitedAt 에 장소에 Paper 가 작성되었음을 커밋 후 반영한다.
+     * 삭제할 때 같은 시각 기준으로 빼므로 Paper 의 작성 시각을 넘긴다.
+     */
+    public void recordVisitAfterCommit(Place place, LocalDateTime visitedAt) {
+        incrementAfterCommit(place, visitWeight, visitedAt == null ? System.currentTimeMillis() : toEpochMillis(visitedAt));
+    }
+
+    /**
+     * visitedAt 에 작성된 Paper 가 삭제되었음을 커밋 후 반영한다. 그 방문이 더했던 점수 중 아직 남아 있는 만큼을 뺀다.
+     */
+    public void cancelVisitAfterCommit(Place place, LocalDateTime visitedAt) {
+        decrementAfterCommit(place, visitWeight, visitedAt);
+    }
+
+    /**
+     * visitedAt 에 작성된 Paper 의 장소가 바뀌었음을 커밋 후 반영한다.
+     * 이전 장소에서는 그 방문의 남은 점수를 빼고, 새 장소에는 같은 작성 시각 기준으로 더해서 장소를 바꾸는 것만으로는 점수가 늘지 않는다.
+     */
+    public void moveVisitAfterCommit(Place from, Place to, LocalDateTime visitedAt) {
+        if (from != null && to != null && from.getId().equals(to.getId())) {
+            return;
+        }
+        if (visitedAt == null) {
+            return;
+        }
+
+        decrementAfterCommit(from, visitWeight, visitedAt);
+        incrementAfterCommit(to, visitWeight, toEpochMillis(visitedAt));
+    }
+
+    /** 장소의 Paper 가 좋아요를 받았음을 커밋 후 반영한다. */
+    public void recordLikeAfterCommit(Place place) {
+        incrementAfterCommit(place, likeWeight, System.currentTimeMillis());
+    }
+
+    /**
+     * likedAt 에 받았던 좋아요가 취소되었음을 커밋 후 반영한다. 그 좋아요가 더했던 점수 중 아직 남아 있는 만큼을 뺀다.
+     */
+    public void cancelLikeAfterCommit(Place place, LocalDateTime likedAt) {
+        decrementAfterCommit(place, likeWeight, likedAt);
+    }
+
+    /**
+     * 점수가 높은 장소를 size 개 불러온다. 좌표를 지정하면 그 좌표가 속한 지역의 순위를 불러온다.
+     */
+    @Transactional(readOnly = true)
+    public List<TrendingPlaceResponse> getTrendingPlaces(Double coordinateX, Double coordinateY, int size) {
+
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ValidationException(INVALID_SIZE_MESSAGE);
+        }
+
+        if ((coordinateX == null) != (coordinateY == null)) {
+            throw new ValidationException(COORDINATE_PAIR_MESSAGE);
+        }
+
+        String key = coordinateX == null ? ALL_KEY : regionKey(coordinateX, coordinateY);
+
+        Set<TypedTuple<String>> ranked;
+        double decay;
+        try {
+            ranked = stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, 0, size - 1);
+            decay = currentDecay();
+        } catch (RuntimeException e) {
+            log.warn("[TrendingPlaceService] 인기 장소 조회 실패 key: {}", key, e);
+            return List.of();
+        }
+
+        if (ranked == null || ranked.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> placeIds = ranked.stream()
+                .map(tuple -> Long.valueOf(tuple.getValue()))
+                .toList();
+        Map<Long, Place> places = placeRepository.findAllById(placeIds).stream()
+                .collect(Collectors.toMap(Place::getId, Function.identity()));
+
+        List<TrendingPlaceResponse> result = new ArrayList<>(ranked.size());
+        for (TypedTuple<String> tuple : ranked) {
+            Place place = places.get(Long.valueOf(tuple.getValue()));
+            if (place != null) {
+                result.add(new TrendingPlaceResponse(place, tuple.getScore() * decay));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 전체 순위에서 점수가 높은 장소 id 를 limit 개 불러온다. Redis 를 사용할 수 없으면 빈 목록을 반환한다.
+     */
+    public List<Long> getTopPlaceIds(int limit) {
+        try {
+            Set<String> placeIds = stringRedisTemplate.opsForZSet().reverseRange(ALL_KEY, 0, limit - 1);
+            if (placeIds == null) {
+                return List.of();
+            }
+            return placeIds.stream().map(Long::valueOf).toList();
+        } catch (RuntimeException e) {
+            log.warn("[TrendingPlaceService] 인기 장소 id 조회 실패", e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 모든 점수를 현재 시각 기준으로 다시 맞추고 min-score 보다 작아진 장소를 지운다.
+     * 기준 시각에서 멀어질수록 더하는 가중치가 커지므로 TrendingRebaseJob 이 하루에 한 번 실행하여 값이 커지지 않도록 한다.
+     */
+    public void rebase() {
+        for (int attempt = 1; attempt <= MAX_REBASE_ATTEMPTS; attempt++) {
+            List<String> keys = new ArrayList<>(List.of(ALL_KEY, REGIONS_KEY, EPOCH_KEY));
+            Set<String> regionKeys = stringRedisTemplate.opsForSet().members(REGIONS_KEY);
+            if (regionKeys != null) {
+                keys.addAll(regionKeys);
+            }
+
+            Long result = stringRedisTemplate.execute(REBASE_SCRIPT, keys,
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(halfLifeMillis), String.valueOf(minScore));
+            if (result == null || result >= 0) {
+                return;
+            }
+        }
+        log.warn("[TrendingPlaceService] 지역 목록이 계속 바뀌어 rebase 를 건너뜀");
+    }
+
+    private void incrementAfterCommit(Place place, double weight, long recordedAtMillis) {
+        if (place == null) {
+            return;
+        }
+
+        Long placeId = place.getId();
+        String regionKey = regionKey(place.getCoordinateX(), place.getCoordinateY());
+
+        afterCommit(() -> increment(placeId, regionKey, weight, recordedAtMillis));
+    }
+
+    private void decrementAfterCommit(Place place, double weight, LocalDateTime recordedAt) {
+        if (place == null || recordedAt == null) {
+            return;
+        }
+
+        Long placeId = place.getId();
+        String regionKey = regionKey(place.getCoordinateX(), place.getCoordinateY());
+        long recordedAtMillis = toEpochMillis(recordedAt);
+
+        afterCommit(() -> decrement(placeId, regionKey, weight, recordedAtMillis));
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private void increment(Long placeId, String regionKey, double weight, long recordedAtMillis) {
+        try {
+            stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(ALL_KEY, regionKey, REGIONS_KEY, EPOCH_KEY),
+                    String.valueOf(placeId), String.valueOf(weight),
+                    String.valueOf(recordedAtMillis), String.valueOf(halfLifeMillis),
+                    String.valueOf(System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            log.warn("[TrendingPlaceService] 인기 점수 반영 실패 placeId: {}", placeId, e);
+        }
+    }
+
+    private void decrement(Long placeId, String regionKey, double weight, long recordedAtMillis) {
+        try {
+            stringRedisTemplate.execute(DECREMENT_SCRIPT, List.of(ALL_KEY, regionKey, EPOCH_KEY),
+                    String.valueOf(placeId), String.valueOf(weight),
+                    String.valueOf(recordedAtMillis), String.valueOf(halfLifeMillis));
+        } catch (RuntimeException e) {
+            log.warn("[TrendingPlaceService] 인기 점수 차감 실패 placeId: {}", placeId, e);
+        }
+    }
+
+    // 저장된 점수에 곱하면 현재 시각 기준 점수가 되는 값
+    private double currentDecay() {
+        String epoch = stringRedisTemplate.opsForValue().get(EPOCH_KEY);
+        if (epoch == null) {
+            return 1;
+        }
+        return Math.pow(2, -(double) (System.currentTimeMillis() - Long.parseLong(epoch)) / halfLifeMillis);
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String regionKey(double coordinateX, double coordinateY) {
+        return REGION_KEY_PREFIX + GeoHashUtils.encode(coordinateX, coordinateY, regionPrecision);
+    }
+}
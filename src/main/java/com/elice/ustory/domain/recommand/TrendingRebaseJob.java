@@ -0,0 +1,41 @@
+package com.elice.ustory.domain.recommand;
+
+import com.elice.ustory.domain.job.service.ClusterJob;
+import com.elice.ustory.domain.job.service.JobLease;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 하루에 한 번 인기 점수를 현재 시각 기준으로 다시 맞춘다. 여러 인스턴스 중 한 곳에서만 실행된다.
+ */
+@Component
+public class TrendingRebaseJob implements ClusterJob {
+
+    public static final String NAME = "trending-rebase";
+
+    private final TrendingPlaceService trendingPlaceService;
+    private final String cron;
+
+    public TrendingRebaseJob(TrendingPlaceService trendingPlaceService,
+                             @Value("${ustory.trending.rebase-cron:0 30 4 * * ?}") String cron) {
+        this.trendingPlaceService = trendingPlaceService;
+        this.cron = cron;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getCron() {
+        return cron;
+    }
+
+    @Override
+    public String execute(JobLease lease) {
+        lease.checkHeld();
+        trendingPlaceService.rebase();
+        return null;
+    }
+}
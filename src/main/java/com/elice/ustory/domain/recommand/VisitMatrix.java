@@ -0,0 +1,104 @@
+package com.elice.ustory.domain.recommand;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자(행) x 장소(열) 방문 수 희소 행렬
+ *
+ * 0 이 아닌 칸만 CSR(Compressed Sparse Row) 형태로 저장한다. rowStart[r] ~ rowStart[r + 1] 구간이 r 번째 사용자의
+ * 방문 기록이고, columns 와 values 에 장소의 열 번호와 방문 수가 들어 있다.
+ * 사용자별 가중치 벡터를 곱하면(가중치^T x 행렬) 장소별 점수가 된다.
+ */
+class VisitMatrix {
+
+    private final long[] placeIds;
+    private final int[] rowStart;
+    private final int[] columns;
+    private final double[] values;
+
+    private VisitMatrix(long[] placeIds, int[] rowStart, int[] columns, double[] values) {
+        this.placeIds = placeIds;
+        this.rowStart = rowStart;
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /**
+     * 행 순서대로 방문 기록을 추가해 행렬을 만든다.
+     */
+    static class Builder {
+
+        private final Map<Long, Integer> columnByPlaceId = new HashMap<>();
+        private final List<Long> placeIds = new ArrayList<>();
+        private final List<Integer> rowStart = new ArrayList<>(List.of(0));
+        private int[] columns = new int[16];
+        private double[] values = new double[16];
+        private int size;
+
+        /** 현재 행에 (장소, 방문 수) 를 추가한다. */
+        Builder add(long placeId, long count) {
+            Integer column = columnByPlaceId.get(placeId);
+            if (column == null) {
+                column = placeIds.size();
+                columnByPlaceId.put(placeId, column);
+                placeIds.add(placeId);
+            }
+
+            if (size == columns.length) {
+                columns = Arrays.copyOf(columns, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            columns[size] = column;
+            // 한 사람이 같은 장소를 여러 번 방문해도 점수가 선형으로 커지지 않도록 로그를 취한다.
+            values[size] = Math.log1p(count);
+            size++;
+            return this;
+        }
+
+        /** 현재 행을 끝내고 다음 행으로 넘어간다. */
+        Builder nextRow() {
+            rowStart.add(size);
+            return this;
+        }
+
+        VisitMatrix build() {
+            long[] ids = placeIds.stream().mapToLong(Long::longValue).toArray();
+            int[] starts = rowStart.stream().mapToInt(Integer::intValue).toArray();
+            return new VisitMatrix(ids, starts, Arrays.copyOf(columns, size), Arrays.copyOf(values, size));
+        }
+    }
+
+    int rowCount() {
+        return rowStart.length - 1;
+    }
+
+    /**
+     * 행별 가중치로 장소 점수를 계산해 excluded 를 뺀 상위 limit 개를 점수 내림차순으로 반환한다.
+     */
+    List<ScoredPlace> topPlaces(double[] rowWeights, Set<Long> excluded, int limit) {
+        double[] scores = new double[placeIds.length];
+        for (int row = 0; row < rowCount(); row++) {
+            double weight = rowWeights[row];
+            for (int i = rowStart[row]; i < rowStart[row + 1]; i++) {
+                scores[columns[i]] += weight * values[i];
+            }
+        }
+
+        List<ScoredPlace> ranked = new ArrayList<>();
+        for (int column = 0; column < placeIds.length; column++) {
+            if (scores[column] > 0 && !excluded.contains(placeIds[column])) {
+                ranked.add(new ScoredPlace(placeIds[column], scores[column]));
+            }
+        }
+        ranked.sort((a, b) -> Double.compare(b.score(), a.score()));
+        return ranked.size() > limit ? ranked.subList(0, limit) : ranked;
+    }
+
+    record ScoredPlace(long placeId, double score) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.elice.ustory.domain.recommand.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PersonalRecommendResponse {
+
+    @Schema(description = "개인 추천 여부 (false 이면 전체 인기 장소로 대체된 결과)", example = "true")
+    private boolean personalized;
+
+    @Schema(description = "추천 장소 목록")
+    private List<TrendingPlaceResponse> places;
+}
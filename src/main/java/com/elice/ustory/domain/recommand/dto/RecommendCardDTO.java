@@ -0,0 +1,88 @@
+package com.elice.ustory.domain.recommand.dto;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Redis hash 로 저장하는 추천 Paper 카드
+ *
+ * 추천 탭을 그리는 데 필요한 값만 담아 두어 조회할 때 Paper 엔티티를 불러오지 않는다.
+ * 삭제된 Paper 는 deleted 만 있는 카드로 남겨, 자정까지 MySQL 을 다시 조회하지 않고 추천에서 뺀다.
+ */
+@Getter
+public class RecommendCardDTO {
+
+    public static final String TITLE = "title";
+    public static final String THUMBNAIL_IMAGE_URL = "thumbnailImageUrl";
+    public static final String STORE = "store";
+    public static final String GREAT_COUNT = "greatCount";
+    public static final String DELETED = "deleted";
+
+    private Long paperId;
+    private String title;
+    private String thumbnailImageUrl;
+    private String store;
+    private int greatCount;
+    private boolean deleted;
+
+    public RecommendCardDTO(Long paperId, String title, String thumbnailImageUrl, String store, int greatCount) {
+        this.paperId = paperId;
+        this.title = title;
+        this.thumbnailImageUrl = thumbnailImageUrl;
+        this.store = store;
+        this.greatCount = greatCount;
+    }
+
+    private RecommendCardDTO(Long paperId) {
+        this.paperId = paperId;
+        this.deleted = true;
+    }
+
+    /** 삭제된 Paper 의 카드 */
+    public static RecommendCardDTO deleted(Long paperId) {
+        return new RecommendCardDTO(paperId);
+    }
+
+    /** 저장한 hash 에서 카드를 복원한다. 비어 있으면 null */
+    public static RecommendCardDTO fromHash(Long paperId, Map<String, String> hash) {
+        if (hash == null || hash.isEmpty()) {
+            return null;
+        }
+        if (hash.containsKey(DELETED)) {
+            return deleted(paperId);
+        }
+        String greatCount = hash.get(GREAT_COUNT);
+        return new RecommendCardDTO(
+                paperId,
+                hash.get(TITLE),
+                hash.get(THUMBNAIL_IMAGE_URL),
+                hash.get(STORE),
+                greatCount == null ? 0 : Integer.parseInt(greatCount)
+        );
+    }
+
+    public Map<String, String> toHash() {
+        Map<String, String> hash = new HashMap<>();
+        if (deleted) {
+            hash.put(DELETED, "1");
+            return hash;
+        }
+        putIfPresent(hash, TITLE, title);
+        putIfPresent(hash, THUMBNAIL_IMAGE_URL, thumbnailImageUrl);
+        putIfPresent(hash, STORE, store);
+        hash.put(GREAT_COUNT, String.valueOf(greatCount));
+        return hash;
+    }
+
+    public RecommendPaperDTO toRecommendPaperDTO() {
+        return new RecommendPaperDTO(title, greatCount, thumbnailImageUrl, paperId);
+    }
+
+    private static void putIfPresent(Map<String, String> hash, String field, String value) {
+        if (value != null) {
+            hash.put(field, value);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.List;
 @Getter
 public class RecommendCountDTO {
 
+    private Long placeId;
     private String store;
     private String city;
     private Double coordinateX;
@@ -0,0 +1,36 @@
+package com.elice.ustory.domain.recommand.dto;
+
+import com.elice.ustory.domain.place.entity.Place;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class TrendingPlaceResponse {
+
+    @Schema(description = "장소 Id", example = "612345678901234567")
+    private Long placeId;
+
+    @Schema(description = "상호명", example = "진양면옥")
+    private String store;
+
+    @Schema(description = "주소", example = "서울 마포구 와우산로 94")
+    private String city;
+
+    @Schema(description = "X좌표", example = "37.5494")
+    private Double coordinateX;
+
+    @Schema(description = "Y좌표", example = "126.9169")
+    private Double coordinateY;
+
+    @Schema(description = "추천 점수 (인기 장소: 현재 시각 기준 인기 점수로 방문 1회 = 1, 반감기마다 절반으로 줄어든다 / 개인 추천: 친구와 다이어리 멤버 방문의 가중합)", example = "3.42")
+    private double score;
+
+    public TrendingPlaceResponse(Place place, double score) {
+        this.placeId = place.getId();
+        this.store = place.getStore();
+        this.city = place.getCity();
+        this.coordinateX = place.getCoordinateX();
+        this.coordinateY = place.getCoordinateY();
+        this.score = score;
+    }
+}
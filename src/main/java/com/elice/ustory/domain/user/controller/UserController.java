@@ -12,13 +12,13 @@ import com.elice.ustory.global.jwt.JwtUtil;
 import com.elice.ustory.global.oauth.google.GoogleService;
 import com.elice.ustory.global.oauth.kakao.KakaoService;
 import com.elice.ustory.global.oauth.naver.NaverService;
+import com.elice.ustory.global.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.mail.MessagingException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -140,6 +140,7 @@ public class UserController {
     @Operation(summary = "User MyPage API", description = "마이페이지에 필요한 정보를 조회한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", schema = @Schema(implementation = MyPageResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not Modified", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
@@ -147,7 +148,25 @@ public class UserController {
     @GetMapping("/my-page")
     public ResponseEntity<MyPageResponse> showMyPage(@JwtAuthorization Long userId) {
         MyPageResponse myPageResponse = userService.showMyPage(userId);
-        return ResponseEntity.ok(myPageResponse);
+
+        // 사용자는 2차 캐시에서, 통계는 기본 키로 조회하므로 별도 확인 쿼리 없이 응답 값으로 ETag 를 만든다.
+        // If-None-Match 가 일치하면 본문 없이 304 로 응답된다.
+        String eTag = ETagUtils.strongETag(
+                userId,
+                myPageResponse.getNickname(),
+                myPageResponse.getName(),
+                myPageResponse.getProfileDescription(),
+                myPageResponse.getProfileImgUrl(),
+                myPageResponse.getPaperCount(),
+                myPageResponse.getDiaryCount(),
+                myPageResponse.getGreatReceivedCount(),
+                myPageResponse.getBookmarkCount()
+        );
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(ETagUtils.PRIVATE_REVALIDATE)
+                .body(myPageResponse);
     }
 
     @Operation(summary = "Validate Nickname API", description = "회원가입 및 회원정보 수정 시, 닉네임 중복 여부를 검증한다. (글자 수 등 조건은 삭제됨)")
@@ -173,7 +192,7 @@ public class UserController {
             @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/sign-up/send-validate")
-    public ResponseEntity<AuthCodeCreateResponse> SendMailToValidateForSignUp(@Valid @RequestBody AuthCodeCreateRequest authCodeCreateRequest) throws MessagingException {
+    public ResponseEntity<AuthCodeCreateResponse> SendMailToValidateForSignUp(@Valid @RequestBody AuthCodeCreateRequest authCodeCreateRequest) {
         AuthCodeCreateResponse authCodeCreateResponse = emailService.sendValidateSignupMail(authCodeCreateRequest.getEmail());
         return ResponseEntity.ok(authCodeCreateResponse);
     }
@@ -199,7 +218,7 @@ public class UserController {
             @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/change-password/send-validate")
-    public ResponseEntity<ChangePwdCallResponse> sendMailToValidateForChangePwd(@Valid @RequestBody ChangePwdCallRequest changePwdCallRequest) throws MessagingException {
+    public ResponseEntity<ChangePwdCallResponse> sendMailToValidateForChangePwd(@Valid @RequestBody ChangePwdCallRequest changePwdCallRequest) {
         ChangePwdCallResponse changePwdCallResponse = emailService.sendValidateUserMailForPwd(changePwdCallRequest);
         return ResponseEntity.ok(changePwdCallResponse);
     }
@@ -10,4 +10,8 @@ public class MyPageResponse {
     String name;
     String profileDescription;
     String profileImgUrl;
+    Long paperCount;
+    Long diaryCount;
+    Long greatReceivedCount;
+    Long bookmarkCount;
 }
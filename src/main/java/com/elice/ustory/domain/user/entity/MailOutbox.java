@@ -0,0 +1,110 @@
+package com.elice.ustory.domain.user.entity;
+
+import com.elice.ustory.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 중인 메일
+ *
+ * 요청 스레드는 메일을 이 테이블에 저장만 하고, 실제 SMTP 발송은 MailOutboxService 의 워커가 처리한다.
+ * 발송에 실패하면 attempts 를 늘리고 nextAttemptAt 을 지수적으로 미룬다.
+ * 인증코드 메일은 코드의 유효시간이 지나면(expiresAt) 보내지 않고, 발송이 끝난 메일은 본문을 지운다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "mail_outbox", indexes = {
+        @Index(name = "IDX_MAIL_OUTBOX_NEXT_ATTEMPT", columnList = "status, next_attempt_at"),
+        @Index(name = "IDX_MAIL_OUTBOX_EXPIRES", columnList = "status, expires_at")
+})
+public class MailOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final String REDACTED_CONTENT = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "to_email", nullable = false)
+    private String toEmail;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, columnDefinition = "VARCHAR(10)")
+    private MailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "expires_at", nullable = false, columnDefinition = "DATETIME")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "last_error", columnDefinition = "VARCHAR(500)")
+    private String lastError;
+
+    @Builder(builderMethodName = "createBuilder")
+    public MailOutbox(String toEmail, String title, String content, LocalDateTime expiresAt) {
+        this.toEmail = toEmail;
+        this.title = title;
+        this.content = content;
+        this.status = MailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public void markSent() {
+        this.status = MailOutboxStatus.SENT;
+        this.attempts++;
+        this.lastError = null;
+        this.content = REDACTED_CONTENT;
+    }
+
+    /** 유효시간이 지나 보내지 않은 메일 */
+    public void markExpired() {
+        this.status = MailOutboxStatus.EXPIRED;
+        this.content = REDACTED_CONTENT;
+    }
+
+    public void markRetry(String error, LocalDateTime nextAttemptAt) {
+        this.status = MailOutboxStatus.PENDING;
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markFailed(String error) {
+        this.status = MailOutboxStatus.FAILED;
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.content = REDACTED_CONTENT;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
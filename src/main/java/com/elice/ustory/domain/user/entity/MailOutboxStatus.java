@@ -0,0 +1,14 @@
+package com.elice.ustory.domain.user.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED,
+    EXPIRED;
+}
@@ -0,0 +1,48 @@
+package com.elice.ustory.domain.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 집계 값 (작성한 페이퍼 수, 속한 다이어리 수, 받은 좋아요 수, 북마크 수)
+ *
+ * 페이퍼, 다이어리, 좋아요, 북마크를 쓰는 트랜잭션 안에서 UserStatsService 가 증감시키며,
+ * 행이 없는 사용자는 처음 접근할 때 원본 테이블을 집계하여 생성한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_stats")
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "paper_count", nullable = false)
+    private long paperCount;
+
+    @Column(name = "diary_count", nullable = false)
+    private long diaryCount;
+
+    @Column(name = "great_received_count", nullable = false)
+    private long greatReceivedCount;
+
+    @Column(name = "bookmark_count", nullable = false)
+    private long bookmarkCount;
+
+    @Builder(builderMethodName = "createBuilder")
+    public UserStats(Long userId, long paperCount, long diaryCount, long greatReceivedCount, long bookmarkCount) {
+        this.userId = userId;
+        this.paperCount = paperCount;
+        this.diaryCount = diaryCount;
+        this.greatReceivedCount = greatReceivedCount;
+        this.bookmarkCount = bookmarkCount;
+    }
+}
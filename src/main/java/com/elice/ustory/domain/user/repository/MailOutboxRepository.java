@@ -0,0 +1,55 @@
+package com.elice.ustory.domain.user.repository;
+
+import com.elice.ustory.domain.user.entity.MailOutbox;
+import com.elice.ustory.domain.user.entity.MailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    List<MailOutbox> findByStatusInAndNextAttemptAtLessThanEqualAndExpiresAtAfterOrderByIdAsc(Collection<MailOutboxStatus> statuses,
+                                                                                             LocalDateTime now,
+                                                                                             LocalDateTime expiresAfter,
+                                                                                             Pageable pageable);
+
+    /**
+     * 발송 대상 메일을 선점한다.
+     * 다른 워커(또는 다른 인스턴스)가 먼저 선점했다면 next_attempt_at 이 이미 미뤄져 있으므로 0 을 반환한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MailOutbox m SET m.status = com.elice.ustory.domain.user.entity.MailOutboxStatus.SENDING, m.nextAttemptAt = :leaseUntil " +
+            "WHERE m.id = :id AND m.nextAttemptAt <= :now AND m.expiresAt > :now " +
+            "AND m.status IN (com.elice.ustory.domain.user.entity.MailOutboxStatus.PENDING, com.elice.ustory.domain.user.entity.MailOutboxStatus.SENDING)")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 유효시간이 지났는데 아직 보내지 못한 메일을 EXPIRED 로 바꾸고 본문을 지운다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE MailOutbox m SET m.status = com.elice.ustory.domain.user.entity.MailOutboxStatus.EXPIRED, m.content = '' " +
+            "WHERE m.expiresAt <= :now " +
+            "AND m.status IN (com.elice.ustory.domain.user.entity.MailOutboxStatus.PENDING, com.elice.ustory.domain.user.entity.MailOutboxStatus.SENDING)")
+    int expireOverdue(@Param("now") LocalDateTime now);
+
+    /**
+     * 발송이 끝난(SENT, FAILED, EXPIRED) 지 before 보다 오래된 메일을 삭제한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM MailOutbox m WHERE m.updatedAt < :before " +
+            "AND m.status IN (com.elice.ustory.domain.user.entity.MailOutboxStatus.SENT, com.elice.ustory.domain.user.entity.MailOutboxStatus.FAILED, " +
+            "com.elice.ustory.domain.user.entity.MailOutboxStatus.EXPIRED)")
+    int purgeFinished(@Param("before") LocalDateTime before);
+}
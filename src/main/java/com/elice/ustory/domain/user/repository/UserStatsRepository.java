@@ -0,0 +1,67 @@
+package com.elice.ustory.domain.user.repository;
+
+import com.elice.ustory.domain.user.entity.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.paperCount = s.paperCount + :delta WHERE s.userId = :userId")
+    int addPaperCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.diaryCount = s.diaryCount + :delta WHERE s.userId = :userId")
+    int addDiaryCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.diaryCount = s.diaryCount - 1 " +
+            "WHERE s.userId IN (SELECT du.id.users.id FROM DiaryUser du WHERE du.id.diary.id = :diaryId)")
+    int decreaseDiaryCountOfMembers(@Param("diaryId") Long diaryId);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.greatReceivedCount = s.greatReceivedCount + :delta WHERE s.userId = :userId")
+    int addGreatReceivedCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.bookmarkCount = s.bookmarkCount + :delta WHERE s.userId = :userId")
+    int addBookmarkCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    /**
+     * 집계 행이 없으면 집계 값으로 만들고, 그 사이 다른 트랜잭션이 먼저 만들었다면 증감분만 더한다.
+     * 두 요청이 같은 사용자의 행을 동시에 만들 때 한쪽이 중복 키 오류로 실패하지 않도록 한다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_stats (user_id, paper_count, diary_count, great_received_count, bookmark_count) " +
+            "VALUES (:userId, :paperCount, :diaryCount, :greatReceivedCount, :bookmarkCount) " +
+            "ON DUPLICATE KEY UPDATE paper_count = paper_count + :paperDelta, diary_count = diary_count + :diaryDelta, " +
+            "great_received_count = great_received_count + :greatReceivedDelta, bookmark_count = bookmark_count + :bookmarkDelta",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("paperCount") long paperCount,
+               @Param("diaryCount") long diaryCount,
+               @Param("greatReceivedCount") long greatReceivedCount,
+               @Param("bookmarkCount") long bookmarkCount,
+               @Param("paperDelta") long paperDelta,
+               @Param("diaryDelta") long diaryDelta,
+               @Param("greatReceivedDelta") long greatReceivedDelta,
+               @Param("bookmarkDelta") long bookmarkDelta);
+
+    /* 집계 행이 없는 사용자를 위한 원본 테이블 집계 */
+
+    @Query("SELECT COUNT(p) FROM Paper p WHERE p.writer.id = :userId AND p.deletedAt IS NULL")
+    long countPapersByWriter(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(du) FROM DiaryUser du WHERE du.id.users.id = :userId")
+    long countDiariesByUser(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(g) FROM Great g WHERE g.paper.writer.id = :userId")
+    long countGreatsReceivedByUser(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(b) FROM Bookmark b WHERE b.user.id = :userId")
+    long countBookmarksByUser(@Param("userId") Long userId);
+}
@@ -13,13 +13,11 @@ import com.elice.ustory.global.redis.email.AuthCodeForChangePwd;
 import com.elice.ustory.global.redis.email.AuthCodeForChangePwdRepository;
 import com.elice.ustory.global.redis.email.AuthCodeRepository;
 import jakarta.annotation.PostConstruct;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Random;
 
@@ -27,7 +25,7 @@ import java.util.Random;
 @Service
 @RequiredArgsConstructor
 public class EmailService {
-    private final JavaMailSender javaMailSender;
+    private final MailOutboxService mailOutboxService;
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthCodeRepository authCodeRepository;
@@ -54,18 +52,11 @@ public class EmailService {
                 .toString(); // StringBuilder 객체를 문자열로 변환해 반환
     }
 
-    public void sendMail(String toEmail, String title, String content) throws MessagingException {
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage(); // JavaMailSender 객체를 이용해 MimeMessage 객체 생성
-
-        mimeMessage.addRecipients(MimeMessage.RecipientType.TO, toEmail);
-        mimeMessage.setSubject(title);
-        mimeMessage.setFrom(fromEmail);
-        mimeMessage.setText(content, "utf-8", "html");
-
-        javaMailSender.send(mimeMessage);
+    public void sendMail(String toEmail, String title, String content, Duration validFor) {
+        mailOutboxService.enqueue(toEmail, title, content, validFor); // 발송 대기열에 저장하고 실제 발송은 워커가 처리, validFor 가 지나면 보내지 않음
     }
 
-    public AuthCodeCreateResponse sendValidateSignupMail(String toEmail) throws MessagingException {
+    public AuthCodeCreateResponse sendValidateSignupMail(String toEmail) {
         // 0. 이메일 중복 체크
 
         EmailVerifyResponse emailVerifyResponse = validateEmail(toEmail);
@@ -93,11 +84,11 @@ public class EmailService {
                 .build();
         authCodeRepository.save(authCodeObject);
 
-        // 3. 메일 발송
-        sendMail(toEmail, title, content); // 생성된 메일 발송
+        // 3. 메일 발송 대기열에 등록 (인증코드가 만료되면 발송하지 않음)
+        sendMail(toEmail, title, content, Duration.ofSeconds(AuthCode.TIME_TO_LIVE_SECONDS));
 
         // 4. api 결괏값 반환
-        log.info("[sendValidateSigunupResult] 인증코드 메일이 발송됨. 수신자 id : {}", userRepository.findByEmail(toEmail));
+        log.info("[sendValidateSigunupResult] 인증코드 메일이 발송 대기열에 등록됨. 수신자 id : {}", userRepository.findByEmail(toEmail));
         AuthCodeCreateResponse authCodeCreateResponse = AuthCodeCreateResponse.builder()
                 .fromMail(fromEmail)
                 .toMail(toEmail)
@@ -156,7 +147,7 @@ public class EmailService {
                 .build();
     }
 
-    public ChangePwdCallResponse sendValidateUserMailForPwd(ChangePwdCallRequest changePwdCallRequest) throws MessagingException {
+    public ChangePwdCallResponse sendValidateUserMailForPwd(ChangePwdCallRequest changePwdCallRequest) {
         // 0. 이메일 유효 체크
         String toEmail = changePwdCallRequest.getToEmail();
         if (!userRepository.existsByEmail(toEmail)) {
@@ -189,8 +180,8 @@ public class EmailService {
                 .build();
         authCodeForChangePwdRepository.save(authCodeForChangePwd);
 
-        // 3. 메일 발송
-        sendMail(toEmail, title, content);
+        // 3. 메일 발송 대기열에 등록 (인증코드가 만료되면 발송하지 않음)
+        sendMail(toEmail, title, content, Duration.ofSeconds(AuthCodeForChangePwd.TIME_TO_LIVE_SECONDS));
 
         // 4. api 결괏값 반환
         return ChangePwdCallResponse.builder()
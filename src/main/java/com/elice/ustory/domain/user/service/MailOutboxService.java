@@ -0,0 +1,254 @@
+package com.elice.ustory.domain.user.service;
+
+import com.elice.ustory.domain.user.entity.EmailConfig;
+import com.elice.ustory.domain.user.entity.MailOutbox;
+import com.elice.ustory.domain.user.entity.MailOutboxStatus;
+import com.elice.ustory.domain.user.repository.MailOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 발송 대기열(mail_outbox)을 관리하는 서비스
+ *
+ * enqueue 는 메일을 저장만 하고 바로 반환하므로 SMTP 지연이나 장애가 API 응답에 영향을 주지 않는다.
+ * 워커 스레드는 발송 시점이 된 메일을 선점한 뒤 한 번의 SMTP 연결로 묶어서 보내고,
+ * 실패한 메일은 지수 백오프로 재시도하다 최대 횟수를 넘기면 FAILED 로 남긴다.
+ * 메일마다 유효시간(expiresAt)이 있어서, 인증코드가 만료된 뒤에는 재시도하지 않고 EXPIRED 로 남긴다.
+ * 발송이 끝난 메일은 본문(인증코드)을 지우고, 보관 기간이 지나면 행을 삭제한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private static final String THREAD_NAME_PREFIX = "mail-outbox-";
+    private static final List<MailOutboxStatus> DELIVERABLE_STATUSES = List.of(MailOutboxStatus.PENDING, MailOutboxStatus.SENDING);
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender javaMailSender;
+    private final EmailConfig emailConfig;
+
+    @Value("${mail.outbox.worker-threads:2}")
+    private int workerThreads;
+
+    @Value("${mail.outbox.poll-interval-millis:1000}")
+    private long pollIntervalMillis;
+
+    @Value("${mail.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.initial-backoff-millis:5000}")
+    private long initialBackoffMillis;
+
+    @Value("${mail.outbox.max-backoff-millis:600000}")
+    private long maxBackoffMillis;
+
+    @Value("${mail.outbox.lease-millis:300000}")
+    private long leaseMillis;
+
+    @Value("${mail.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${mail.outbox.purge-interval-millis:600000}")
+    private long purgeIntervalMillis;
+
+    private ScheduledExecutorService workers;
+    private String fromEmail;
+
+    @PostConstruct
+    private void start() {
+        fromEmail = emailConfig.getUsername();
+        workers = Executors.newScheduledThreadPool(workerThreads, new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+
+        for (int i = 0; i < workerThreads; i++) {
+            workers.scheduleWithFixedDelay(this::drainSafely, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        workers.scheduleWithFixedDelay(this::purgeSafely, purgeIntervalMillis, purgeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void stop() {
+        workers.shutdown();
+    }
+
+    /**
+     * 메일을 발송 대기열에 넣고, 다음 폴링을 기다리지 않도록 워커를 바로 깨운다.
+     * validFor 가 지나도록 보내지 못한 메일은 보내지 않는다. (인증코드 메일은 코드의 유효시간)
+     */
+    public MailOutbox enqueue(String toEmail, String title, String content, Duration validFor) {
+        MailOutbox mailOutbox = mailOutboxRepository.save(MailOutbox.createBuilder()
+                .toEmail(toEmail)
+                .title(title)
+                .content(content)
+                .expiresAt(LocalDateTime.now().plus(validFor))
+                .build());
+
+        workers.execute(this::drainSafely);
+        return mailOutbox;
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (Exception e) {
+            log.error("[MailOutbox] 메일 발송 워커 오류", e);
+        }
+    }
+
+    private void purgeSafely() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int expired = mailOutboxRepository.expireOverdue(now);
+            int purged = mailOutboxRepository.purgeFinished(now.minusHours(retentionHours));
+            if (expired > 0 || purged > 0) {
+                log.info("[MailOutbox] 만료 처리 {}건, 보관 기간이 지난 메일 {}건 삭제", expired, purged);
+            }
+        } catch (Exception e) {
+            log.error("[MailOutbox] 메일 정리 오류", e);
+        }
+    }
+
+    private void drain() {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> candidates = mailOutboxRepository.findByStatusInAndNextAttemptAtLessThanEqualAndExpiresAtAfterOrderByIdAsc(
+                DELIVERABLE_STATUSES, now, now, PageRequest.of(0, batchSize));
+
+        LocalDateTime leaseUntil = now.plus(leaseMillis, ChronoUnit.MILLIS);
+        List<MailOutbox> claimed = new ArrayList<>();
+        for (MailOutbox candidate : candidates) {
+            if (mailOutboxRepository.claim(candidate.getId(), now, leaseUntil) == 1) {
+                claimed.add(candidate);
+            }
+        }
+
+        if (!claimed.isEmpty()) {
+            deliver(claimed);
+        }
+    }
+
+    /**
+     * 선점한 메일을 한 번의 send 호출로 보낸다.
+     * JavaMailSenderImpl 은 한 번의 send 호출 안에서 하나의 SMTP 연결을 재사용한다.
+     */
+    private void deliver(List<MailOutbox> claimed) {
+        Map<MimeMessage, MailOutbox> messages = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (MailOutbox mailOutbox : claimed) {
+            if (mailOutbox.isExpired(now)) {
+                expire(mailOutbox);
+                continue;
+            }
+            try {
+                messages.put(toMimeMessage(mailOutbox), mailOutbox);
+            } catch (MessagingException e) {
+                // 메시지 자체가 잘못된 경우 재시도해도 성공할 수 없다.
+                mailOutbox.markFailed(e.getMessage());
+                mailOutboxRepository.save(mailOutbox);
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failedMessages = Map.of();
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                retryAll(messages.values(), e);
+                return;
+            }
+        } catch (MailException e) {
+            retryAll(messages.values(), e);
+            return;
+        }
+
+        for (Map.Entry<MimeMessage, MailOutbox> entry : messages.entrySet()) {
+            MailOutbox mailOutbox = entry.getValue();
+            Exception failure = failedMessages.get(entry.getKey());
+
+            if (failure == null) {
+                mailOutbox.markSent();
+                log.info("[MailOutbox] 메일 발송 완료 id: {}, 수신자: {}", mailOutbox.getId(), mailOutbox.getToEmail());
+            } else {
+                retryOrFail(mailOutbox, failure);
+            }
+            mailOutboxRepository.save(mailOutbox);
+        }
+    }
+
+    private void retryAll(Iterable<MailOutbox> mailOutboxes, Exception cause) {
+        for (MailOutbox mailOutbox : mailOutboxes) {
+            retryOrFail(mailOutbox, cause);
+            mailOutboxRepository.save(mailOutbox);
+        }
+    }
+
+    private void retryOrFail(MailOutbox mailOutbox, Exception cause) {
+        int attempt = mailOutbox.getAttempts() + 1;
+
+        if (attempt >= maxAttempts) {
+            log.error("[MailOutbox] 메일 발송 최종 실패 id: {}, 수신자: {}, 시도 횟수: {}",
+                    mailOutbox.getId(), mailOutbox.getToEmail(), attempt, cause);
+            mailOutbox.markFailed(cause.getMessage());
+            return;
+        }
+
+        long backoffMillis = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoffMillis, ChronoUnit.MILLIS);
+        if (mailOutbox.isExpired(nextAttemptAt)) {
+            log.warn("[MailOutbox] 메일 발송 실패, 재시도 전에 유효시간이 지나 중단 id: {}, 시도 횟수: {}, 원인: {}",
+                    mailOutbox.getId(), attempt, cause.getMessage());
+            mailOutbox.markExpired();
+            return;
+        }
+
+        log.warn("[MailOutbox] 메일 발송 실패, {}ms 후 재시도 id: {}, 시도 횟수: {}, 원인: {}",
+                backoffMillis, mailOutbox.getId(), attempt, cause.getMessage());
+        mailOutbox.markRetry(cause.getMessage(), nextAttemptAt);
+    }
+
+    private void expire(MailOutbox mailOutbox) {
+        log.warn("[MailOutbox] 유효시간이 지나 발송하지 않음 id: {}, 수신자: {}", mailOutbox.getId(), mailOutbox.getToEmail());
+        mailOutbox.markExpired();
+        mailOutboxRepository.save(mailOutbox);
+    }
+
+    private MimeMessage toMimeMessage(MailOutbox mailOutbox) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+
+        mimeMessage.addRecipients(MimeMessage.RecipientType.TO, mailOutbox.getToEmail());
+        mimeMessage.setSubject(mailOutbox.getTitle());
+        mimeMessage.setFrom(fromEmail);
+        mimeMessage.setText(mailOutbox.getContent(), "utf-8", "html");
+
+        return mimeMessage;
+    }
+}
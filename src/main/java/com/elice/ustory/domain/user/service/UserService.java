@@ -10,6 +10,7 @@ import com.elice.ustory.domain.diaryUser.entity.DiaryUserId;
 import com.elice.ustory.domain.diaryUser.repository.DiaryUserRepository;
 import com.elice.ustory.domain.user.dto.FindByNicknameResponse;
 import com.elice.ustory.domain.user.dto.*;
+import com.elice.ustory.domain.user.entity.UserStats;
 import com.elice.ustory.domain.user.entity.Users;
 import com.elice.ustory.domain.user.repository.UserRepository;
 import com.elice.ustory.global.exception.model.*;
@@ -30,6 +31,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
     private final DiaryRepository diaryRepository;
     private final DiaryUserRepository diaryUserRepository;
 
@@ -237,12 +239,17 @@ public class UserService {
         String name = currentUser.getName();
         String profileDescription = currentUser.getProfileDescription();
         String profileImgUrl = currentUser.getProfileImgUrl();
+        UserStats userStats = userStatsService.getUserStats(userId);
 
         MyPageResponse myPageResponse = MyPageResponse.builder()
                 .nickname(nickname)
                 .name(name)
                 .profileDescription(profileDescription)
                 .profileImgUrl(profileImgUrl)
+                .paperCount(userStats.getPaperCount())
+                .diaryCount(userStats.getDiaryCount())
+                .greatReceivedCount(userStats.getGreatReceivedCount())
+                .bookmarkCount(userStats.getBookmarkCount())
                 .build();
 
         return myPageResponse;
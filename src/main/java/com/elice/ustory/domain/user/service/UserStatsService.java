@@ -0,0 +1,83 @@
+package com.elice.ustory.domain.user.service;
+
+import com.elice.ustory.domain.user.entity.UserStats;
+import com.elice.ustory.domain.user.repository.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * user_stats 집계 관리
+ *
+ * 증감은 호출한 서비스의 트랜잭션에 참여하는 단일 UPDATE 로 처리하므로 쓰기와 집계가 함께 커밋되거나 롤백된다.
+ * 집계 행이 아직 없으면 같은 트랜잭션에서 원본 테이블을 집계해 upsert 하며, 이때 방금 쓴 내용도 집계에 포함된다.
+ * 조회는 행을 만들지 않는다. 행이 없으면 원본 테이블 집계 값을 그대로 반환한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+
+    @Transactional(readOnly = true)
+    public UserStats getUserStats(Long userId) {
+        return userStatsRepository.findById(userId)
+                .orElseGet(() -> aggregate(userId));
+    }
+
+    @Transactional
+    public void changePaperCount(Long userId, long delta) {
+        if (userStatsRepository.addPaperCount(userId, delta) == 0) {
+            rebuild(userId, delta, 0, 0, 0);
+        }
+    }
+
+    @Transactional
+    public void changeDiaryCount(Long userId, long delta) {
+        if (userStatsRepository.addDiaryCount(userId, delta) == 0) {
+            rebuild(userId, 0, delta, 0, 0);
+        }
+    }
+
+    /** 다이어리 삭제 전에 호출하여 소속 멤버 전원의 다이어리 수를 줄인다. */
+    @Transactional
+    public void decreaseDiaryCountOfMembers(Long diaryId) {
+        userStatsRepository.decreaseDiaryCountOfMembers(diaryId);
+    }
+
+    @Transactional
+    public void changeGreatReceivedCount(Long userId, long delta) {
+        if (userStatsRepository.addGreatReceivedCount(userId, delta) == 0) {
+            rebuild(userId, 0, 0, delta, 0);
+        }
+    }
+
+    @Transactional
+    public void changeBookmarkCount(Long userId, long delta) {
+        if (userStatsRepository.addBookmarkCount(userId, delta) == 0) {
+            rebuild(userId, 0, 0, 0, delta);
+        }
+    }
+
+    /**
+     * 원본 테이블 집계로 행을 만든다. 집계에는 이 트랜잭션에서 방금 쓴 내용이 이미 들어 있으므로 증감분은 더하지 않는다.
+     * 다른 트랜잭션이 먼저 행을 만들었다면 그 집계에는 이 트랜잭션의 쓰기가 빠져 있으므로 증감분만 더한다.
+     */
+    private void rebuild(Long userId, long paperDelta, long diaryDelta, long greatReceivedDelta, long bookmarkDelta) {
+        UserStats userStats = aggregate(userId);
+        userStatsRepository.upsert(userId,
+                userStats.getPaperCount(), userStats.getDiaryCount(),
+                userStats.getGreatReceivedCount(), userStats.getBookmarkCount(),
+                paperDelta, diaryDelta, greatReceivedDelta, bookmarkDelta);
+    }
+
+    private UserStats aggregate(Long userId) {
+        return UserStats.createBuilder()
+                .userId(userId)
+                .paperCount(userStatsRepository.countPapersByWriter(userId))
+                .diaryCount(userStatsRepository.countDiariesByUser(userId))
+                .greatReceivedCount(userStatsRepository.countGreatsReceivedByUser(userId))
+                .bookmarkCount(userStatsRepository.countBookmarksByUser(userId))
+                .build();
+    }
+}
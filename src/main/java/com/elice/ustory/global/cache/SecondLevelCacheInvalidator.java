@@ -0,0 +1,120 @@
+package com.elice.ustory.global.cache;
+
+import com.elice.ustory.domain.diary.entity.Diary;
+import com.elice.ustory.domain.user.entity.Users;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 서버 로컬 2차 캐시를 Redis pub/sub 으로 클러스터 전체에서 무효화한다.
+ *
+ * 캐싱 대상 엔티티의 UPDATE/DELETE 가 커밋되면 "노드|엔티티|id" 메시지를 발행하고,
+ * 다른 서버는 메시지를 받아 자신의 캐시에서 해당 엔티티를 제거한다.
+ * 탈퇴(deleted_at 설정)한 Users 는 @Where 조건상 조회되지 않아야 하므로 이 서버의 캐시에서도 바로 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidator
+        implements PostCommitUpdateEventListener, PostCommitDeleteEventListener, MessageListener {
+
+    public static final String CHANNEL = "SecondLevelCacheEvict";
+
+    private static final String NODE_ID = UUID.randomUUID().toString();
+    private static final String DELIMITER = "|";
+    private static final Map<String, Class<?>> CACHED_ENTITIES = Map.of(
+            Users.class.getSimpleName(), Users.class,
+            Diary.class.getSimpleName(), Diary.class
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private SessionFactoryImplementor sessionFactory;
+
+    @PostConstruct
+    private void register() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object entity = event.getEntity();
+
+        if (entity instanceof Users user && user.getDeletedAt() != null) {
+            evict(Users.class, user.getId());
+        }
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache() && CACHED_ENTITIES.containsKey(persister.getMappedClass().getSimpleName());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + DELIMITER);
+        if (parts.length != 3 || NODE_ID.equals(parts[0])) {
+            return;
+        }
+
+        Class<?> entityClass = CACHED_ENTITIES.get(parts[1]);
+        if (entityClass != null) {
+            evict(entityClass, Long.valueOf(parts[2]));
+        }
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        String entityName = persister.getMappedClass().getSimpleName();
+        if (!CACHED_ENTITIES.containsKey(entityName)) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, NODE_ID + DELIMITER + entityName + DELIMITER + id);
+        } catch (RuntimeException e) {
+            // 다른 서버의 캐시는 TTL 이 지나면 갱신된다.
+            log.warn("[SecondLevelCacheInvalidator] 캐시 무효화 메시지 발행 실패 {}#{}", entityName, id, e);
+        }
+    }
+
+    private void evict(Class<?> entityClass, Long id) {
+        sessionFactory.getCache().evictEntityData(entityClass, id);
+    }
+}
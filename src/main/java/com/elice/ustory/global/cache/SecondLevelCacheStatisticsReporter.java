@@ -0,0 +1,62 @@
+package com.elice.ustory.global.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 2차 캐시 영역별 적중률을 주기적으로 로그에 남긴다.
+ *
+ * 값은 JCache 가 등록한 CacheStatistics MXBean 에서 읽으므로, 같은 값을 JMX 로도 조회할 수 있다.
+ */
+@Slf4j
+@Component
+public class SecondLevelCacheStatisticsReporter {
+
+    private static final String THREAD_NAME_PREFIX = "cache-stats-";
+    private static final String STATISTICS_OBJECT_NAME = "javax.cache:type=CacheStatistics,CacheManager=*,Cache=*";
+
+    @Value("${ustory.cache.statistics-log-interval-millis:300000}")
+    private long logIntervalMillis;
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    private void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+        scheduler.scheduleWithFixedDelay(this::report, logIntervalMillis, logIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void stop() {
+        scheduler.shutdown();
+    }
+
+    private void report() {
+        try {
+            for (ObjectName name : mBeanServer.queryNames(new ObjectName(STATISTICS_OBJECT_NAME), null)) {
+                log.info("[SecondLevelCache] {} 적중률: {}%, hit: {}, miss: {}, put: {}, eviction: {}",
+                        name.getKeyProperty("Cache"),
+                        String.format("%.1f", (Float) mBeanServer.getAttribute(name, "CacheHitPercentage")),
+                        mBeanServer.getAttribute(name, "CacheHits"),
+                        mBeanServer.getAttribute(name, "CacheMisses"),
+                        mBeanServer.getAttribute(name, "CachePuts"),
+                        mBeanServer.getAttribute(name, "CacheEvictions"));
+            }
+        } catch (JMException | RuntimeException e) {
+            log.warn("[SecondLevelCache] 캐시 통계 조회 실패", e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.elice.ustory.global.config;
+
+import com.elice.ustory.global.datasource.DataSourceType;
+import com.elice.ustory.global.datasource.ReadYourWritesTracker;
+import com.elice.ustory.global.datasource.ReplicaLagMonitor;
+import com.elice.ustory.global.datasource.ReplicaRoutingJpaDialect;
+import com.elice.ustory.global.datasource.ReplicationRoutingDataSource;
+import com.elice.ustory.global.interceptor.ReadYourWritesInterceptor;
+import com.elice.ustory.global.jwt.JwtUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * primary / replica 읽기 분산 설정
+ *
+ * spring.datasource.replica.url 이 설정된 경우에만 활성화되며, 설정이 없으면 기존처럼 단일 DataSource 를 사용한다.
+ * 커넥션 풀 설정은 spring.datasource.hikari.* (primary), spring.datasource.replica.hikari.* (replica) 로 나누어 지정한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${spring.datasource.replica.url}") String url,
+                                              @Value("${spring.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${spring.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${spring.datasource.replica.max-lag-seconds:3}") long maxLagSeconds,
+                                               @Value("${spring.datasource.replica.lag-check-interval-millis:1000}") long checkIntervalMillis) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLagSeconds, Duration.ofMillis(checkIntervalMillis));
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(StringRedisTemplate stringRedisTemplate,
+                                                       @Value("${spring.datasource.replica.read-your-writes-millis:5000}") long windowMillis) {
+        return new ReadYourWritesTracker(stringRedisTemplate, Duration.ofMillis(windowMillis));
+    }
+
+    @Bean
+    public ReadYourWritesInterceptor readYourWritesInterceptor(JwtUtil jwtUtil, ReadYourWritesTracker readYourWritesTracker) {
+        return new ReadYourWritesInterceptor(jwtUtil, readYourWritesTracker);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaLagMonitor, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * open-in-view 로 세션이 요청 끝까지 유지되더라도, 트랜잭션마다 커넥션을 반납하고 새로 골라야
+     * 읽기 전용 트랜잭션에서 얻은 replica 커넥션이 이후 쓰기 트랜잭션에 재사용되지 않는다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer routingConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션의 경로(primary / replica)를 트랜잭션 시작 시점에 정하도록 JpaDialect 를 바꾼 트랜잭션 매니저
+     * (Spring Boot 기본 JpaTransactionManager 대신 등록된다.)
+     */
+    @Bean
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                    ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers,
+                                                    ReplicaLagMonitor replicaLagMonitor) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionManager.setJpaDialect(new ReplicaRoutingJpaDialect(replicaLagMonitor));
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+}
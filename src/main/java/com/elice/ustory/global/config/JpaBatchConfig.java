@@ -0,0 +1,50 @@
+package com.elice.ustory.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC 배치 설정
+ *
+ * id 를 애플리케이션에서 미리 할당하는 엔티티(TimeOrderedId)는 INSERT/UPDATE/DELETE 가 flush 시점에 batch-size 단위로 묶여 전송된다.
+ * 같은 엔티티의 문장끼리 모이도록 INSERT/UPDATE 를 정렬하고,
+ * MySQL 에서는 드라이버가 배치 INSERT 를 다중 행 INSERT 한 문장으로 바꾸도록 rewriteBatchedStatements 를 켠다.
+ * application.yml 에 같은 설정이 있으면 그 값을 우선한다.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+    private static final String REWRITE_BATCHED_STATEMENTS = "rewriteBatchedStatements";
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchPropertiesCustomizer(@Value("${ustory.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith(MYSQL_URL_PREFIX)
+                        && !dataSource.getDataSourceProperties().containsKey(REWRITE_BATCHED_STATEMENTS)) {
+                    dataSource.addDataSourceProperty(REWRITE_BATCHED_STATEMENTS, "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package com.elice.ustory.global.config;
+
+import com.elice.ustory.global.cache.SecondLevelCacheInvalidator;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정
+ *
+ * id 로 반복 조회되는 Users, Diary 를 서버 로컬 JCache(Caffeine) 에 캐싱한다.
+ * 서버마다 캐시가 따로 있으므로 변경/삭제는 SecondLevelCacheInvalidator 가 Redis pub/sub 으로 다른 서버에 알려 무효화한다.
+ * replica 에서 읽는 트랜잭션은 캐시를 채우지 않는다. (ReplicaRoutingJpaDialect 참고)
+ * 캐시 통계는 JCache MXBean(javax.cache:type=CacheStatistics) 으로 노출되고 주기적으로 로그에도 남긴다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String USERS_REGION = "users";
+    public static final String DIARY_REGION = "diary";
+
+    private static final String MISSING_CACHE_STRATEGY = "create-warn";
+
+    @Value("${ustory.cache.users.max-size:10000}")
+    private long usersMaxSize;
+
+    @Value("${ustory.cache.users.ttl-seconds:600}")
+    private long usersTtlSeconds;
+
+    @Value("${ustory.cache.diary.max-size:5000}")
+    private long diaryMaxSize;
+
+    @Value("${ustory.cache.diary.ttl-seconds:600}")
+    private long diaryTtlSeconds;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        cacheManager.createCache(USERS_REGION, regionConfiguration(usersMaxSize, usersTtlSeconds));
+        cacheManager.createCache(DIARY_REGION, regionConfiguration(diaryMaxSize, diaryTtlSeconds));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MISSING_CACHE_STRATEGY);
+        };
+    }
+
+    @Bean
+    public RedisMessageListenerContainer secondLevelCacheListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                           SecondLevelCacheInvalidator secondLevelCacheInvalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(secondLevelCacheInvalidator, new ChannelTopic(SecondLevelCacheInvalidator.CHANNEL));
+        return container;
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maxSize, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofSeconds(ttlSeconds).toNanos()));
+        configuration.setStatisticsEnabled(true);
+        configuration.setManagementEnabled(true);
+        return configuration;
+    }
+}
@@ -1,10 +1,12 @@
 package com.elice.ustory.global.config;
 
+import com.elice.ustory.global.jwt.AuthenticatedUser;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
@@ -12,6 +14,11 @@ import org.springframework.http.HttpHeaders;
 @Configuration
 public class SwaggerConfig {
 
+    static {
+        // 토큰에서 만들어지는 인증 사용자는 요청 파라미터로 노출하지 않는다.
+        SpringDocUtils.getConfig().addRequestWrapperToIgnore(AuthenticatedUser.class);
+    }
+
     @Bean
     public OpenAPI customOpenAPI() {
         String jwtSchemeName = "jwtAuth";
@@ -0,0 +1,74 @@
+package com.elice.ustory.global.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서 캐리어 스레드 고정(pinning)을 감지하는 모니터
+ *
+ * synchronized 블록이나 네이티브 호출 안에서 블로킹되면 가상 스레드가 캐리어 스레드를 놓지 못한다.
+ * JFR 의 jdk.VirtualThreadPinned 이벤트를 구독하여 임계값 이상 고정된 경우 호출 위치를 경고 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_FRAMES = 8;
+
+    @Value("${ustory.virtual-threads.pinning-threshold-millis:20}")
+    private long thresholdMillis;
+
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    private void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(thresholdMillis))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::logPinnedEvent);
+        recordingStream.startAsync();
+
+        log.info("[VirtualThreadPinningMonitor] 가상 스레드 고정 감지 시작 (임계값: {}ms)", thresholdMillis);
+    }
+
+    @PreDestroy
+    private void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void logPinnedEvent(RecordedEvent event) {
+        log.warn("[VirtualThreadPinningMonitor] 가상 스레드가 {}ms 동안 캐리어 스레드에 고정되었습니다.\n{}",
+                event.getDuration().toMillis(), formatStackTrace(event));
+    }
+
+    private String formatStackTrace(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "\t(stack trace 없음)";
+        }
+
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(MAX_LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName()
+                        + "." + frame.getMethod().getName()
+                        + "(line " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining("\n"));
+    }
+}
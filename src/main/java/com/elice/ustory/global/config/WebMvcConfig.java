@@ -1,9 +1,11 @@
 package com.elice.ustory.global.config;
 
 import com.elice.ustory.global.interceptor.JwtInterceptor;
+import com.elice.ustory.global.interceptor.ReadYourWritesInterceptor;
 import com.elice.ustory.global.jwt.JwtUtil;
 import com.elice.ustory.global.resolver.JwtAuthorizationArgumentResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -17,6 +19,7 @@ import java.util.List;
 public class WebMvcConfig implements WebMvcConfigurer {
     private final JwtUtil jwtUtil;
     private final JwtAuthorizationArgumentResolver jwtAuthorizationArgumentResolver;
+    private final ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -24,6 +27,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .excludePathPatterns("/swagger-resources/**", "/swagger-ui/**", "/v3/api-docs/**",
                         "/user/sign-up/**", "/user/login", "/user/validate-nickname");
         //TODO: 로그인 관련 엔드포인트는 제외시켜야함
+
+        // replica 읽기 분산이 설정된 경우에만 등록된다.
+        readYourWritesInterceptor.ifAvailable(registry::addInterceptor);
     }
 
     @Override
@@ -0,0 +1,6 @@
+package com.elice.ustory.global.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
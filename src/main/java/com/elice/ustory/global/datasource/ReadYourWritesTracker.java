@@ -0,0 +1,44 @@
+package com.elice.ustory.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 사용자가 마지막으로 쓰기 트랜잭션을 커밋한 뒤 일정 시간 동안 그 사용자의 읽기를 primary 로 고정한다.
+ *
+ * 다음 요청이 다른 서버로 가더라도 자신이 쓴 데이터를 볼 수 있도록 기록은 Redis 에 TTL 키로 남긴다.
+ * Redis 를 사용할 수 없으면 안전하게 primary 로 읽도록 고정된 것으로 본다.
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "ReplicaPin:";
+    private static final String PINNED = "1";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration window;
+
+    public ReadYourWritesTracker(StringRedisTemplate stringRedisTemplate, Duration window) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.window = window;
+    }
+
+    public void markWritten(Long userId) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + userId, PINNED, window);
+        } catch (RuntimeException e) {
+            log.warn("[ReadYourWritesTracker] 쓰기 기록 저장 실패 userId: {}", userId, e);
+        }
+    }
+
+    public boolean isPinned(Long userId) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (RuntimeException e) {
+            log.warn("[ReadYourWritesTracker] 쓰기 기록 조회 실패 userId: {}", userId, e);
+            return true;
+        }
+    }
+}
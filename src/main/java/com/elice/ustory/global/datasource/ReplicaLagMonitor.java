@@ -0,0 +1,95 @@
+package com.elice.ustory.global.datasource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * replica 의 복제 지연을 주기적으로 확인하여 읽기를 replica 로 보내도 되는지 판단한다.
+ *
+ * SHOW REPLICA STATUS 의 Seconds_Behind_Source 가 허용치를 넘거나, 복제가 멈췄거나, 접속할 수 없으면
+ * 다음 확인에서 회복될 때까지 모든 읽기를 primary 로 보낸다.
+ * 상태가 비어 있는 경우(관리형 DB 의 읽기 엔드포인트 등)는 지연을 알 수 없으므로 사용 가능한 것으로 본다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String THREAD_NAME_PREFIX = "replica-lag-";
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String SECONDS_BEHIND_COLUMN = "Seconds_Behind_Source";
+
+    private final DataSource replicaDataSource;
+    private final long maxLagSeconds;
+    private final Duration checkInterval;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean replicaAvailable = false;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, Duration checkInterval) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkInterval = checkInterval;
+    }
+
+    @PostConstruct
+    private void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void stop() {
+        scheduler.shutdown();
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    private void check() {
+        boolean available = evaluate();
+
+        if (available != replicaAvailable) {
+            log.warn("[ReplicaLagMonitor] replica 읽기 {}", available ? "재개" : "중단, primary 로 전환");
+        }
+        replicaAvailable = available;
+    }
+
+    private boolean evaluate() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICA_STATUS_QUERY)) {
+
+            if (!resultSet.next()) {
+                return true;
+            }
+
+            long secondsBehind = resultSet.getLong(SECONDS_BEHIND_COLUMN);
+            if (resultSet.wasNull()) {
+                log.warn("[ReplicaLagMonitor] replica 복제가 멈춰 있습니다.");
+                return false;
+            }
+
+            if (secondsBehind > maxLagSeconds) {
+                log.warn("[ReplicaLagMonitor] replica 지연 {}초 (허용: {}초)", secondsBehind, maxLagSeconds);
+                return false;
+            }
+            return true;
+
+        } catch (SQLException e) {
+            log.warn("[ReplicaLagMonitor] replica 상태 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+}
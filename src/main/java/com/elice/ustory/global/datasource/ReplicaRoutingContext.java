@@ -0,0 +1,48 @@
+package com.elice.ustory.global.datasource;
+
+/**
+ * 요청 스레드 단위의 읽기 라우팅 상태
+ *
+ * 인증된 사용자 id 와, 이 요청의 읽기를 primary 로 고정해야 하는지 여부를 담는다.
+ * ReadYourWritesInterceptor 가 요청 시작 시 채우고 요청이 끝나면 비운다.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<ReplicaRoutingContext> CONTEXT = new ThreadLocal<>();
+
+    private final Long userId;
+    private boolean primaryPinned;
+
+    private ReplicaRoutingContext(Long userId, boolean primaryPinned) {
+        this.userId = userId;
+        this.primaryPinned = primaryPinned;
+    }
+
+    public static void begin(Long userId, boolean primaryPinned) {
+        CONTEXT.set(new ReplicaRoutingContext(userId, primaryPinned));
+    }
+
+    public static void clear() {
+        CONTEXT.remove();
+    }
+
+    public static Long currentUserId() {
+        ReplicaRoutingContext context = CONTEXT.get();
+        return context != null ? context.userId : null;
+    }
+
+    public static boolean isPrimaryPinned() {
+        ReplicaRoutingContext context = CONTEXT.get();
+        return context != null && context.primaryPinned;
+    }
+
+    /**
+     * 같은 요청 안에서 쓰기 이후에 실행되는 읽기도 primary 로 보낸다.
+     */
+    public static void pinPrimary() {
+        ReplicaRoutingContext context = CONTEXT.get();
+        if (context != null) {
+            context.primaryPinned = true;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.elice.ustory.global.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션을 시작할 때 primary / replica 중 어디서 읽을지 정해 두는 JpaDialect
+ *
+ * 정한 경로는 트랜잭션 리소스로 묶어 두고 ReplicationRoutingDataSource 가 커넥션을 고를 때 사용한다.
+ * label 에 ReplicationRoutingDataSource.PRIMARY_LABEL 이 있으면 replica 상태와 관계없이 primary 로 정한다.
+ *
+ * replica 로 정해진 트랜잭션은 2차 캐시를 읽기만 하고(CacheMode.GET) 채우지 않는다.
+ * 캐시를 지운 직후 지연된 replica 의 옛 값이 2차 캐시에 다시 들어가는 것을 막기 위해서다.
+ */
+public class ReplicaRoutingJpaDialect extends HibernateJpaDialect {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingJpaDialect(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+
+        DataSourceType route = isPrimaryRequested(definition)
+                ? DataSourceType.PRIMARY
+                : ReplicationRoutingDataSource.selectReadRoute(replicaLagMonitor);
+
+        // REQUIRES_NEW 로 중첩된 경우 바깥 트랜잭션의 경로를 보관했다가 끝날 때 되돌린다.
+        Object outerRoute = TransactionSynchronizationManager.unbindResourceIfPossible(ReplicationRoutingDataSource.READ_ROUTE_RESOURCE);
+        TransactionSynchronizationManager.bindResource(ReplicationRoutingDataSource.READ_ROUTE_RESOURCE, route);
+
+        // open-in-view 로 세션이 여러 트랜잭션에 걸쳐 쓰일 수 있으므로 이전 CacheMode 를 보관했다가 되돌린다.
+        Session session = getSession(entityManager);
+        CacheMode outerCacheMode = session.getCacheMode();
+        if (route == DataSourceType.REPLICA) {
+            session.setCacheMode(CacheMode.GET);
+        }
+
+        return new ReadRouteTransactionData(transactionData, outerRoute, session, outerCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (!(transactionData instanceof ReadRouteTransactionData readRouteData)) {
+            super.cleanupTransaction(transactionData);
+            return;
+        }
+
+        TransactionSynchronizationManager.unbindResourceIfPossible(ReplicationRoutingDataSource.READ_ROUTE_RESOURCE);
+        if (readRouteData.outerRoute() != null) {
+            TransactionSynchronizationManager.bindResource(ReplicationRoutingDataSource.READ_ROUTE_RESOURCE, readRouteData.outerRoute());
+        }
+        if (readRouteData.session().isOpen()) {
+            readRouteData.session().setCacheMode(readRouteData.outerCacheMode());
+        }
+        super.cleanupTransaction(readRouteData.delegate());
+    }
+
+    private static boolean isPrimaryRequested(TransactionDefinition definition) {
+        return definition instanceof TransactionAttribute attribute
+                && attribute.getLabels().contains(ReplicationRoutingDataSource.PRIMARY_LABEL);
+    }
+
+    private record ReadRouteTransactionData(Object delegate, Object outerRoute, Session session, CacheMode outerCacheMode) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.elice.ustory.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 속성에 따라 primary / replica 를 고르는 DataSource
+ *
+ * - @Transactional(readOnly = true) 트랜잭션만 replica 로 보낸다. 트랜잭션 밖의 접근은 primary 로 보낸다.
+ * - 쓰기 트랜잭션이 커밋되면 그 사용자의 읽기를 일정 시간 primary 로 고정한다. (read-your-writes)
+ * - replica 지연이 허용치를 넘으면 모든 읽기를 primary 로 보낸다.
+ * - 읽기 전용 트랜잭션의 경로는 시작할 때 ReplicaRoutingJpaDialect 가 정해 두고, primary 로 정해졌으면 그대로 따른다.
+ *   label 에 PRIMARY_LABEL 을 붙인 읽기 전용 트랜잭션은 항상 primary 에서 읽는다.
+ *
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 고르도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * 공유 캐시(Redis, 2차 캐시)를 채우는 읽기에 붙이는 트랜잭션 label
+     *
+     * 캐시를 지운 직후 지연된 replica 에서 읽으면 지워진 값이 모든 사용자의 캐시에 다시 들어가므로 primary 에서 읽는다.
+     * 예: @Transactional(readOnly = true, label = ReplicationRoutingDataSource.PRIMARY_LABEL)
+     */
+    public static final String PRIMARY_LABEL = "primary";
+
+    // 읽기 전용 트랜잭션을 시작할 때 정한 경로 (DataSourceType)
+    static final String READ_ROUTE_RESOURCE = ReplicationRoutingDataSource.class.getName() + ".READ_ROUTE";
+
+    private static final String WRITE_TRACKED_RESOURCE = ReplicationRoutingDataSource.class.getName() + ".WRITE_TRACKED";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor replicaLagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return DataSourceType.PRIMARY;
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return DataSourceType.PRIMARY;
+        }
+
+        if (TransactionSynchronizationManager.getResource(READ_ROUTE_RESOURCE) == DataSourceType.PRIMARY) {
+            return DataSourceType.PRIMARY;
+        }
+
+        return selectReadRoute(replicaLagMonitor);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 어디로 보낼지 정한다.
+     */
+    static DataSourceType selectReadRoute(ReplicaLagMonitor replicaLagMonitor) {
+        if (ReplicaRoutingContext.isPrimaryPinned() || !replicaLagMonitor.isReplicaAvailable()) {
+            return DataSourceType.PRIMARY;
+        }
+
+        return DataSourceType.REPLICA;
+    }
+
+    private void trackWrite() {
+        Long userId = ReplicaRoutingContext.currentUserId();
+
+        if (userId == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_TRACKED_RESOURCE)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(WRITE_TRACKED_RESOURCE, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReplicaRoutingContext.pinPrimary();
+                readYourWritesTracker.markWritten(userId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKED_RESOURCE);
+            }
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.elice.ustory.global.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션에서 시간순 64비트 id 를 할당하는 식별자에 붙인다.
+ *
+ * IDENTITY 와 달리 INSERT 전에 id 가 정해지므로 JDBC 배치가 가능하고, id 순서가 생성 순서와 같다.
+ *
+ * @see TimeOrderedIdGenerator
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
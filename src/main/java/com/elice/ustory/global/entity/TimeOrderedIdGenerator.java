@@ -0,0 +1,92 @@
+package com.elice.ustory.global.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TSID 형식의 시간순 id 생성기 (53비트)
+ *
+ * [ 41비트: 2024-01-01 기준 밀리초 | 5비트: 노드 | 7비트: 카운터 ]
+ *
+ * id 는 JSON 숫자로 응답되고, JavaScript 는 2^53 을 넘는 정수를 반올림하므로 전체를 53비트 안에 맞춘다.
+ * 41비트 밀리초는 2093년까지 쓸 수 있고, 한 노드는 밀리초당 128개(초당 약 12만 개)까지 만든다.
+ *
+ * 노드 번호는 ustory.id.node-id 시스템 프로퍼티나 USTORY_ID_NODE_ID 환경 변수(0 ~ 31)로 반드시 지정해야 하며, 인스턴스마다 달라야 한다.
+ * 무작위로 정하면 32개 중 하나라서 두 인스턴스가 같은 번호를 가질 확률이 1/32 이고, 그러면 같은 밀리초의 id 가 겹쳐 INSERT 가 실패한다.
+ * 그래서 지정하지 않으면 Hibernate 가 생성기를 만드는 기동 시점에 IllegalStateException 으로 실패한다.
+ * 같은 밀리초 안에서는 무작위 값에서 시작한 카운터를 증가시키고,
+ * 카운터가 넘치거나 시계가 뒤로 가면 직전 시각을 이어서 사용하므로 한 노드 안에서 id 는 항상 증가한다.
+ * 락 없이 CAS 로만 갱신하여 가상 스레드를 캐리어 스레드에 고정시키지 않는다.
+ *
+ * 기존 IDENTITY 로 만들어진 행의 id 는 이 생성기가 만드는 어떤 id 보다 작으므로,
+ * 기존 데이터를 옮기지 않아도 id 순서가 생성 순서와 일치한다.
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+
+    private static final String NODE_ID_PROPERTY = "ustory.id.node-id";
+    private static final String NODE_ID_ENV = "USTORY_ID_NODE_ID";
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 5;
+    private static final int COUNTER_BITS = 7;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + COUNTER_BITS;
+
+    private static final long NODE_MASK = (1L << NODE_BITS) - 1;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    // 밀리초가 바뀔 때 카운터를 하위 절반 범위의 무작위 값에서 시작하여 노드 번호가 겹쳐도 충돌 가능성을 줄인다.
+    private static final long COUNTER_RANDOM_BOUND = 1L << (COUNTER_BITS - 1);
+
+    private static final long NODE_ID = resolveNodeId();
+
+    // (경과 밀리초 << COUNTER_BITS) | 카운터
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+
+    public static long nextId() {
+        long state = LAST_STATE.updateAndGet(last -> {
+            long candidate = ((System.currentTimeMillis() - EPOCH_MILLIS) << COUNTER_BITS)
+                    | ThreadLocalRandom.current().nextLong(COUNTER_RANDOM_BOUND);
+            return Math.max(candidate, last + 1);
+        });
+
+        long elapsedMillis = state >>> COUNTER_BITS;
+        long counter = state & COUNTER_MASK;
+        return (elapsedMillis << TIMESTAMP_SHIFT) | (NODE_ID << COUNTER_BITS) | counter;
+    }
+
+    /**
+     * id 가 생성된 시각. 이 생성기가 만들지 않은 (기존 IDENTITY) id 에는 의미가 없다.
+     */
+    public static Instant createdAtOf(long id) {
+        return Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS);
+    }
+
+    private static long resolveNodeId() {
+        String configured = System.getProperty(NODE_ID_PROPERTY, System.getenv(NODE_ID_ENV));
+
+        if (configured == null || configured.isBlank()) {
+            throw new IllegalStateException(String.format("%s 시스템 프로퍼티나 %s 환경 변수로 인스턴스마다 다른 노드 번호(0 ~ %d)를 지정해야 합니다.",
+                    NODE_ID_PROPERTY, NODE_ID_ENV, NODE_MASK));
+        }
+
+        long nodeId;
+        try {
+            nodeId = Long.parseLong(configured.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(String.format("%s 는 0 ~ %d 사이의 정수여야 합니다. (현재: %s)", NODE_ID_PROPERTY, NODE_MASK, configured), e);
+        }
+        if (nodeId < 0 || nodeId > NODE_MASK) {
+            throw new IllegalStateException(String.format("%s 는 0 ~ %d 사이여야 합니다. (현재: %d)", NODE_ID_PROPERTY, NODE_MASK, nodeId));
+        }
+        return nodeId;
+    }
+}
@@ -0,0 +1,55 @@
+package com.elice.ustory.global.interceptor;
+
+import com.elice.ustory.global.datasource.ReadYourWritesTracker;
+import com.elice.ustory.global.datasource.ReplicaRoutingContext;
+import com.elice.ustory.global.jwt.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 요청한 사용자를 읽기 라우팅 컨텍스트에 등록하고,
+ * 최근에 쓰기를 한 사용자라면 이 요청의 읽기를 primary 로 고정한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private final JwtUtil jwtUtil;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long userId = resolveUserId(request);
+        boolean primaryPinned = userId != null && readYourWritesTracker.isPinned(userId);
+
+        ReplicaRoutingContext.begin(userId, primaryPinned);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReplicaRoutingContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRoutingContext.clear();
+    }
+
+    private Long resolveUserId(HttpServletRequest request) {
+        String accessToken = jwtUtil.getTokenFromRequest(request);
+        if (accessToken == null) {
+            return null;
+        }
+
+        try {
+            return jwtUtil.validateToken(accessToken) ? jwtUtil.getUserPk(accessToken) : null;
+        } catch (RuntimeException e) {
+            // 토큰 검증 실패는 JwtInterceptor 에서 처리한다. 여기서는 라우팅만 기본값으로 둔다.
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.elice.ustory.global.jwt;
+
+import com.elice.ustory.domain.user.entity.Users;
+import com.elice.ustory.domain.user.repository.UserRepository;
+import com.elice.ustory.global.exception.model.NotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+
+/**
+ * 요청 단위로 공유되는 인증 사용자
+ *
+ * 토큰에서 꺼낸 사용자 id 를 담고, Users 엔티티는 처음 필요할 때 한 번만 조회한다.
+ * 같은 요청 안에서는 JwtAuthorizationArgumentResolver 가 같은 인스턴스를 돌려주므로
+ * 여러 서비스가 사용자 엔티티를 필요로 해도 사용자 조회는 한 번만 일어난다.
+ */
+public class AuthenticatedUser {
+
+    private static final String REQUEST_ATTRIBUTE = AuthenticatedUser.class.getName();
+
+    private static final String NOT_FOUND_USER_MESSAGE = "%d: 해당하는 사용자가 존재하지 않습니다.";
+
+    @Getter
+    private final Long id;
+
+    private final UserRepository userRepository;
+    private Users user;
+
+    private AuthenticatedUser(Long id, UserRepository userRepository) {
+        this.id = id;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 요청에 이미 만들어 둔 인증 사용자가 있으면 재사용하고, 없으면 새로 만들어 요청에 보관한다.
+     */
+    public static AuthenticatedUser of(HttpServletRequest request, Long id, UserRepository userRepository) {
+        if (request.getAttribute(REQUEST_ATTRIBUTE) instanceof AuthenticatedUser authenticatedUser
+                && authenticatedUser.id.equals(id)) {
+            return authenticatedUser;
+        }
+
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser(id, userRepository);
+        request.setAttribute(REQUEST_ATTRIBUTE, authenticatedUser);
+        return authenticatedUser;
+    }
+
+    public Users getUser() {
+        if (user == null) {
+            user = userRepository.findById(id)
+                    .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_USER_MESSAGE, id)));
+        }
+        return user;
+    }
+}
@@ -0,0 +1,214 @@
+package com.elice.ustory.global.oauth;
+
+import com.elice.ustory.global.exception.model.InternalServerException;
+import com.elice.ustory.global.exception.model.UnauthorizedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 카카오, 네이버, 구글 OAuth 제공자 호출에 공용으로 사용하는 HTTP 클라이언트
+ *
+ * 하나의 HttpClient 를 재사용하여 커넥션 풀과 keep-alive 를 활용하고, 모든 호출은 CompletableFuture 로 반환한다.
+ * 성공 응답의 본문은 문자열로 모으지 않고 InputStream 에서 바로 JsonNode 로 파싱한다.
+ * 실패 응답은 게이트웨이의 HTML 처럼 JSON 이 아닐 수 있으므로 Content-Type 이 JSON 일 때만 파싱하고, 결과는 본문과 관계없이 상태 코드로 정한다.
+ * 가상 스레드 모드에서는 고정 크기 풀 대신 작업마다 가상 스레드를 사용한다.
+ */
+@Slf4j
+@Component
+public class OAuthHttpClient {
+
+    private static final String THREAD_NAME_PREFIX = "oauth-http-";
+    private static final String BEARER_TOKEN_PREFIX = "Bearer ";
+    private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded;charset=utf-8";
+
+    private static final String PROVIDER_UNAUTHORIZED_MESSAGE = "소셜 로그인 인증에 실패했습니다. (status: %d)";
+    private static final String PROVIDER_ERROR_MESSAGE = "소셜 로그인 제공자 응답에 실패했습니다. (status: %d)";
+    private static final String PROVIDER_IO_MESSAGE = "소셜 로그인 제공자와 통신 중 오류가 발생했습니다.";
+    private static final String INVALID_BODY_MESSAGE = "소셜 로그인 제공자의 응답 형식이 올바르지 않습니다.";
+    private static final String MISSING_ACCESS_TOKEN_MESSAGE = "소셜 로그인 제공자가 액세스 토큰을 반환하지 않았습니다.";
+
+    private static final String ACCESS_TOKEN = "access_token";
+    // 실패 응답 본문은 로그에만 남기므로 앞부분만 읽는다.
+    private static final int MAX_ERROR_BODY_BYTES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    public OAuthHttpClient(ObjectMapper objectMapper,
+                           @Value("${oauth.http.connect-timeout-millis:3000}") long connectTimeoutMillis,
+                           @Value("${oauth.http.request-timeout-millis:5000}") long requestTimeoutMillis,
+                           @Value("${oauth.http.worker-threads:8}") int workerThreads,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.objectMapper = objectMapper;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory())
+                : Executors.newFixedThreadPool(workerThreads, new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdown();
+    }
+
+    /** application/x-www-form-urlencoded 본문으로 POST 요청 */
+    public CompletableFuture<JsonNode> postForm(String uri, Map<String, String> form) {
+        HttpRequest request = baseRequest(uri)
+                .header(HttpHeaders.CONTENT_TYPE, FORM_CONTENT_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofString(encodeForm(form)))
+                .build();
+
+        return send(request);
+    }
+
+    /** Bearer 토큰을 포함한 본문 없는 POST 요청 */
+    public CompletableFuture<JsonNode> postWithBearer(String uri, String accessToken) {
+        HttpRequest request = baseRequest(uri)
+                .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN_PREFIX + accessToken)
+                .header(HttpHeaders.CONTENT_TYPE, FORM_CONTENT_TYPE)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        return send(request);
+    }
+
+    /** Bearer 토큰을 포함한 GET 요청 */
+    public CompletableFuture<JsonNode> getWithBearer(String uri, String accessToken) {
+        HttpRequest request = baseRequest(uri)
+                .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN_PREFIX + accessToken)
+                .GET()
+                .build();
+
+        return send(request);
+    }
+
+    /**
+     * 토큰 응답에서 access_token 을 꺼낸다. 없거나 비어 있으면 빈 문자열을 Bearer 토큰으로 쓰지 않도록 인증 실패로 처리한다.
+     */
+    public static String readAccessToken(JsonNode tokenResponse) {
+        if (!tokenResponse.hasNonNull(ACCESS_TOKEN) || tokenResponse.get(ACCESS_TOKEN).asText().isBlank()) {
+            throw new UnauthorizedException(MISSING_ACCESS_TOKEN_MESSAGE);
+        }
+        return tokenResponse.get(ACCESS_TOKEN).asText();
+    }
+
+    private HttpRequest.Builder baseRequest(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .timeout(requestTimeout)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private CompletableFuture<JsonNode> send(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(this::readBody)
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof RuntimeException runtimeException
+                            && !(cause instanceof UncheckedIOException)) {
+                        throw runtimeException;
+                    }
+                    log.warn("[OAuthHttpClient] {} {} 요청 실패", request.method(), request.uri(), cause);
+                    throw new InternalServerException(PROVIDER_IO_MESSAGE);
+                });
+    }
+
+    private JsonNode readBody(HttpResponse<InputStream> response) {
+        int status = response.statusCode();
+        String contentType = response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse(null);
+
+        try (InputStream body = response.body()) {
+            if (status >= 200 && status < 300) {
+                return readJson(response, contentType, body);
+            }
+
+            log.warn("[OAuthHttpClient] {} 응답 실패 status: {}, content-type: {}, body: {}",
+                    response.uri(), status, contentType, readErrorBody(contentType, body));
+            if (status == 400 || status == 401 || status == 403) {
+                throw new UnauthorizedException(String.format(PROVIDER_UNAUTHORIZED_MESSAGE, status));
+            }
+            throw new InternalServerException(String.format(PROVIDER_ERROR_MESSAGE, status));
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode readJson(HttpResponse<InputStream> response, String contentType, InputStream body) throws IOException {
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            log.warn("[OAuthHttpClient] {} 응답 본문이 JSON 이 아님 content-type: {}", response.uri(), contentType, e);
+            throw new InternalServerException(INVALID_BODY_MESSAGE);
+        }
+    }
+
+    /**
+     * 로그에 남길 실패 응답 본문. JSON 이면 파싱해서 남기고, 아니거나 파싱할 수 없으면 앞부분을 글자 그대로 남긴다.
+     */
+    private String readErrorBody(String contentType, InputStream body) throws IOException {
+        String text = new String(body.readNBytes(MAX_ERROR_BODY_BYTES), StandardCharsets.UTF_8);
+        if (!isJson(contentType)) {
+            return text;
+        }
+
+        try {
+            return objectMapper.readTree(text).toString();
+        } catch (JsonProcessingException e) {
+            return text;
+        }
+    }
+
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return MediaType.APPLICATION_JSON.isCompatibleWith(mediaType) || mediaType.getSubtype().endsWith("+json");
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private static String encodeForm(Map<String, String> form) {
+        StringJoiner joiner = new StringJoiner("&");
+        form.forEach((key, value) -> joiner.add(
+                URLEncoder.encode(key, StandardCharsets.UTF_8) + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.elice.ustory.global.oauth;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 소셜 로그인에서 제공자 응답을 받은 뒤의 회원가입, 로그인 처리(DB, Redis)를 실행하는 Executor
+ *
+ * OAuthHttpClient 의 응답 처리 스레드에서 DB 작업을 하면, DB 가 느릴 때 제공자 호출까지 함께 밀린다.
+ * 그래서 로그인 처리는 이 Executor 로 넘겨서 실행한다.
+ */
+@Component
+public class OAuthLoginExecutor implements Executor {
+
+    private static final String THREAD_NAME_PREFIX = "oauth-login-";
+
+    private final ExecutorService executor;
+
+    public OAuthLoginExecutor(@Value("${oauth.login.worker-threads:16}") int workerThreads,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory())
+                : Executors.newFixedThreadPool(workerThreads, new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+}
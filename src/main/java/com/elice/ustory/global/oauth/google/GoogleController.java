@@ -2,16 +2,17 @@ package com.elice.ustory.global.oauth.google;
 
 import com.elice.ustory.domain.user.dto.LoginResponse;
 import com.elice.ustory.domain.user.service.UserService;
-import jakarta.servlet.http.HttpServletResponse;
+import com.elice.ustory.global.oauth.OAuthLoginExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 @Slf4j
@@ -20,24 +21,25 @@ public class GoogleController {
     private final GoogleOauth googleOauth;
     private final GoogleService googleService;
     private final UserService userService;
+    private final OAuthLoginExecutor oAuthLoginExecutor;
 
     @RequestMapping(value = "/login/oauth2/code/google", method = {RequestMethod.GET, RequestMethod.POST})
-    public ResponseEntity<LoginResponse> googleLogin(@RequestParam(name = "code") String code,
-                                                               HttpServletResponse response) {
-        String accessToken = googleOauth.requestGoogleAccessToken(code);
-        HashMap<String, String> accountProfile = googleOauth.requestGoogleAccountProfile(accessToken);
-
-        String email = accountProfile.get("email");
-        String name = accountProfile.get("name");
-
-        if(!userService.checkExistByEmail(email)) {
-            googleService.googleSignUp(accountProfile);
-        }
-        //TODO: 이미 구글 이메일로 기본 회원가입을 했는데, 소셜로그인을 시도할 경우? -> "이미 가입된 이메일입니다. 다른 로그인 방식을 시도해보세요."
-
-        LoginResponse loginResponse = googleService.googleLogin(email, response, accessToken);
-
-        log.info("[googleLogin] 구글 닉네임: {}", name);
-        return ResponseEntity.ok().body(loginResponse);
+    public CompletableFuture<ResponseEntity<LoginResponse>> googleLogin(@RequestParam(name = "code") String code) {
+        return googleOauth.requestGoogleAccessToken(code)
+                .thenCompose(accessToken -> googleOauth.requestGoogleAccountProfile(accessToken)
+                        .thenApplyAsync(accountProfile -> {
+                            String email = accountProfile.get("email");
+                            String name = accountProfile.get("name");
+
+                            if(!userService.checkExistByEmail(email)) {
+                                googleService.googleSignUp(accountProfile);
+                            }
+                            //TODO: 이미 구글 이메일로 기본 회원가입을 했는데, 소셜로그인을 시도할 경우? -> "이미 가입된 이메일입니다. 다른 로그인 방식을 시도해보세요."
+
+                            LoginResponse loginResponse = googleService.googleLogin(email, accessToken);
+
+                            log.info("[googleLogin] 구글 닉네임: {}", name);
+                            return ResponseEntity.ok().header(HttpHeaders.AUTHORIZATION, loginResponse.getAccessToken()).body(loginResponse);
+                        }, oAuthLoginExecutor));
     }
 }
@@ -15,7 +15,6 @@ import com.elice.ustory.global.jwt.JwtTokenProvider;
 import com.elice.ustory.global.redis.google.GoogleTokenService;
 import com.elice.ustory.global.redis.refresh.RefreshTokenService;
 import com.elice.ustory.global.util.NicknameGenerator;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -30,7 +29,6 @@ import java.util.UUID;
 public class GoogleService {
     private final String EMAIL_LITERAL = "email";
     private final String NAME_LITERAL = "name";
-    private final String AUTHORIZATION_LITERAL = "Authorization";
     private final String NOT_FOUND_USER_MESSAGE = "해당 유저를 찾을 수 없습니다.";
 
     private final int REFRESH_TOKEN_TTL = 60 * 60 * 24 * 7;
@@ -78,7 +76,7 @@ public class GoogleService {
         diaryUserRepository.save(new DiaryUser(new DiaryUserId(userDiary, builtUser)));
     }
 
-    public LoginResponse googleLogin(String googleEmail, HttpServletResponse response, String googleToken) {
+    public LoginResponse googleLogin(String googleEmail, String googleToken) {
 
         Users loginUser = userRepository.findByEmail(googleEmail)
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_MESSAGE));
@@ -92,7 +90,6 @@ public class GoogleService {
                 .build();
 
         log.info("[getLoginResult] LogInResponse 객체에 값 주입");
-        response.addHeader(AUTHORIZATION_LITERAL, accessToken);
 
         refreshTokenService.saveTokenInfo(loginUser.getId(), refreshToken, accessToken, REFRESH_TOKEN_TTL);
         googleTokenService.saveGoogleTokenInfo(loginUser.getId(), googleToken, accessToken);
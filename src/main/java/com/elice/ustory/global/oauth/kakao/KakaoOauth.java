@@ -1,25 +1,24 @@
 package com.elice.ustory.global.oauth.kakao;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.elice.ustory.global.oauth.OAuthHttpClient;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
 @Getter
+@RequiredArgsConstructor
 public class KakaoOauth {
+    private final OAuthHttpClient oAuthHttpClient;
+
     @Value("${kakao.api_key}")
     private String kakaoApiKey;
 
@@ -38,129 +37,29 @@ public class KakaoOauth {
     @Value("${kakao.expireTokenUri}")
     private String expireKakaoTokenUri;
 
-    public String getKakaoAccessToken(String code) {
-        String kakaoAccessToken = "";
-
-        try{
-            URL url = new URL(kakaoTokenUri);
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-
-            conn.setRequestProperty("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-            conn.setDoOutput(true);
-
-            BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(conn.getOutputStream()));
-            StringBuilder sb = new StringBuilder();
-
-            sb.append("grant_type=authorization_code");
-            sb.append("&client_id=").append(kakaoApiKey);
-            sb.append("&redirect_uri=").append(kakaoLoginRedirectUri);
-            sb.append("&code=").append(code);
-
-            bw.write(sb.toString());
-            bw.flush();
+    public CompletableFuture<String> getKakaoAccessToken(String code) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("grant_type", "authorization_code");
+        form.put("client_id", kakaoApiKey);
+        form.put("redirect_uri", kakaoLoginRedirectUri);
+        form.put("code", code);
 
-            int responseCode = conn.getResponseCode();
-            log.info("[KakaoApi.getAccessToken] responseCode = {}", responseCode);
-
-            BufferedReader br;
-            if (responseCode >= 200 && responseCode <= 300) {
-                br = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-            } else {
-                br = new BufferedReader(new InputStreamReader(conn.getErrorStream()));
-            }
-
-            String line = "";
-            StringBuilder responseSb = new StringBuilder();
-            while((line = br.readLine()) != null){
-                responseSb.append(line);
-            }
-            String result = responseSb.toString();
-            log.info("responseBody = {}", result);
-
-            JsonElement element = JsonParser.parseString(result);
-            kakaoAccessToken = element.getAsJsonObject().get("access_token").getAsString();
-
-            br.close();
-            bw.close();
-
-        }catch (Exception e){
-            e.printStackTrace();
-        }
-        return kakaoAccessToken;
+        return oAuthHttpClient.postForm(kakaoTokenUri, form)
+                .thenApply(OAuthHttpClient::readAccessToken);
     }
 
-    public HashMap<String, Object> getUserInfoFromKakaoToken(String kakaoAccessToken) {
-        HashMap<String, Object> userInfo = new HashMap<>();
-        try{
-            URL url = new URL(userInfoUri);
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("POST");
-            conn.setRequestProperty("Authorization", "Bearer " + kakaoAccessToken);
-            conn.setRequestProperty("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-
-            int responseCode = conn.getResponseCode();
-            log.info("[KakaoApi.getUserInfo] responseCode : {}",  responseCode);
-
-            BufferedReader br;
-            if (responseCode >= 200 && responseCode <= 300) {
-                br = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-            } else {
-                br = new BufferedReader(new InputStreamReader(conn.getErrorStream()));
-            }
-
-            String line = "";
-            StringBuilder responseSb = new StringBuilder();
-            while((line = br.readLine()) != null){
-                responseSb.append(line);
-            }
-            String result = responseSb.toString();
-            log.info("responseBody = {}", result);
-
-            JsonElement element = JsonParser.parseString(result);
-
-            JsonObject properties = element.getAsJsonObject().get("properties").getAsJsonObject();
-            String id = element.getAsJsonObject().get("id").getAsString();
-            String nickname = properties.getAsJsonObject().get("nickname").getAsString();
-
-            userInfo.put("id", id);
-            userInfo.put("nickname", nickname);
-
-            br.close();
-
-        }catch (Exception e){
-            e.printStackTrace();
-        }
-        return userInfo;
+    public CompletableFuture<HashMap<String, Object>> getUserInfoFromKakaoToken(String kakaoAccessToken) {
+        return oAuthHttpClient.postWithBearer(userInfoUri, kakaoAccessToken)
+                .thenApply(response -> {
+                    HashMap<String, Object> userInfo = new HashMap<>();
+                    userInfo.put("id", response.path("id").asText());
+                    userInfo.put("nickname", response.path("properties").path("nickname").asText());
+                    return userInfo;
+                });
     }
 
-    public void expireKakaoToken(String kakaoAccessToken) {
-
-        try{
-            URL url = new URL(expireKakaoTokenUri);
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("POST");
-            conn.setRequestProperty("Authorization", "Bearer " + kakaoAccessToken);
-
-            int responseCode = conn.getResponseCode();
-            log.info("[KakaoApi.kakaoLogout] responseCode : {}",  responseCode);
-
-            BufferedReader br;
-            if (responseCode >= 200 && responseCode <= 300) {
-                br = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-            } else {
-                br = new BufferedReader(new InputStreamReader(conn.getErrorStream()));
-            }
-
-            String line = "";
-            StringBuilder responseSb = new StringBuilder();
-            while((line = br.readLine()) != null){
-                responseSb.append(line);
-            }
-            String result = responseSb.toString();
-            log.info("kakao logout - responseBody = {}", result);
-
-        }catch (Exception e){
-            e.printStackTrace();
-        }
+    public CompletableFuture<Void> expireKakaoToken(String kakaoAccessToken) {
+        return oAuthHttpClient.postWithBearer(expireKakaoTokenUri, kakaoAccessToken)
+                .thenAccept(response -> log.info("[KakaoApi.kakaoLogout] responseBody = {}", response));
     }
 }
@@ -16,7 +16,6 @@ import com.elice.ustory.global.jwt.JwtUtil;
 import com.elice.ustory.global.redis.kakao.KakaoTokenService;
 import com.elice.ustory.global.redis.refresh.RefreshTokenService;
 import com.elice.ustory.global.util.NicknameGenerator;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -67,7 +66,7 @@ public class KakaoService {
         diaryUserRepository.save(new DiaryUser(new DiaryUserId(userDiary,builtUser)));
     }
 
-    public LoginResponse kakaoLogin(String kakaoUserId, HttpServletResponse response, String kakaoToken){
+    public LoginResponse kakaoLogin(String kakaoUserId, String kakaoToken){
         Users loginUser = userRepository.findByEmail(kakaoUserId+"@ustory.com")
                 .orElseThrow(() -> new NotFoundException("해당 유저를 찾을 수 없습니다."));
 
@@ -80,7 +79,6 @@ public class KakaoService {
                 .build();
 
         log.info("[getLogInResult] LogInResponse 객체에 값 주입");
-        response.addHeader("Authorization", accessToken);
 
         refreshTokenService.saveTokenInfo(loginUser.getId(), refreshToken, accessToken, 60 * 60 * 24 * 7);
         kakaoTokenService.saveKakaoTokenInfo(loginUser.getId(), kakaoToken, accessToken);
@@ -91,7 +89,11 @@ public class KakaoService {
 
     public void kakaoLogout(String accessToken) {
         String kakaoToken = jwtUtil.getSocialToken(accessToken);
-        kakaoOauth.expireKakaoToken(kakaoToken);
+        kakaoOauth.expireKakaoToken(kakaoToken)
+                .exceptionally(ex -> {
+                    log.warn("[kakaoLogout] 카카오 토큰 만료 요청 실패", ex);
+                    return null;
+                });
         kakaoTokenService.removeKakaoTokenInfo(accessToken);
     }
 }
@@ -1,28 +1,25 @@
 package com.elice.ustory.global.oauth.naver;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.elice.ustory.global.oauth.OAuthHttpClient;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
-import java.util.Objects;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
 @Getter
+@RequiredArgsConstructor
 public class NaverOauth {
+    private final OAuthHttpClient oAuthHttpClient;
+
     @Value("${naver.clientId}")
     private String naverClientId;
 
@@ -41,49 +38,27 @@ public class NaverOauth {
     @Value("${naver.userInfo}")
     private String userInfoUri;
 
-    public String getNaverToken(String code, String state){
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        params.add("grant_type", "authorization_code");
-        params.add("client_id", naverClientId);
-        params.add("client_secret", naverSecretKey);
-        params.add("code", code);
-        params.add("state", state);
+    public CompletableFuture<String> getNaverToken(String code, String state){
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("grant_type", "authorization_code");
+        form.put("client_id", naverClientId);
+        form.put("client_secret", naverSecretKey);
+        form.put("code", code);
+        form.put("state", state);
 
-        HttpEntity<MultiValueMap<String, String>> naverTokenRequest = new HttpEntity<>(params, headers);
-        ResponseEntity<String> response = restTemplate.exchange(naverTokenUri, HttpMethod.POST, naverTokenRequest, String.class);
-
-        String responseBody = response.getBody();
-        JsonObject asJsonObject = null;
-        if(responseBody != null) asJsonObject = JsonParser.parseString(responseBody).getAsJsonObject();
-        return asJsonObject.get("access_token").getAsString();
+        return oAuthHttpClient.postForm(naverTokenUri, form)
+                .thenApply(OAuthHttpClient::readAccessToken);
     }
 
-    public HashMap<String, Object> getUserInfoFromNaverToken(String accessToken){
-        HashMap<String, Object> userInfo = new HashMap<>();
-
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", "Bearer " + accessToken);
-
-        HttpEntity<MultiValueMap<String, String>> naverUserInfoRequest = new HttpEntity<>(headers);
-
-        ResponseEntity<String> response = restTemplate.exchange(userInfoUri, HttpMethod.POST, naverUserInfoRequest, String.class);
-        log.info("response = {}", response);
-        String responseBody = response.getBody();
-        if(responseBody != null){
-            responseBody = new String(responseBody.getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8);
-        }
-        JsonElement element = JsonParser.parseString(Objects.requireNonNull(responseBody));
-
-        String nickname = element.getAsJsonObject().get("response").getAsJsonObject().get("nickname").getAsString();
-        String email = element.getAsJsonObject().get("response").getAsJsonObject().get("email").getAsString();
-
-        userInfo.put("nickname", nickname);
-        userInfo.put("email", email);
+    public CompletableFuture<HashMap<String, Object>> getUserInfoFromNaverToken(String accessToken){
+        return oAuthHttpClient.postWithBearer(userInfoUri, accessToken)
+                .thenApply(response -> {
+                    JsonNode profile = response.path("response");
 
-        return userInfo;
+                    HashMap<String, Object> userInfo = new HashMap<>();
+                    userInfo.put("nickname", profile.path("nickname").asText());
+                    userInfo.put("email", profile.path("email").asText());
+                    return userInfo;
+                });
     }
 }
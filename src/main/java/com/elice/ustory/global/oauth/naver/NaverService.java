@@ -15,7 +15,6 @@ import com.elice.ustory.global.jwt.JwtTokenProvider;
 import com.elice.ustory.global.redis.naver.NaverTokenService;
 import com.elice.ustory.global.redis.refresh.RefreshTokenService;
 import com.elice.ustory.global.util.NicknameGenerator;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -64,7 +63,7 @@ public class NaverService {
         diaryUserRepository.save(new DiaryUser(new DiaryUserId(userDiary,builtUser)));
     }
 
-    public LoginResponse naverLogin(String naverEmail, HttpServletResponse response, String naverToken){
+    public LoginResponse naverLogin(String naverEmail, String naverToken){
         Users loginUser = userRepository.findByEmail(naverEmail)
                 .orElseThrow(() -> new NotFoundException("해당 유저를 찾을 수 없습니다."));
 
@@ -77,7 +76,6 @@ public class NaverService {
                 .build();
 
         log.info("[getLogInResult] LogInResponse 객체에 값 주입");
-        response.addHeader("Authorization", accessToken);
 
         refreshTokenService.saveTokenInfo(loginUser.getId(), refreshToken, accessToken, 60 * 60 * 24 * 7);
         naverTokenService.saveNaverTokenInfo(loginUser.getId(), naverToken, accessToken);
@@ -8,8 +8,10 @@ import org.springframework.data.redis.core.RedisHash;
 
 @Getter
 @NoArgsConstructor
-@RedisHash(value = "authCodeForChangePwd", timeToLive = 60*3L) // 인증코드 유효시간은 3분
+@RedisHash(value = "authCodeForChangePwd", timeToLive = AuthCodeForChangePwd.TIME_TO_LIVE_SECONDS)
 public class AuthCodeForChangePwd {
+    public static final long TIME_TO_LIVE_SECONDS = 60 * 3L; // 인증코드 유효시간은 3분
+
     @Id
     private String id; // 수신자의 이메일(toEmail)을 받음
 
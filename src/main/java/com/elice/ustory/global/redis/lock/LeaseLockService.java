@@ -0,0 +1,67 @@
+package com.elice.ustory.global.redis.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스 사이의 임대(lease) 잠금
+ *
+ * SET NX PX 로 잠금을 잡고, 잡은 쪽만 아는 토큰을 값으로 저장한다.
+ * 연장과 해제는 토큰이 같을 때만 실행하므로, 임대가 만료되어 다른 인스턴스가 잡은 잠금을 건드리지 않는다.
+ * 잠금을 잡은 인스턴스가 죽으면 TTL 이 지난 뒤 자동으로 풀린다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaseLockService {
+
+    // KEYS: 잠금 / ARGV: 토큰, TTL(ms)
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS: 잠금 / ARGV: 토큰
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 잠금을 ttl 동안 잡는다. 이미 다른 곳에서 잡고 있으면 빈 값을 반환한다.
+     *
+     * @return 연장과 해제에 사용할 토큰
+     */
+    public Optional<String> tryAcquire(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    /**
+     * 아직 잠금을 잡고 있다면 남은 시간을 ttl 로 바꾼다.
+     *
+     * @return 잠금을 잃었으면 false
+     */
+    public boolean renew(String key, String token, Duration ttl) {
+        Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1;
+    }
+
+    public void release(String key, String token) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+    }
+}
@@ -0,0 +1,160 @@
+package com.elice.ustory.global.redis.recommend;
+
+import com.elice.ustory.domain.recommand.dto.RecommendCardDTO;
+import com.elice.ustory.global.util.TimeUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 Paper 카드(RecommendCard:{paperId}) 저장소
+ *
+ * 카드는 추천 목록({RecommendPaper}:current)과 같이 자정까지 유지한다.
+ * 수정과 좋아요 변경은 카드가 이미 있을 때만 반영해서, 추천에서 빠진 Paper 의 카드를 새로 만들지 않는다.
+ * 삭제된 Paper 의 카드는 deleted 필드만 남긴다.
+ * 카드를 새로 채울 때(조회 중 다시 채우기, 추천 재계산)는 deleted 카드를 덮어쓰지 않는다.
+ * MySQL 에서 읽은 뒤 저장하기 전에 Paper 가 삭제되어도, 삭제 표시가 옛 카드로 되살아나지 않게 하기 위해서다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecommendCardRedisService {
+
+    private static final String KEY_PREFIX = "RecommendCard:";
+
+    // KEYS: 카드 / ARGV: 필드, 값, 필드, 값, ...
+    private static final RedisScript<Long> PATCH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 or redis.call('HEXISTS', KEYS[1], 'deleted') == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], unpack(ARGV))
+            return 1
+            """, Long.class);
+
+    // KEYS: 카드 / ARGV: 필드, 증가량
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 or redis.call('HEXISTS', KEYS[1], 'deleted') == 1 then
+                return 0
+            end
+            redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS: 카드 / ARGV: TTL(초), 필드, 값, 필드, 값, ...
+    // 이전 카드의 필드가 남지 않도록 지우고 다시 저장한다. 삭제된 카드는 그대로 둔다.
+    private static final byte[] REPLACE_SCRIPT = """
+            if redis.call('HEXISTS', KEYS[1], 'deleted') == 1 then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    // KEYS: 카드 / ARGV: TTL(초)
+    private static final RedisScript<Long> MARK_DELETED_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'deleted', '1')
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 카드들을 한 번의 파이프라인으로 저장한다. 카드마다 스크립트 하나로 원자적으로 바꾸며, 삭제된 카드는 덮어쓰지 않는다.
+     * 카드 키가 여러 슬롯에 흩어지므로 스크립트 하나로 묶지 않고 카드별로 실행한다.
+     */
+    public void saveAll(Collection<RecommendCardDTO> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+
+        byte[] ttl = String.valueOf(TimeUtils.getSecondsUntilMidnight()).getBytes(StandardCharsets.UTF_8);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (RecommendCardDTO card : cards) {
+                Map<String, String> hash = card.toHash();
+                byte[][] keysAndArgs = new byte[2 + hash.size() * 2][];
+                keysAndArgs[0] = key(card.getPaperId()).getBytes(StandardCharsets.UTF_8);
+                keysAndArgs[1] = ttl;
+                int index = 2;
+                for (Map.Entry<String, String> field : hash.entrySet()) {
+                    keysAndArgs[index++] = field.getKey().getBytes(StandardCharsets.UTF_8);
+                    keysAndArgs[index++] = field.getValue().getBytes(StandardCharsets.UTF_8);
+                }
+                connection.scriptingCommands().eval(REPLACE_SCRIPT, ReturnType.INTEGER, 1, keysAndArgs);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * paperIds 의 카드를 한 번의 파이프라인으로 불러온다. 저장되지 않은 카드는 결과에 포함되지 않고, 삭제된 Paper 의 카드는 포함된다.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, RecommendCardDTO> getAll(List<Long> paperIds) {
+        if (paperIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> hashes = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                for (Long paperId : paperIds) {
+                    stringOperations.opsForHash().entries(key(paperId));
+                }
+                return null;
+            }
+        });
+
+        Map<Long, RecommendCardDTO> cards = new HashMap<>();
+        for (int i = 0; i < paperIds.size(); i++) {
+            RecommendCardDTO card = RecommendCardDTO.fromHash(paperIds.get(i), (Map<String, String>) hashes.get(i));
+            if (card != null) {
+                cards.put(card.getPaperId(), card);
+            }
+        }
+        return cards;
+    }
+
+    /** 저장된 카드가 있으면 fields 를 덮어쓴다. */
+    public void patch(Long paperId, Map<String, String> fields) {
+        List<String> args = new ArrayList<>(fields.size() * 2);
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        stringRedisTemplate.execute(PATCH_SCRIPT, List.of(key(paperId)), args.toArray());
+    }
+
+    /** 저장된 카드가 있으면 좋아요 수에 delta 를 더한다. */
+    public void incrementGreatCount(Long paperId, int delta) {
+        stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(key(paperId)),
+                RecommendCardDTO.GREAT_COUNT, String.valueOf(delta));
+    }
+
+    /** 삭제된 Paper 의 카드로 바꾼다. 카드가 없어도 남겨서, 이후 다시 채우기가 옛 카드를 저장하지 못하게 한다. */
+    public void markDeleted(Long paperId) {
+        stringRedisTemplate.execute(MARK_DELETED_SCRIPT, List.of(key(paperId)),
+                String.valueOf(TimeUtils.getSecondsUntilMidnight()));
+    }
+
+    private static String key(Long paperId) {
+        return KEY_PREFIX + paperId;
+    }
+}
@@ -1,54 +1,147 @@
 package com.elice.ustory.global.redis.recommend;
 
 import com.elice.ustory.domain.recommand.dto.RecommendRedisDTO;
-import com.elice.ustory.global.exception.model.InternalServerException;
 import com.elice.ustory.global.util.TimeUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.UUID;
 
+/**
+ * 추천 장소 목록을 Redis 해시 하나에 순위(1 부터)를 필드로 저장한다.
+ *
+ * 다시 만드는 동안에는 실행마다 새 staging 해시에 쓰고, 다 쓴 뒤 publish 에서 RENAME 한 번으로 현재 목록과 바꾼다.
+ * 그래서 조회하는 쪽은 이전 목록이나 새 목록 중 하나만 보고, 두 목록이 섞인 상태나 일부만 저장된 상태를 보지 않는다.
+ * 모든 키는 같은 해시 태그({RecommendPaper})를 써서 클러스터에서도 한 슬롯에 모인다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RecommendRedisService {
 
     private final RedisTemplate<String, RecommendRedisDTO> redisTemplate;
-    private final RedisTemplate<String, Long> longRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
 
-    private static final String KEY_PREFIX = "RecommendPaper";
-    private static final String COUNTER_KEY = "RecommendPaperCounter";
+    /** 응답에 내려주는 추천 키의 접두사. 뒤에 순위가 붙는다. */
+    public static final String KEY_PREFIX = "RecommendPaper";
 
-    public void saveData(RecommendRedisDTO value) {
-        Long counter = redisTemplate.opsForValue().increment(COUNTER_KEY);
-        String key = KEY_PREFIX + counter;
+    private static final String CURRENT_KEY = "{RecommendPaper}:current";
+    private static final String RETIRED_KEY = "{RecommendPaper}:retired";
+    private static final String STAGING_KEY_PREFIX = "{RecommendPaper}:staging:";
 
-        long secondsUntilMidnight = TimeUtils.getSecondsUntilMidnight();
+    // 다시 만들다 죽은 인스턴스의 staging 해시가 남지 않도록 저장할 때마다 다시 거는 TTL
+    private static final Duration STAGING_TTL = Duration.ofHours(1);
 
-        redisTemplate.opsForValue().set(key, value, secondsUntilMidnight, TimeUnit.SECONDS);
+    // KEYS: staging, 현재 목록, 교체된 목록 / ARGV: 현재 목록 TTL(초)
+    // 현재 목록을 먼저 교체된 목록으로 옮긴 뒤 UNLINK 해서, 큰 해시를 덮어쓸 때의 동기 삭제를 피한다.
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('RENAME', KEYS[2], KEYS[3])
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('UNLINK', KEYS[3])
+            return 1
+            """, Long.class);
 
+    /** 이번 실행에서만 쓰는 staging 해시 키. 잠금을 잃은 이전 실행이 늦게 쓰더라도 섞이지 않는다. */
+    public String newStagingKey() {
+        return STAGING_KEY_PREFIX + UUID.randomUUID();
     }
 
-    public RecommendRedisDTO getData(String key) {
-        ValueOperations<String, RecommendRedisDTO> valueOps = redisTemplate.opsForValue();
-        return valueOps.get(key);
+    /**
+     * values 를 staging 해시의 firstIndex, firstIndex + 1, ... 필드에 한 번의 파이프라인으로 저장한다.
+     */
+    public void saveAll(String stagingKey, int firstIndex, List<RecommendRedisDTO> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        Map<String, RecommendRedisDTO> fields = new HashMap<>(values.size() * 2);
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(String.valueOf(firstIndex + i), values.get(i));
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, RecommendRedisDTO> redisOperations = (RedisOperations<String, RecommendRedisDTO>) operations;
+                redisOperations.opsForHash().putAll(stagingKey, fields);
+                redisOperations.expire(stagingKey, STAGING_TTL);
+                return null;
+            }
+        });
     }
 
-    public void deleteKeysWithPattern(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern);
+    /**
+     * staging 해시를 현재 추천 목록으로 바꾼다. (생명주기는 자정까지)
+     *
+     * @return staging 해시가 없어서(만료 등) 바꾸지 못했으면 false
+     */
+    public boolean publish(String stagingKey) {
+        Long published = stringRedisTemplate.execute(PUBLISH_SCRIPT, List.of(stagingKey, CURRENT_KEY, RETIRED_KEY),
+                String.valueOf(TimeUtils.getSecondsUntilMidnight()));
+        return published != null && published == 1;
+    }
 
-        if (keys == null || keys.isEmpty()) {
-            return;
+    /** 실패한 실행의 staging 해시를 지운다. */
+    public void discard(String stagingKey) {
+        stringRedisTemplate.unlink(stagingKey);
+    }
+
+    /**
+     * RecommendPaper{순위} 형식의 키로 추천을 불러온다. 형식이 맞지 않으면 null
+     */
+    public RecommendRedisDTO getData(String key) {
+        if (key == null || !key.startsWith(KEY_PREFIX)) {
+            return null;
         }
 
-        redisTemplate.delete(keys);
+        String rank = key.substring(KEY_PREFIX.length());
+        if (rank.isEmpty() || !rank.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
 
-        longRedisTemplate.opsForValue().set(COUNTER_KEY, 0L);
+        HashOperations<String, String, RecommendRedisDTO> hashOps = redisTemplate.opsForHash();
+        return hashOps.get(CURRENT_KEY, rank);
     }
 
+    /**
+     * startIndex 순위부터 size 개를 HMGET 한 번으로 불러온다. 저장되지 않은 순위가 나오면 그 앞까지만 반환한다.
+     */
+    public List<RecommendRedisDTO> getRange(int startIndex, int size) {
+        List<String> fields = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            fields.add(String.valueOf(startIndex + i));
+        }
+
+        HashOperations<String, String, RecommendRedisDTO> hashOps = redisTemplate.opsForHash();
+        List<RecommendRedisDTO> values = hashOps.multiGet(CURRENT_KEY, fields);
+
+        List<RecommendRedisDTO> recommends = new ArrayList<>(values.size());
+        for (RecommendRedisDTO value : values) {
+            if (value == null) {
+                break;
+            }
+            recommends.add(value);
+        }
+        return recommends;
+    }
 }
@@ -1,6 +1,8 @@
 package com.elice.ustory.global.resolver;
 
+import com.elice.ustory.domain.user.repository.UserRepository;
 import com.elice.ustory.global.exception.model.InvalidTokenException;
+import com.elice.ustory.global.jwt.AuthenticatedUser;
 import com.elice.ustory.global.jwt.JwtAuthorization;
 import com.elice.ustory.global.jwt.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +20,7 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @RequiredArgsConstructor
 public class JwtAuthorizationArgumentResolver implements HandlerMethodArgumentResolver {
     private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
@@ -32,6 +35,15 @@ public class JwtAuthorizationArgumentResolver implements HandlerMethodArgumentRe
         HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
 
 
+        Long userId = resolveUserId(parameter, request);
+
+        if (AuthenticatedUser.class.isAssignableFrom(parameter.getParameterType())) {
+            return AuthenticatedUser.of(request, userId, userRepository);
+        }
+        return userId;
+    }
+
+    private Long resolveUserId(MethodParameter parameter, HttpServletRequest request) {
         String accessToken = jwtUtil.getTokenFromRequest(request);
         if (accessToken != null) {
             if (jwtUtil.validateToken(accessToken)) {
@@ -0,0 +1,67 @@
+package com.elice.ustory.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 저장된 이미지 원본을 읽는 저장소
+ *
+ * 운영에서는 S3, 로컬 개발/테스트에서는 파일 시스템 구현을 ustory.storage.type 으로 고른다.
+ */
+public interface ImageStorage {
+
+    /**
+     * imageUrl 이 가리키는 원본을 연다. 원본이 없으면 빈 값을 반환하며, 받은 스트림은 호출한 쪽에서 닫는다.
+     */
+    Optional<InputStream> open(String imageUrl) throws IOException;
+
+    /**
+     * 이미지 URL 의 경로 부분(앞의 '/' 제외)을 저장소 키로 쓴다. 경로가 없으면 빈 값을 반환한다.
+     */
+    static Optional<String> keyOf(String imageUrl) {
+        try {
+            String path = URI.create(imageUrl).getPath();
+            if (path == null || path.length() <= 1) {
+                return Optional.empty();
+            }
+            return Optional.of(path.substring(1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 이미지 URL 의 출처(scheme://host[:port])가 allowedOrigins 중 하나일 때만 경로를 저장소 키로 쓴다.
+     * 이미지 URL 은 클라이언트가 보내므로, 다른 호스트의 URL 경로로 버킷의 임의 객체를 읽지 못하게 한다.
+     */
+    static Optional<String> keyOf(String imageUrl, Set<String> allowedOrigins) {
+        try {
+            URI uri = URI.create(imageUrl);
+            if (uri.getScheme() == null || uri.getHost() == null || uri.getRawUserInfo() != null) {
+                return Optional.empty();
+            }
+            if (!allowedOrigins.contains(originOf(uri.getScheme(), uri.getHost(), uri.getPort()))) {
+                return Optional.empty();
+            }
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        return keyOf(imageUrl);
+    }
+
+    /**
+     * 비교에 쓰는 출처 문자열. 소문자로 맞추고 기본 포트는 뺀다.
+     */
+    static String originOf(String scheme, String host, int port) {
+        String normalizedScheme = scheme.toLowerCase(Locale.ROOT);
+        boolean defaultPort = port == -1
+                || (port == 443 && normalizedScheme.equals("https"))
+                || (port == 80 && normalizedScheme.equals("http"));
+        String origin = normalizedScheme + "://" + host.toLowerCase(Locale.ROOT);
+        return defaultPort ? origin : origin + ":" + port;
+    }
+}
@@ -0,0 +1,42 @@
+package com.elice.ustory.global.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 로컬 파일 시스템에서 이미지 원본을 읽는 S3 대용 저장소
+ *
+ * 이미지 URL 의 경로를 ustory.storage.local-root 아래의 상대 경로로 본다. 루트 밖을 가리키는 경로는 없는 것으로 취급한다.
+ */
+@Component
+@ConditionalOnProperty(name = "ustory.storage.type", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    private final Path root;
+
+    public LocalImageStorage(@Value("${ustory.storage.local-root:./storage}") String root) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public Optional<InputStream> open(String imageUrl) throws IOException {
+        Optional<String> key = ImageStorage.keyOf(imageUrl);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Path file = root.resolve(key.get()).normalize();
+        if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Files.newInputStream(file));
+    }
+}
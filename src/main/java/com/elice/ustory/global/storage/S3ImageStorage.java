@@ -0,0 +1,76 @@
+package com.elice.ustory.global.storage;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * S3 버킷에서 이미지 원본을 읽는다. 이미지 URL 의 경로가 곧 객체 키이다.
+ *
+ * 버킷 주소(https://{버킷}.s3.{리전}.amazonaws.com, https://{버킷}.s3.amazonaws.com)와
+ * ustory.storage.cdn-origins 에 지정한 출처의 URL 만 연다. 다른 호스트의 URL 은 없는 이미지로 취급한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ustory.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ImageStorage implements ImageStorage {
+
+    private static final int NOT_FOUND = 404;
+
+    private static final String BUCKET_ORIGIN_FORMAT = "https://%s.s3.%s.amazonaws.com";
+    private static final String GLOBAL_BUCKET_ORIGIN_FORMAT = "https://%s.s3.amazonaws.com";
+
+    private final AmazonS3 amazonS3;
+    private final String bucket;
+    private final Set<String> allowedOrigins;
+
+    public S3ImageStorage(AmazonS3 amazonS3,
+                          @Value("${cloud.s3.bucket}") String bucket,
+                          @Value("${cloud.aws.region}") String region,
+                          @Value("${ustory.storage.cdn-origins:}") List<String> cdnOrigins) {
+        this.amazonS3 = amazonS3;
+        this.bucket = bucket;
+
+        Set<String> origins = new HashSet<>();
+        origins.add(String.format(BUCKET_ORIGIN_FORMAT, bucket, region).toLowerCase(Locale.ROOT));
+        origins.add(String.format(GLOBAL_BUCKET_ORIGIN_FORMAT, bucket).toLowerCase(Locale.ROOT));
+        for (String cdnOrigin : cdnOrigins) {
+            if (cdnOrigin.isBlank()) {
+                continue;
+            }
+            URI uri = URI.create(cdnOrigin.trim());
+            origins.add(ImageStorage.originOf(uri.getScheme(), uri.getHost(), uri.getPort()));
+        }
+        this.allowedOrigins = Set.copyOf(origins);
+    }
+
+    @Override
+    public Optional<InputStream> open(String imageUrl) {
+        Optional<String> key = ImageStorage.keyOf(imageUrl, allowedOrigins);
+        if (key.isEmpty()) {
+            log.warn("[S3ImageStorage] 버킷 주소가 아니거나 경로가 없는 이미지 URL 은 열지 않음 url: {}", imageUrl);
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(amazonS3.getObject(bucket, key.get()).getObjectContent());
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == NOT_FOUND) {
+                log.warn("[S3ImageStorage] 이미지 원본 없음 key: {}", key.get());
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+}
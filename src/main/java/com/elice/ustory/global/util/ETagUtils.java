@@ -0,0 +1,30 @@
+package com.elice.ustory.global.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 조건부 GET(If-None-Match) 응답에 쓰는 ETag 생성
+ *
+ * 응답 본문을 결정하는 값(수정 시각, 멤버 구성, 북마크 여부 등)을 이어 붙여 해시한 강한(strong) ETag 를 만든다.
+ * 사용자마다 응답이 다르므로 공유 캐시에는 저장하지 않고, 클라이언트는 매번 재검증하도록 한다.
+ */
+public class ETagUtils {
+
+    public static final CacheControl PRIVATE_REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private static final char SEPARATOR = '|';
+
+    private ETagUtils() {
+    }
+
+    public static String strongETag(Object... parts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : parts) {
+            source.append(part).append(SEPARATOR);
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,178 @@
+package com.elice.ustory.global.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 위치 검색용 Geohash 인코딩과 거리 계산
+ *
+ * Geohash 는 위도/경도를 번갈아 이등분한 비트를 base32 로 적은 문자열로, 앞부분이 같으면 같은 셀 안에 있다.
+ * 주변 검색은 반경을 감싸는 사각형에 걸친 셀들을 접두어 범위로 조회한 뒤 haversine 거리로 걸러낸다.
+ */
+public class GeoHashUtils {
+
+    /** Address 에 저장하는 정밀도 (약 4.8m x 4.8m) */
+    public static final int STORED_PRECISION = 9;
+
+    /** 주변 검색 한 번에 조회하는 셀 수의 상한. 셀마다 접두어 범위 조건이 하나씩 붙는다. */
+    public static final int MAX_COVERING_CELLS = 32;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+    private GeoHashUtils() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLng = mid;
+                } else {
+                    index = index << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index = index << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(index));
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * (latitude, longitude) 에서 반경 radiusMeters 의 원을 감싸는 사각형에 걸친 셀들을 반환한다.
+     * 셀 수가 MAX_COVERING_CELLS 이하가 되는 가장 높은 정밀도를 골라, 반경보다 지나치게 넓은 범위를 읽지 않도록 한다.
+     * (예: 위도 37도에서 1km 는 정밀도 6 셀 12개, 약 2.4km x 2.9km 를 읽는다.)
+     */
+    public static List<String> coveringCells(double latitude, double longitude, double radiusMeters) {
+        double minLat = Math.max(-90, latitude - latitudeDelta(radiusMeters));
+        double maxLat = Math.min(90, latitude + latitudeDelta(radiusMeters));
+        double lngDelta = longitudeDelta(latitude, radiusMeters);
+
+        for (int precision = STORED_PRECISION; precision > 1; precision--) {
+            List<String> cells = cellsInBox(minLat, maxLat, longitude - lngDelta, longitude + lngDelta, precision);
+            if (cells != null) {
+                return cells;
+            }
+        }
+        return cellsInBox(minLat, maxLat, longitude - lngDelta, longitude + lngDelta, 1);
+    }
+
+    /**
+     * (latitude, longitude) 가 속한 precision 정밀도의 셀을 제외한 주변 8개 셀을 반환한다.
+     */
+    public static List<String> neighborCells(double latitude, double longitude, int precision) {
+        String own = encode(latitude, longitude, precision);
+        double latSpan = latitudeSpan(precision);
+        double lngSpan = longitudeSpan(precision);
+
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            double lat = latitude + dLat * latSpan;
+            if (lat > 90 || lat < -90) {
+                continue;
+            }
+            for (int dLng = -1; dLng <= 1; dLng++) {
+                cells.add(encode(lat, normalizeLongitude(longitude + dLng * lngSpan), precision));
+            }
+        }
+        cells.remove(own);
+        return new ArrayList<>(cells);
+    }
+
+    /** 두 지점 사이의 대원 거리(m) */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /** 반경 radiusMeters 의 원을 감싸는 위도 폭(도) */
+    public static double latitudeDelta(double radiusMeters) {
+        return radiusMeters / METERS_PER_DEGREE;
+    }
+
+    /** 위도 latitude 에서 반경 radiusMeters 의 원을 감싸는 경도 폭(도) */
+    public static double longitudeDelta(double latitude, double radiusMeters) {
+        double cos = Math.cos(Math.toRadians(latitude));
+        if (cos < 1e-6) {
+            return 180;
+        }
+        return Math.min(180, radiusMeters / (METERS_PER_DEGREE * cos));
+    }
+
+    /**
+     * precision 정밀도의 셀 격자에서 사각형에 걸친 셀들을 반환한다. MAX_COVERING_CELLS 를 넘으면 null 을 반환한다.
+     * (정밀도 1 은 셀 수와 관계없이 반환한다.)
+     */
+    private static List<String> cellsInBox(double minLat, double maxLat, double minLng, double maxLng, int precision) {
+        double latSpan = latitudeSpan(precision);
+        double lngSpan = longitudeSpan(precision);
+
+        long firstRow = (long) Math.floor((minLat + 90) / latSpan);
+        long lastRow = Math.min((long) Math.floor((maxLat + 90) / latSpan), Math.round(180 / latSpan) - 1);
+        long firstColumn = (long) Math.floor((minLng + 180) / lngSpan);
+        long lastColumn = (long) Math.floor((maxLng + 180) / lngSpan);
+        long columnCount = Math.min(lastColumn - firstColumn + 1, Math.round(360 / lngSpan));
+
+        if (precision > 1 && (lastRow - firstRow + 1) * columnCount > MAX_COVERING_CELLS) {
+            return null;
+        }
+
+        Set<String> cells = new LinkedHashSet<>();
+        for (long row = firstRow; row <= lastRow; row++) {
+            double lat = (row + 0.5) * latSpan - 90;
+            for (long column = firstColumn; column < firstColumn + columnCount; column++) {
+                cells.add(encode(lat, normalizeLongitude((column + 0.5) * lngSpan - 180), precision));
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    private static double latitudeSpan(int precision) {
+        return 180 / Math.pow(2, (5 * precision) / 2);
+    }
+
+    private static double longitudeSpan(int precision) {
+        return 360 / Math.pow(2, (5 * precision + 1) / 2);
+    }
+
+    private static double normalizeLongitude(double longitude) {
+        if (longitude >= 180) {
+            return longitude - 360;
+        }
+        if (longitude < -180) {
+            return longitude + 360;
+        }
+        return longitude;
+    }
+}
@@ -11,6 +11,7 @@ public class NoticeUtils {
     public static final String COMMENT_REQUEST_MESSAGE = "당신의 코멘트가 필요해요!";
     public static final String FRIEND_ACCEPT_MESSAGE = "%s님이 친구를 수락하였습니다.";
     public static final String PAPER_OPEN_MESSAGE = "페이퍼 오픈!";
+    public static final String PAPER_IMPORT_MESSAGE = "%s님이 페이퍼 %d개를 가져왔어요!";
 
     /**
      * 메시지 생성 메서드
@@ -32,5 +33,9 @@ public class NoticeUtils {
         return String.format(FRIEND_ACCEPT_MESSAGE, nickname);
     }
 
+    public static String generateImportMessage(String nickname, int paperCount) {
+        return String.format(PAPER_IMPORT_MESSAGE, nickname, paperCount);
+    }
+
 
 }
@@ -0,0 +1,63 @@
+package com.elice.ustory.global.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * 엔티티 생성/수정 시 반복 호출되는 검증 로직 모음
+ *
+ * 정규식은 클래스 로딩 시 한 번만 컴파일하고, URL 확장자와 소수점 자릿수 검사는 문자열이나 Stream 을 만들지 않는다.
+ */
+public class ValidationUtils {
+
+    public static final Pattern PAPER_TITLE_PATTERN =
+            Pattern.compile("^[가-힣a-zA-Z0-9\\s!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?~`\\u3131-\\u3163]+$");
+    public static final Pattern SINGLE_LINE_PATTERN = Pattern.compile("^.+$");
+
+    private static final String HTTPS_PREFIX = "https://";
+    private static final String[] IMAGE_SUFFIXES = {".jpg", ".jpeg", ".png", ".gif"};
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18
+    };
+
+    private ValidationUtils() {
+    }
+
+    public static boolean matches(Pattern pattern, String target) {
+        return pattern.matcher(target).matches();
+    }
+
+    public static boolean isHttps(String url) {
+        return url.startsWith(HTTPS_PREFIX);
+    }
+
+    public static boolean hasImageSuffix(String url) {
+        for (String suffix : IMAGE_SUFFIXES) {
+            if (url.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * value 를 Double.toString 으로 표현했을 때 소수점 아래 자릿수가 maxDecimalPlaces 이하인지 확인한다.
+     *
+     * value 와 가장 가까운 소수점 maxDecimalPlaces 자리의 수가 value 의 반올림 범위(ulp/2) 안에 있으면,
+     * 가장 짧은 10진 표현도 그 자릿수 안에 들어간다. 곱셈 오차는 fma 로 구한 나머지로 보정한다.
+     */
+    public static boolean hasAtMostDecimalPlaces(double value, int maxDecimalPlaces) {
+        if (!Double.isFinite(value)) {
+            return false;
+        }
+
+        double scale = POWERS_OF_TEN[maxDecimalPlaces];
+        double scaled = value * scale;
+        double error = Math.fma(value, scale, -scaled);
+
+        double distance = (scaled - Math.rint(scaled)) + error;
+        distance -= Math.rint(distance);
+
+        return Math.abs(distance) <= Math.ulp(value) * scale / 2;
+    }
+}
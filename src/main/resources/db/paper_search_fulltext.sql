@@ -0,0 +1,25 @@
+-- Paper 검색(PaperSearchService)에 쓰는 FULLTEXT(ngram) 인덱스
+--
+-- 큰 테이블의 ALTER TABLE 은 오래 걸리고 잠금을 잡으므로 애플리케이션 기동 시 만들지 않고, 배포 전에 한 번 실행한다.
+-- 이미 있는 인덱스는 건너뛰므로 여러 번 실행해도 된다.
+
+DROP PROCEDURE IF EXISTS add_fulltext_index;
+
+DELIMITER //
+CREATE PROCEDURE add_fulltext_index(IN p_table VARCHAR(64), IN p_index VARCHAR(64), IN p_columns VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = p_table AND index_name = p_index) THEN
+        SET @ddl = CONCAT('ALTER TABLE ', p_table, ' ADD FULLTEXT INDEX ', p_index, ' (', p_columns, ') WITH PARSER ngram');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+DELIMITER ;
+
+CALL add_fulltext_index('paper', 'FTX_PAPER_TITLE', 'title');
+CALL add_fulltext_index('address', 'FTX_ADDRESS_STORE_CITY', 'store, city');
+CALL add_fulltext_index('comment', 'FTX_COMMENT_CONTENT', 'content');
+
+DROP PROCEDURE add_fulltext_index;
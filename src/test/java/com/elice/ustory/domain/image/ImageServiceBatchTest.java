@@ -0,0 +1,145 @@
+package com.elice.ustory.domain.image;
+
+import com.elice.ustory.domain.diary.entity.Color;
+import com.elice.ustory.domain.diary.entity.Diary;
+import com.elice.ustory.domain.diary.entity.DiaryCategory;
+import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.user.entity.Users;
+import com.elice.ustory.global.config.JpaBatchConfig;
+import com.elice.ustory.global.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Paper 이미지 저장/수정이 JDBC 배치로 묶여 나가는지 Hibernate 통계의 문장 수로 확인한다.
+ *
+ * 배치로 보낸 문장은 같은 SQL 당 한 번만 prepare 되므로, prepare 횟수가 곧 DB 로 나간 문장 묶음 수다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaBatchConfig.class, QueryDslConfig.class})
+class ImageServiceBatchTest {
+
+    private static final int IMAGE_COUNT = 10;
+    private static final String IMAGE_URL_FORMAT = "https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/paper/%s-%d.png";
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    private ImageService imageService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        imageService = new ImageService(imageRepository);
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 이미지_생성은_INSERT_한_번의_배치로_나간다() {
+        Paper paper = savePaper();
+        statistics.clear();
+
+        imageService.createImages(images("before", IMAGE_COUNT), paper);
+        em.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(IMAGE_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 이미지_수정은_바뀐_이미지만_UPDATE_하고_추가분은_INSERT_배치로_나간다() {
+        Paper paper = savedPaperWithImages();
+        statistics.clear();
+
+        List<Image> newImages = images("before", IMAGE_COUNT + 2);
+        for (int index : new int[]{0, 4, 8}) {
+            newImages.set(index, new Image(String.format(IMAGE_URL_FORMAT, "after", index), index + 1));
+        }
+
+        imageService.updateImages(paper, newImages);
+        em.flush();
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(3);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        // UPDATE 배치 1 + INSERT 배치 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 줄어든_이미지는_DELETE_한_번의_배치로_나간다() {
+        Paper paper = savedPaperWithImages();
+        statistics.clear();
+
+        imageService.updateImages(paper, images("before", IMAGE_COUNT - 4));
+        em.flush();
+
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(4);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /** 이미지를 저장한 Paper 를 영속성 컨텍스트를 비운 뒤 다시 읽어, 이미지까지 불러 둔 상태로 반환한다. */
+    private Paper savedPaperWithImages() {
+        Paper paper = savePaper();
+        imageService.createImages(images("before", IMAGE_COUNT), paper);
+        em.flush();
+        em.clear();
+
+        Paper savedPaper = em.find(Paper.class, paper.getId());
+        assertThat(savedPaper.getImages()).hasSize(IMAGE_COUNT);
+        return savedPaper;
+    }
+
+    private Paper savePaper() {
+        Users writer = Users.addUserBuilder()
+                .email("batch@ustory.com")
+                .loginType(Users.LoginType.BASIC)
+                .name("유스토리")
+                .nickname("유스토리")
+                .password("password")
+                .profileImgUrl("")
+                .profileDescription("자기소개")
+                .build();
+        em.persist(writer);
+
+        Diary diary = new Diary("배치 다이어리", "https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/diary/cover.png",
+                DiaryCategory.INDIVIDUAL, "배치 테스트용 다이어리", Color.RED);
+        em.persist(diary);
+
+        Paper paper = Paper.createBuilder()
+                .title("성수동 카페 투어")
+                .thumbnailImageUrl("https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/paper/thumbnail.jpg")
+                .visitedAt(LocalDate.of(2024, 5, 23))
+                .build();
+        paper.addWriter(writer);
+        paper.addDiary(diary);
+        em.persist(paper);
+        em.flush();
+
+        return paper;
+    }
+
+    private static List<Image> images(String prefix, int count) {
+        List<Image> images = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            images.add(new Image(String.format(IMAGE_URL_FORMAT, prefix, i), i + 1));
+        }
+        return images;
+    }
+}
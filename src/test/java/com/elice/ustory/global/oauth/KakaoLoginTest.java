@@ -0,0 +1,182 @@
+package com.elice.ustory.global.oauth;
+
+import com.elice.ustory.domain.user.dto.LoginResponse;
+import com.elice.ustory.domain.user.service.UserService;
+import com.elice.ustory.global.exception.model.InternalServerException;
+import com.elice.ustory.global.exception.model.UnauthorizedException;
+import com.elice.ustory.global.oauth.kakao.KakaoController;
+import com.elice.ustory.global.oauth.kakao.KakaoOauth;
+import com.elice.ustory.global.oauth.kakao.KakaoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 HTTP 서버를 카카오 API 로 사용해서 소셜 로그인 흐름을 확인한다.
+ */
+class KakaoLoginTest {
+
+    private static final String JSON = "application/json";
+
+    private HttpServer server;
+    private OAuthHttpClient oAuthHttpClient;
+    private OAuthLoginExecutor oAuthLoginExecutor;
+    private KakaoOauth kakaoOauth;
+    private UserService userService;
+    private KakaoService kakaoService;
+    private KakaoController kakaoController;
+
+    private volatile int tokenStatus;
+    private volatile String tokenBody;
+    private volatile String tokenContentType;
+    private final List<String> userInfoAuthorizations = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tokenContentType = JSON;
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/oauth/token", exchange -> respond(exchange, tokenStatus, tokenContentType, tokenBody));
+        server.createContext("/v2/user/me", exchange -> {
+            userInfoAuthorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+            respond(exchange, 200, JSON, "{\"id\":1234,\"properties\":{\"nickname\":\"유스토리\"}}");
+        });
+        server.start();
+
+        String baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        oAuthHttpClient = new OAuthHttpClient(new ObjectMapper(), 1000, 2000, 2, false);
+        oAuthLoginExecutor = new OAuthLoginExecutor(2, false);
+
+        kakaoOauth = new KakaoOauth(oAuthHttpClient);
+        ReflectionTestUtils.setField(kakaoOauth, "kakaoApiKey", "test-key");
+        ReflectionTestUtils.setField(kakaoOauth, "kakaoLoginRedirectUri", "http://localhost/callback");
+        ReflectionTestUtils.setField(kakaoOauth, "kakaoTokenUri", baseUri + "/oauth/token");
+        ReflectionTestUtils.setField(kakaoOauth, "userInfoUri", baseUri + "/v2/user/me");
+
+        userService = mock(UserService.class);
+        kakaoService = mock(KakaoService.class);
+        kakaoController = new KakaoController(kakaoOauth, userService, kakaoService, oAuthLoginExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        ReflectionTestUtils.invokeMethod(oAuthHttpClient, "shutdown");
+        ReflectionTestUtils.invokeMethod(oAuthLoginExecutor, "shutdown");
+    }
+
+    @Test
+    void 로그인_처리는_HTTP_응답_스레드가_아닌_로그인_Executor_에서_실행된다() throws Exception {
+        tokenStatus = 200;
+        tokenBody = "{\"access_token\":\"kakao-token\",\"token_type\":\"bearer\"}";
+
+        AtomicReference<String> loginThread = new AtomicReference<>();
+        when(userService.checkExistByEmail("1234@ustory.com")).thenReturn(true);
+        when(kakaoService.kakaoLogin(eq("1234"), eq("kakao-token"))).thenAnswer(invocation -> {
+            loginThread.set(Thread.currentThread().getName());
+            return new LoginResponse("access", "refresh");
+        });
+
+        ResponseEntity<LoginResponse> result = kakaoController.kakaoLogin("code")
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getBody().getAccessToken()).isEqualTo("access");
+        assertThat(result.getHeaders().getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("access");
+        assertThat(userInfoAuthorizations).containsExactly("Bearer kakao-token");
+        assertThat(loginThread.get()).startsWith("oauth-login-");
+    }
+
+    @Test
+    void 토큰_응답에_access_token_이_없으면_인증_실패로_끝난다() {
+        tokenStatus = 200;
+        tokenBody = "{\"token_type\":\"bearer\"}";
+
+        CompletableFuture<ResponseEntity<LoginResponse>> result =
+                kakaoController.kakaoLogin("code");
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(UnauthorizedException.class);
+        assertThat(userInfoAuthorizations).isEmpty();
+        verify(kakaoService, never()).kakaoLogin(anyString(), anyString());
+    }
+
+    @Test
+    void 토큰_응답의_access_token_이_null_이면_인증_실패로_끝난다() {
+        tokenStatus = 200;
+        tokenBody = "{\"access_token\":null}";
+
+        assertThatThrownBy(() -> kakaoOauth.getKakaoAccessToken("code").get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void 제공자가_401_을_반환하면_인증_실패로_끝난다() {
+        tokenStatus = 401;
+        tokenBody = "{\"error\":\"invalid_grant\"}";
+
+        assertThatThrownBy(() -> kakaoOauth.getKakaoAccessToken("code").get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(UnauthorizedException.class);
+        assertThat(userInfoAuthorizations).isEmpty();
+    }
+
+    @Test
+    void 제공자가_JSON_이_아닌_403_을_반환해도_인증_실패로_끝난다() {
+        tokenStatus = 403;
+        tokenContentType = "text/html;charset=utf-8";
+        tokenBody = "<html><body>Forbidden</body></html>";
+
+        assertThatThrownBy(() -> kakaoOauth.getKakaoAccessToken("code").get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void 제공자가_JSON_이_아닌_503_을_반환하면_서버_오류로_끝난다() {
+        tokenStatus = 503;
+        tokenContentType = "text/html";
+        tokenBody = "<html><body>Service Unavailable</body></html>";
+
+        assertThatThrownBy(() -> kakaoOauth.getKakaoAccessToken("code").get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(InternalServerException.class);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
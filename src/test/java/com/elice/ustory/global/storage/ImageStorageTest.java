@@ -0,0 +1,37 @@
+package com.elice.ustory.global.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이미지 URL 의 출처가 버킷 주소일 때만 저장소 키로 바꾸는지 확인한다.
+ */
+class ImageStorageTest {
+
+    private static final Set<String> ALLOWED_ORIGINS = Set.of(
+            "https://ustory-bucket.s3.ap-northeast-2.amazonaws.com",
+            "https://cdn.ustory.com"
+    );
+
+    @Test
+    void 버킷_주소의_URL_은_경로를_키로_쓴다() {
+        assertThat(ImageStorage.keyOf("https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/paper/1.png", ALLOWED_ORIGINS))
+                .contains("paper/1.png");
+        assertThat(ImageStorage.keyOf("HTTPS://CDN.ustory.com:443/paper/1.png", ALLOWED_ORIGINS))
+                .contains("paper/1.png");
+    }
+
+    @Test
+    void 다른_호스트의_URL_은_열지_않는다() {
+        assertThat(ImageStorage.keyOf("https://attacker.example.com/paper/other-user.png", ALLOWED_ORIGINS)).isEmpty();
+        assertThat(ImageStorage.keyOf("https://ustory-bucket.s3.ap-northeast-2.amazonaws.com.attacker.com/paper/1.png", ALLOWED_ORIGINS)).isEmpty();
+        assertThat(ImageStorage.keyOf("http://cdn.ustory.com/paper/1.png", ALLOWED_ORIGINS)).isEmpty();
+        assertThat(ImageStorage.keyOf("https://cdn.ustory.com:8443/paper/1.png", ALLOWED_ORIGINS)).isEmpty();
+        assertThat(ImageStorage.keyOf("https://user@cdn.ustory.com/paper/1.png", ALLOWED_ORIGINS)).isEmpty();
+        assertThat(ImageStorage.keyOf("/paper/1.png", ALLOWED_ORIGINS)).isEmpty();
+        assertThat(ImageStorage.keyOf("https://cdn.ustory.com/", ALLOWED_ORIGINS)).isEmpty();
+    }
+}